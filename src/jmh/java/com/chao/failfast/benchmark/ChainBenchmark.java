@@ -0,0 +1,138 @@
+package com.chao.failfast.benchmark;
+
+import com.chao.failfast.Failure;
+import com.chao.failfast.internal.Business;
+import com.chao.failfast.internal.core.ResponseCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 链式校验基准测试
+ * 覆盖快速/严格两种模式下的通过与失败路径，以及 ResponseCode 直传与 ViolationSpec 两种写法
+ * <p>
+ * 运行方式：{@code mvn -Pjmh test-compile exec:exec -Djmh.args="ChainBenchmark -prof gc"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChainBenchmark {
+
+    private static final ResponseCode CODE = ResponseCode.of(40001, "参数错误");
+
+    private final String name = "chao";
+    private final String email = "chao@example.com";
+    private final Integer age = 18;
+    private final List<String> tags = List.of("java", "spring");
+
+    private final String badName = " ";
+    private final String badEmail = "chao#example";
+    private final Integer badAge = -1;
+    private final List<String> badTags = List.of();
+
+    // ========== 通过路径 ==========
+
+    @Benchmark
+    public boolean passFast() {
+        return Failure.begin()
+                .notBlank(name, CODE)
+                .email(email, CODE)
+                .positive(age, CODE)
+                .notEmpty(tags, CODE)
+                .isValid();
+    }
+
+    @Benchmark
+    public boolean passStrict() {
+        return Failure.strict()
+                .notBlank(name, CODE)
+                .email(email, CODE)
+                .positive(age, CODE)
+                .notEmpty(tags, CODE)
+                .isValid();
+    }
+
+    @Benchmark
+    public boolean passFastWithSpec() {
+        return Failure.begin()
+                .notBlank(name, s -> s.responseCode(CODE))
+                .email(email, s -> s.responseCode(CODE))
+                .positive(age, s -> s.responseCode(CODE))
+                .notEmpty(tags, s -> s.responseCode(CODE))
+                .isValid();
+    }
+
+    // ========== 失败路径（不抛出） ==========
+
+    @Benchmark
+    public boolean failFast() {
+        return Failure.begin()
+                .notBlank(badName, CODE)
+                .email(badEmail, CODE)
+                .positive(badAge, CODE)
+                .notEmpty(badTags, CODE)
+                .isValid();
+    }
+
+    @Benchmark
+    public boolean failStrict() {
+        return Failure.strict()
+                .notBlank(badName, CODE)
+                .email(badEmail, CODE)
+                .positive(badAge, CODE)
+                .notEmpty(badTags, CODE)
+                .isValid();
+    }
+
+    @Benchmark
+    public boolean failStrictWithSpec() {
+        return Failure.strict()
+                .notBlank(badName, s -> s.responseCode(CODE).detail("name"))
+                .email(badEmail, s -> s.responseCode(CODE).detail("email"))
+                .positive(badAge, s -> s.responseCode(CODE).detail("age"))
+                .notEmpty(badTags, s -> s.responseCode(CODE).detail("tags"))
+                .isValid();
+    }
+
+    // ========== 终结操作 ==========
+
+    @Benchmark
+    public Business terminatorFail() {
+        try {
+            Failure.begin()
+                    .notBlank(badName, CODE)
+                    .email(badEmail, CODE)
+                    .fail();
+            return null;
+        } catch (Business e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Business terminatorFailAll() {
+        try {
+            Failure.strict()
+                    .notBlank(badName, CODE)
+                    .email(badEmail, CODE)
+                    .positive(badAge, CODE)
+                    .notEmpty(badTags, CODE)
+                    .failAll();
+            return null;
+        } catch (Business e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.chao.failfast.benchmark;
+
+import com.chao.failfast.internal.check.CollectionChecks;
+import com.chao.failfast.internal.check.EnumChecks;
+import com.chao.failfast.internal.check.NumberChecks;
+import com.chao.failfast.internal.check.StringChecks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 校验谓词基准测试
+ * 直接测量 *Checks 静态方法，排除链式调用本身的开销
+ * <p>
+ * 运行方式：{@code mvn -Pjmh test-compile exec:exec -Djmh.args="ChecksBenchmark -prof gc"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChecksBenchmark {
+
+    private static final String CODE_REGEX = "^[A-Z]{2}\\d{6}$";
+    private static final Pattern CODE_PATTERN = Pattern.compile(CODE_REGEX);
+
+    public enum Status {ACTIVE, INACTIVE, PENDING, DELETED, ARCHIVED}
+
+    /**
+     * 集合校验数据，按规模参数化
+     */
+    @State(Scope.Benchmark)
+    public static class CollectionState {
+
+        @Param({"10", "1000", "100000"})
+        public int size;
+
+        List<Integer> numbers;
+
+        @Setup
+        public void setup() {
+            numbers = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                numbers.add(i);
+            }
+        }
+    }
+
+    private final String email = "chao.kyrie@example.com";
+    private final String uuid = "123e4567-e89b-12d3-a456-426614174000";
+    private final String ip = "192.168.100.254";
+    private final String code = "AB123456";
+    private final Integer boxed = 4096;
+    private final long primitive = 4096L;
+    private final BigDecimal amount = new BigDecimal("12345.67");
+
+    // ========== StringChecks ==========
+
+    @Benchmark
+    public boolean stringEmail() {
+        return StringChecks.email(email);
+    }
+
+    @Benchmark
+    public boolean stringUuid() {
+        return StringChecks.uuid(uuid);
+    }
+
+    @Benchmark
+    public boolean stringIpAddress() {
+        return StringChecks.ipAddress(ip);
+    }
+
+    @Benchmark
+    public boolean stringMatchRegex() {
+        return StringChecks.match(code, CODE_REGEX);
+    }
+
+    @Benchmark
+    public boolean stringMatchPattern() {
+        return StringChecks.match(code, CODE_PATTERN);
+    }
+
+    // ========== NumberChecks ==========
+
+    @Benchmark
+    public boolean numberPositiveBoxed() {
+        return NumberChecks.positive(boxed);
+    }
+
+    @Benchmark
+    public boolean numberPositivePrimitive() {
+        return NumberChecks.positive(primitive);
+    }
+
+    @Benchmark
+    public boolean numberInRangeBoxed() {
+        return NumberChecks.inRange(boxed, 0, 10000);
+    }
+
+    @Benchmark
+    public boolean numberInRangePrimitive() {
+        return NumberChecks.inRangeLong(primitive, 0, 10000);
+    }
+
+    @Benchmark
+    public boolean numberMultipleOf() {
+        return NumberChecks.multipleOf(boxed, 16);
+    }
+
+    @Benchmark
+    public boolean numberDecimalDigits() {
+        return NumberChecks.decimalDigits(amount, 8, 2);
+    }
+
+    // ========== CollectionChecks ==========
+
+    @Benchmark
+    public boolean collectionAllMatch(CollectionState state) {
+        return CollectionChecks.allMatch(state.numbers, n -> n >= 0);
+    }
+
+    @Benchmark
+    public boolean collectionHasNoNullElements(CollectionState state) {
+        return CollectionChecks.hasNoNullElements(state.numbers);
+    }
+
+    // ========== EnumChecks ==========
+
+    @Benchmark
+    public boolean enumValueHit() {
+        return EnumChecks.enumValue(Status.class, "ARCHIVED");
+    }
+
+    @Benchmark
+    public boolean enumValueMiss() {
+        return EnumChecks.enumValue(Status.class, "UNKNOWN");
+    }
+}
@@ -0,0 +1,178 @@
+package com.chao.failfast.benchmark;
+
+import com.chao.failfast.advice.FailFastExceptionHandler;
+import com.chao.failfast.config.CodeMappingConfig;
+import com.chao.failfast.internal.Business;
+import com.chao.failfast.internal.Ex;
+import com.chao.failfast.internal.FailureContext;
+import com.chao.failfast.internal.FailurePathProbe;
+import com.chao.failfast.internal.core.FailureProperties;
+import com.chao.failfast.internal.core.ResponseCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 失败路径基准测试
+ * 分阶段测量 Business 物化、调用栈捕获、HTTP 状态解析与响应体渲染，并给出端到端结果，
+ * 用于评估错误洪峰（如大量 4xx）下的 CPU 开销
+ * <p>
+ * 运行方式：{@code mvn -Pjmh test-compile exec:exec -Djmh.args="FailurePathBenchmark -prof gc"}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FailurePathBenchmark {
+
+    private static final ResponseCode CLIENT_ERROR = ResponseCode.of(40001, "参数错误", "用户名不能为空");
+    private static final ResponseCode SERVER_ERROR = ResponseCode.of(50001, "系统异常", "下游服务不可用");
+
+    /**
+     * 全局上下文：shadowTrace 开关与调用栈深度
+     * Ex 的上下文为静态字段，因此整个 trial 内共享
+     */
+    @State(Scope.Benchmark)
+    public static class TraceState {
+
+        @Param({"false", "true"})
+        public boolean shadowTrace;
+
+        /**
+         * 抛出点与业务代码之间需要被 StackWalker 跳过的帧数
+         */
+        @Param({"0", "16", "64"})
+        public int depth;
+
+        RenderingHandler handler;
+
+        @Setup
+        public void setup() {
+            FailureProperties properties = new FailureProperties();
+            properties.setShadowTrace(shadowTrace);
+            Ex.setContext(new FailureContext(properties, new CodeMappingConfig(properties)));
+            handler = new RenderingHandler();
+            handler.setFailFastProperties(properties);
+        }
+
+        @TearDown
+        public void tearDown() {
+            Ex.setContext(null);
+        }
+    }
+
+    /**
+     * HTTP 状态解析的输入码，覆盖各层匹配策略
+     */
+    @State(Scope.Benchmark)
+    public static class CodeState {
+
+        /**
+         * 404: 标准码；499: 非标准 HTTP 码（异常分支）；40400: 精确匹配；
+         * 40001: 范围匹配；46000: 大类匹配；60001: 兜底
+         */
+        @Param({"404", "499", "40400", "40001", "46000", "60001"})
+        public int code;
+
+        CodeMappingConfig codeMappingConfig;
+
+        @Setup
+        public void setup() {
+            codeMappingConfig = new CodeMappingConfig(new FailureProperties());
+        }
+    }
+
+    /**
+     * 预先物化的异常，用于单独测量响应体渲染
+     */
+    @State(Scope.Benchmark)
+    public static class Prebuilt {
+
+        Business business;
+
+        @Setup
+        public void setup(TraceState trace) {
+            // 依赖 TraceState 以确保上下文已就绪
+            business = Business.of(CLIENT_ERROR);
+        }
+    }
+
+    /**
+     * 暴露 buildResponse 的异常处理器
+     */
+    static class RenderingHandler extends FailFastExceptionHandler {
+        ResponseEntity<?> render(Business e) {
+            return buildResponse(e);
+        }
+    }
+
+    // ========== 单阶段 ==========
+
+    @Benchmark
+    public HttpStatus resolveHttpStatus(CodeState state) {
+        return state.codeMappingConfig.resolveHttpStatus(state.code);
+    }
+
+    @Benchmark
+    public String captureMethodName(TraceState state) {
+        return FailurePathProbe.captureMethodName(state.depth);
+    }
+
+    @Benchmark
+    public String captureLocation(TraceState state) {
+        return FailurePathProbe.captureLocation(state.depth);
+    }
+
+    @Benchmark
+    public Business constructClientError(TraceState state) {
+        return FailurePathProbe.construct(state.depth, CLIENT_ERROR, HttpStatus.BAD_REQUEST);
+    }
+
+    @Benchmark
+    public Business constructServerError(TraceState state) {
+        return FailurePathProbe.construct(state.depth, SERVER_ERROR, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    @Benchmark
+    public Business materializeClientError(TraceState state) {
+        return FailurePathProbe.materialize(state.depth, CLIENT_ERROR);
+    }
+
+    @Benchmark
+    public Business materializeServerError(TraceState state) {
+        return FailurePathProbe.materialize(state.depth, SERVER_ERROR);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> buildResponse(TraceState state, Prebuilt prebuilt) {
+        return state.handler.render(prebuilt.business);
+    }
+
+    // ========== 端到端 ==========
+
+    @Benchmark
+    public ResponseEntity<?> endToEndClientError(TraceState state) {
+        Business e = FailurePathProbe.materialize(state.depth, CLIENT_ERROR);
+        return state.handler.render(e);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> endToEndServerError(TraceState state) {
+        Business e = FailurePathProbe.materialize(state.depth, SERVER_ERROR);
+        return state.handler.render(e);
+    }
+}
@@ -0,0 +1,45 @@
+package com.chao.failfast.internal;
+
+import com.chao.failfast.internal.core.ResponseCode;
+import org.springframework.http.HttpStatus;
+
+import java.util.function.Supplier;
+
+/**
+ * 失败路径探针 - 仅供基准测试使用
+ * 将包级私有的失败路径阶段暴露给 benchmark 包，便于逐阶段测量
+ * <p>
+ * 本类位于 StackWalker 跳过的包中，depth 参数产生的额外调用帧
+ * 模拟 AOP 代理、框架调用等位于抛出点与业务代码之间、需要被过滤的中间层
+ */
+public final class FailurePathProbe {
+
+    private FailurePathProbe() {
+    }
+
+    public static String captureMethodName(int depth) {
+        return descend(depth, Ex::captureMethodName);
+    }
+
+    public static String captureLocation(int depth) {
+        return descend(depth, Ex::captureLocation);
+    }
+
+    /**
+     * 仅执行 Business 构造（含 shouldFillStackTrace 判断与可能的 fillInStackTrace）
+     */
+    public static Business construct(int depth, ResponseCode code, HttpStatus status) {
+        return descend(depth, () -> new Business(code, code.getDescription(), null, null, status));
+    }
+
+    /**
+     * 完整物化：默认值处理、方法与位置捕获、HTTP 状态解析及构造
+     */
+    public static Business materialize(int depth, ResponseCode code) {
+        return descend(depth, () -> Business.of(code));
+    }
+
+    private static <T> T descend(int depth, Supplier<T> action) {
+        return depth <= 0 ? action.get() : descend(depth - 1, action);
+    }
+}
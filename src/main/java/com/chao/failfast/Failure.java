@@ -2,6 +2,7 @@ package com.chao.failfast;
 
 import com.chao.failfast.annotation.FastValidator.ValidationContext;
 import com.chao.failfast.internal.Chain;
+import com.chao.failfast.internal.plan.ValidationPlan;
 
 /**
  * Fail-Fast 静态入口类 - 链式验证API
@@ -42,4 +43,16 @@ public final class Failure {
     public static Chain with(ValidationContext context) {
         return Chain.begin(context);
     }
+
+    /**
+     * 开始声明一个可复用的验证计划
+     * 计划构建后不可变且线程安全，可在多个线程中反复执行
+     *
+     * @param type 被校验对象类型
+     * @param <T>  被校验对象类型
+     * @return 计划构建器
+     */
+    public static <T> ValidationPlan.Builder<T> plan(Class<T> type) {
+        return ValidationPlan.builder(type);
+    }
 }
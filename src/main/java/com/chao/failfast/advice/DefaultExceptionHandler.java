@@ -3,6 +3,7 @@ package com.chao.failfast.advice;
 import com.chao.failfast.constant.FailureConst;
 import com.chao.failfast.internal.Business;
 import com.chao.failfast.internal.MultiBusiness;
+import com.chao.failfast.internal.core.ResponseCode;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -14,10 +15,6 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-import java.time.ZonedDateTime;
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * 默认异常处理器 - 增强版
  * 当用户没有自定义异常处理器时自动生效
@@ -29,6 +26,11 @@ import java.util.Map;
 @ConditionalOnMissingBean(FailFastExceptionHandler.class)
 public class DefaultExceptionHandler extends FailFastExceptionHandler {
 
+    /**
+     * 表单绑定失败的响应码
+     */
+    private static final ResponseCode BIND_ERROR = ResponseCode.of(FailureConst.SYSTEM_CODE, FailureConst.DEFAULT_MESSAGE);
+
     /**
      * 处理单个Business异常
      * 直接调用父类实现，保持统一处理逻辑
@@ -90,13 +92,8 @@ public class DefaultExceptionHandler extends FailFastExceptionHandler {
      */
     @ExceptionHandler(BindException.class)
     public ResponseEntity<?> handleBindException(BindException e) {
-        Map<String, Object> body = new HashMap<>();
-        body.put(FailureConst.FIELD_CODE, FailureConst.SYSTEM_CODE);
-        body.put(FailureConst.FIELD_MESSAGE, FailureConst.DEFAULT_MESSAGE);
         String description = e.getAllErrors().isEmpty() ? FailureConst.UNKNOWN_ERROR : e.getAllErrors().get(0).getDefaultMessage();
-        body.put(FailureConst.FIELD_DESCRIPTION, description);
-        String format = ZonedDateTime.now(FailureConst.CST).format(FailureConst.DEFAULT_DATETIME_FORMATTER);
-        body.put(FailureConst.FIELD_TIMESTAMP, format);
+        FailureBody body = FailureBody.of(BIND_ERROR, description, timestamp());
         return ResponseEntity.badRequest().body(body);
     }
 }
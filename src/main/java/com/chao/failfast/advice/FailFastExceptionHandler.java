@@ -5,6 +5,7 @@ import com.chao.failfast.annotation.Validate;
 import com.chao.failfast.constant.FailureConst;
 import com.chao.failfast.internal.Business;
 import com.chao.failfast.internal.MultiBusiness;
+import com.chao.failfast.internal.core.FailureClock;
 import com.chao.failfast.internal.core.FailureProperties;
 import com.chao.failfast.internal.core.ResponseCode;
 import jakarta.validation.ConstraintViolation;
@@ -19,11 +20,8 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
-import java.time.ZonedDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * 抽象异常处理器 - 可扩展的基础类
@@ -45,6 +43,28 @@ public abstract class FailFastExceptionHandler {
         this.properties = properties;
     }
 
+    /**
+     * 失败日志策略
+     * 未注入时在首次记录日志时按配置属性创建
+     */
+    private volatile FailureLogPolicy logPolicy;
+
+    @Autowired(required = false)
+    public void setFailureLogPolicy(FailureLogPolicy logPolicy) {
+        this.logPolicy = logPolicy;
+    }
+
+    /**
+     * 响应时间戳时钟
+     * 未注入时使用共享实例
+     */
+    private FailureClock clock;
+
+    @Autowired(required = false)
+    public void setFailureClock(FailureClock clock) {
+        this.clock = clock;
+    }
+
 
     /**
      * 处理单个Business异常的入口方法
@@ -155,8 +175,7 @@ public abstract class FailFastExceptionHandler {
      * @return ResponseEntity响应对象
      */
     protected ResponseEntity<?> buildResponse(Business e) {
-        Map<String, Object> body = buildMap(e);
-        return ResponseEntity.status(e.getHttpStatus()).body(body);
+        return ResponseEntity.status(e.getHttpStatus()).body(FailureBody.of(e, timestamp()));
     }
 
     /**
@@ -167,23 +186,18 @@ public abstract class FailFastExceptionHandler {
      * @return ResponseEntity响应对象
      */
     protected ResponseEntity<?> buildMultiErrorResponse(MultiBusiness e) {
-        Map<String, Object> body = buildMap(e);
-        // 只有开启verbose模式才返回errors详情
-        if (properties != null && properties.isVerbose()) {
-            body.put(FailureConst.FIELD_ERRORS, e.getErrors().stream()
-                    .map(err -> {
-                        Map<String, String> item = new HashMap<>(2);
-                        item.put(FailureConst.FIELD_MESSAGE, err.getMessage());
-                        item.put(FailureConst.FIELD_DESCRIPTION, err.getResponseCode().getDescription());
-                        item.put(FailureConst.FIELD_DETAIL, err.getDetail());
-                        return item;
-                    })
-                    .toList()
-            );
-        }
-        // 将所有错误简要拼接到 description 中，以便前端展示
-        body.put(FailureConst.FIELD_DESCRIPTION, "共 " + e.getErrors().size() + " 项错误");
-        return ResponseEntity.status(e.getHttpStatus()).body(body);
+        // 只有开启verbose模式才返回errors详情，description 为错误数量汇总，以便前端展示
+        boolean verbose = properties != null && properties.isVerbose();
+        return ResponseEntity.status(e.getHttpStatus()).body(FailureBody.multi(e, verbose, timestamp()));
+    }
+
+    /**
+     * 获取响应时间戳，同一秒内复用格式化结果
+     *
+     * @return 格式化后的当前时间
+     */
+    protected String timestamp() {
+        return (clock != null ? clock : FailureClock.shared()).now();
     }
 
     /**
@@ -214,21 +228,24 @@ public abstract class FailFastExceptionHandler {
 
     /**
      * 记录异常日志的通用方法
-     * 根据异常类型决定日志记录格式
+     * 级别、去重与限流由 {@link FailureLogPolicy} 决定，批量异常按每个子错误分别判定
      *
      * @param e 要记录的Business异常对象
      */
     protected void logException(Business e) {
-        if (e instanceof MultiBusiness m) {
-            // 批量异常：记录错误数量和每个具体错误
-            log.error("Multi Failure: {} errors", m.getErrors().size());
-            for (int i = 0; i < m.getErrors().size(); i++) {
-                log.error("{}. {}", i + 1, m.getErrors().get(i).toString());
-            }
-        } else {
-            // 单个异常：直接记录异常信息
-            log.error("Failure :{}", e.toString());
+        logPolicy().log(log, e);
+    }
+
+    /**
+     * 获取日志策略，未注入时按配置属性创建
+     */
+    private FailureLogPolicy logPolicy() {
+        FailureLogPolicy policy = logPolicy;
+        if (policy == null) {
+            FailureProperties.Logging logging = properties != null ? properties.getLogging() : new FailureProperties.Logging();
+            policy = logPolicy = new FailureLogPolicy(logging, null);
         }
+        return policy;
     }
 
     /**
@@ -319,21 +336,4 @@ public abstract class FailFastExceptionHandler {
         }
         return true;
     }
-
-
-    /**
-     * 构建包含业务响应信息的Map对象
-     *
-     * @param e 业务对象，包含响应代码、消息和详细信息
-     * @return 包含响应代码、消息、详细信息和时间戳的Map对象
-     */
-    private Map<String, Object> buildMap(Business e) {
-        Map<String, Object> body = new HashMap<>();
-        body.put(FailureConst.FIELD_CODE, e.getResponseCode().getCode());
-        body.put(FailureConst.FIELD_MESSAGE, e.getResponseCode().getMessage());
-        body.put(FailureConst.FIELD_DESCRIPTION, e.getDetail());
-        String format = ZonedDateTime.now(FailureConst.CST).format(FailureConst.DEFAULT_DATETIME_FORMATTER);
-        body.put(FailureConst.FIELD_TIMESTAMP, format);
-        return body;
-    }
 }
@@ -0,0 +1,121 @@
+package com.chao.failfast.advice;
+
+import com.chao.failfast.constant.FailureConst;
+import com.chao.failfast.internal.Business;
+import com.chao.failfast.internal.MultiBusiness;
+import com.chao.failfast.internal.core.ResponseCode;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 错误响应体 - 异常处理器返回的不可变响应数据
+ * <p>
+ * 正常请求由 {@link FailureBodyHttpMessageConverter} 直接写出 JSON 字节，不经过 Map 与反射序列化；
+ * 同时实现只读 Map 视图（code / message / description / timestamp / errors），
+ * 在其他消息转换器或测试中按 Map 使用时才按需构建条目。
+ */
+public final class FailureBody extends AbstractMap<String, Object> {
+
+    private final ResponseCode responseCode;
+    private final String description;
+    private final String timestamp;
+
+    /**
+     * 批量错误明细，非 verbose 模式下为 null
+     */
+    private final List<Business> errors;
+
+    /**
+     * 按需构建的 Map 视图
+     */
+    private volatile Set<Entry<String, Object>> entries;
+
+    private FailureBody(ResponseCode responseCode, String description, String timestamp, List<Business> errors) {
+        this.responseCode = responseCode;
+        this.description = description;
+        this.timestamp = timestamp;
+        this.errors = errors;
+    }
+
+    /**
+     * 构建单个异常的响应体
+     *
+     * @param e         业务异常
+     * @param timestamp 格式化后的时间戳
+     */
+    public static FailureBody of(Business e, String timestamp) {
+        return new FailureBody(e.getResponseCode(), e.getDetail(), timestamp, null);
+    }
+
+    /**
+     * 构建指定响应码与描述的响应体
+     *
+     * @param responseCode 响应码
+     * @param description  描述
+     * @param timestamp    格式化后的时间戳
+     */
+    public static FailureBody of(ResponseCode responseCode, String description, String timestamp) {
+        return new FailureBody(responseCode, description, timestamp, null);
+    }
+
+    /**
+     * 构建批量异常的响应体，描述为错误数量汇总
+     *
+     * @param e         批量业务异常
+     * @param verbose   是否附带每个错误的明细
+     * @param timestamp 格式化后的时间戳
+     */
+    public static FailureBody multi(MultiBusiness e, boolean verbose, String timestamp) {
+        String description = "共 " + e.getErrors().size() + " 项错误";
+        return new FailureBody(e.getResponseCode(), description, timestamp, verbose ? e.getErrors() : null);
+    }
+
+    public ResponseCode getResponseCode() {
+        return responseCode;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * 批量错误明细，未附带时为 null
+     */
+    public List<Business> getErrors() {
+        return errors;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        Set<Entry<String, Object>> view = entries;
+        if (view == null) {
+            Map<String, Object> map = new LinkedHashMap<>(8);
+            map.put(FailureConst.FIELD_CODE, responseCode.getCode());
+            map.put(FailureConst.FIELD_MESSAGE, responseCode.getMessage());
+            map.put(FailureConst.FIELD_DESCRIPTION, description);
+            map.put(FailureConst.FIELD_TIMESTAMP, timestamp);
+            if (errors != null) {
+                map.put(FailureConst.FIELD_ERRORS, errors.stream().map(FailureBody::toItem).toList());
+            }
+            view = entries = Collections.unmodifiableMap(map).entrySet();
+        }
+        return view;
+    }
+
+    private static Map<String, String> toItem(Business err) {
+        Map<String, String> item = new LinkedHashMap<>(4);
+        item.put(FailureConst.FIELD_MESSAGE, err.getMessage());
+        item.put(FailureConst.FIELD_DESCRIPTION, err.getResponseCode().getDescription());
+        item.put(FailureConst.FIELD_DETAIL, err.getDetail());
+        return item;
+    }
+}
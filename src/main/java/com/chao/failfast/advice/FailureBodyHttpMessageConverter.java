@@ -0,0 +1,51 @@
+package com.chao.failfast.advice;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * 错误响应体消息转换器 - 使用 {@link FailureBodyWriter} 直接写出 {@link FailureBody}
+ * <p>
+ * 需注册在 Jackson 转换器之前（自动配置已处理），只负责写出，不支持读取。
+ * 写出前先完成编码，因此可以设置准确的 Content-Length；与 Jackson 一致，Content-Type 不附带 charset（JSON 固定为 UTF-8）。
+ */
+public class FailureBodyHttpMessageConverter extends AbstractHttpMessageConverter<FailureBody> {
+
+    private final FailureBodyWriter writer;
+
+    public FailureBodyHttpMessageConverter() {
+        this(new FailureBodyWriter());
+    }
+
+    public FailureBodyHttpMessageConverter(FailureBodyWriter writer) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.writer = writer;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return FailureBody.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected FailureBody readInternal(Class<? extends FailureBody> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("FailureBody 仅用于写出", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(FailureBody body, HttpOutputMessage outputMessage) throws IOException {
+        FailureBodyWriter.Buffer encoded = writer.encode(body);
+        outputMessage.getHeaders().setContentLength(encoded.size());
+        encoded.writeTo(outputMessage.getBody());
+    }
+}
@@ -0,0 +1,260 @@
+package com.chao.failfast.advice;
+
+import com.chao.failfast.constant.FailureConst;
+import com.chao.failfast.internal.Business;
+import com.chao.failfast.internal.core.ResponseCode;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * 错误响应体 JSON 写出器 - 直接将 {@link FailureBody} 编码为 UTF-8 字节
+ * <p>
+ * 每个响应码的静态部分（{@code {"code":..,"message":".."}）首次使用时按 code 与 message 编码并缓存，
+ * 之后只需拷贝字节；description、detail 等动态字段逐字符转义并编码，不产生中间字符串。
+ * 转义规则与 Jackson 写出字节（{@code ObjectMapper#writeValueAsBytes}）时一致：控制字符使用大写十六进制，
+ * 代理项（含成对的代理对与孤立代理项）逐个写为 Unicode 转义序列。
+ * 缓存条目数有上限，超出后淘汰最久未使用的条目，避免动态创建的响应码导致内存增长或挤占常用响应码。
+ */
+public final class FailureBodyWriter {
+
+    /**
+     * 缓存的响应码数量上限
+     */
+    static final int MAX_CACHED_CODES = 1024;
+
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] DESCRIPTION = fieldPrefix(FailureConst.FIELD_DESCRIPTION);
+    private static final byte[] TIMESTAMP = fieldPrefix(FailureConst.FIELD_TIMESTAMP);
+    private static final byte[] ERRORS = fieldPrefix(FailureConst.FIELD_ERRORS);
+    private static final byte[] ITEM_MESSAGE = ("{\"" + FailureConst.FIELD_MESSAGE + "\":").getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ITEM_DETAIL = fieldPrefix(FailureConst.FIELD_DETAIL);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * (code, message) → 已编码的 {"code":..,"message":".." 前缀
+     * 访问顺序的 LinkedHashMap 实现 LRU，受自身保护
+     */
+    private final LinkedHashMap<PrefixKey, byte[]> prefixes = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * 将响应体编码为 JSON
+     *
+     * @param body 响应体
+     * @return 编码后的缓冲区，有效长度为 {@link Buffer#size()}
+     */
+    public Buffer encode(FailureBody body) {
+        Buffer out = new Buffer(256);
+        out.append(prefix(body.getResponseCode()));
+        out.append(DESCRIPTION);
+        out.appendString(body.getDescription());
+        out.append(TIMESTAMP);
+        out.appendString(body.getTimestamp());
+        List<Business> errors = body.getErrors();
+        if (errors != null) {
+            out.append(ERRORS);
+            out.append('[');
+            for (int i = 0; i < errors.size(); i++) {
+                if (i > 0) out.append(',');
+                Business err = errors.get(i);
+                out.append(ITEM_MESSAGE);
+                out.appendString(err.getMessage());
+                out.append(DESCRIPTION);
+                out.appendString(err.getResponseCode().getDescription());
+                out.append(ITEM_DETAIL);
+                out.appendString(err.getDetail());
+                out.append('}');
+            }
+            out.append(']');
+        }
+        out.append('}');
+        return out;
+    }
+
+    /**
+     * 将响应体编码并写入输出流
+     */
+    public void write(FailureBody body, OutputStream stream) throws IOException {
+        encode(body).writeTo(stream);
+    }
+
+    /**
+     * 获取响应码的已编码前缀，未命中时编码并缓存，超出上限时淘汰最久未使用的条目
+     */
+    private byte[] prefix(ResponseCode code) {
+        PrefixKey key = new PrefixKey(code.getCode(), code.getMessage());
+        byte[] cached;
+        synchronized (prefixes) {
+            cached = prefixes.get(key);
+        }
+        if (cached != null) return cached;
+        Buffer buf = new Buffer(64);
+        buf.append(("{\"" + FailureConst.FIELD_CODE + "\":" + key.code() + ",\"" + FailureConst.FIELD_MESSAGE + "\":").getBytes(StandardCharsets.US_ASCII));
+        buf.appendString(key.message());
+        byte[] encoded = buf.toByteArray();
+        synchronized (prefixes) {
+            prefixes.put(key, encoded);
+            Iterator<PrefixKey> it = prefixes.keySet().iterator();
+            while (prefixes.size() > MAX_CACHED_CODES && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+        return encoded;
+    }
+
+    /**
+     * 当前缓存的前缀数量
+     */
+    int cachedCodes() {
+        synchronized (prefixes) {
+            return prefixes.size();
+        }
+    }
+
+    /**
+     * 响应码的前缀是否已缓存
+     */
+    boolean isCached(ResponseCode code) {
+        synchronized (prefixes) {
+            return prefixes.containsKey(new PrefixKey(code.getCode(), code.getMessage()));
+        }
+    }
+
+    private static byte[] fieldPrefix(String name) {
+        return (",\"" + name + "\":").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 前缀缓存键：编码结果只取决于 code 与 message，与 description 无关
+     */
+    private record PrefixKey(int code, String message) {
+    }
+
+    /**
+     * 可增长的字节缓冲区，负责 JSON 字符串转义与 UTF-8 编码
+     */
+    public static final class Buffer {
+
+        private byte[] bytes;
+        private int size;
+
+        Buffer(int capacity) {
+            this.bytes = new byte[capacity];
+        }
+
+        /**
+         * 有效字节数
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * 写入输出流
+         */
+        public void writeTo(OutputStream stream) throws IOException {
+            stream.write(bytes, 0, size);
+        }
+
+        /**
+         * 复制出有效字节
+         */
+        public byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+
+        void append(byte[] src) {
+            ensure(src.length);
+            System.arraycopy(src, 0, bytes, size, src.length);
+            size += src.length;
+        }
+
+        void append(char ascii) {
+            ensure(1);
+            bytes[size++] = (byte) ascii;
+        }
+
+        /**
+         * 写入带引号的 JSON 字符串，null 写为 null
+         */
+        void appendString(String s) {
+            if (s == null) {
+                append(NULL);
+                return;
+            }
+            ensure(s.length() + 2);
+            bytes[size++] = '"';
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                // 非转义字符最多占 3 字节，转义在 appendControl / appendEscaped 中单独预留
+                ensure(3);
+                if (c < 0x80) {
+                    if (c == '"' || c == '\\') {
+                        bytes[size++] = '\\';
+                        bytes[size++] = (byte) c;
+                    } else if (c < 0x20) {
+                        appendControl(c);
+                    } else {
+                        bytes[size++] = (byte) c;
+                    }
+                } else if (c < 0x800) {
+                    bytes[size++] = (byte) (0xC0 | (c >> 6));
+                    bytes[size++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    // 与 Jackson 一致：代理项不合并为 4 字节 UTF-8，逐个转义，孤立代理项也因此得以保留
+                    appendEscaped(c);
+                } else {
+                    bytes[size++] = (byte) (0xE0 | (c >> 12));
+                    bytes[size++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    bytes[size++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+            ensure(1);
+            bytes[size++] = '"';
+        }
+
+        private void appendControl(char c) {
+            char escape = switch (c) {
+                case '\n' -> 'n';
+                case '\r' -> 'r';
+                case '\t' -> 't';
+                case '\b' -> 'b';
+                case '\f' -> 'f';
+                default -> 0;
+            };
+            if (escape == 0) {
+                appendEscaped(c);
+                return;
+            }
+            ensure(2);
+            bytes[size++] = '\\';
+            bytes[size++] = (byte) escape;
+        }
+
+        /**
+         * 写入四位大写十六进制的 Unicode 转义序列
+         */
+        private void appendEscaped(char c) {
+            ensure(6);
+            bytes[size++] = '\\';
+            bytes[size++] = 'u';
+            bytes[size++] = HEX[c >> 12];
+            bytes[size++] = HEX[(c >> 8) & 0xF];
+            bytes[size++] = HEX[(c >> 4) & 0xF];
+            bytes[size++] = HEX[c & 0xF];
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+            }
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.chao.failfast.advice;
+
+import com.chao.failfast.config.CodeMappingConfig;
+import com.chao.failfast.internal.Business;
+import com.chao.failfast.internal.MultiBusiness;
+import com.chao.failfast.internal.core.FailureProperties;
+import com.chao.failfast.internal.core.ResponseCode;
+import org.slf4j.Logger;
+import org.springframework.boot.logging.LogLevel;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 失败日志策略 - 决定异常处理器如何记录失败日志
+ * <p>
+ * <ul>
+ *     <li>级别：按错误码分组或HTTP状态系列（如 4xx）选择日志级别，未匹配时使用默认级别</li>
+ *     <li>去重限流：按"错误码 + 方法 + 位置"生成指纹，每个指纹在一个窗口内最多记录固定条数，
+ *     超出部分只计数；该指纹在后续窗口再次出现时，首条日志附带 "suppressed N similar" 汇总；
+ *     不再出现的指纹由记录日志时顺带执行的清理（每个窗口周期最多一次）移除，并单独输出其汇总</li>
+ *     <li>延迟格式化：日志级别未启用或被限流时不会调用 {@link Business#toString()}</li>
+ * </ul>
+ * 所有操作线程安全。
+ */
+public class FailureLogPolicy {
+
+    /**
+     * HTTP状态系列键，下标为状态码百位
+     */
+    private static final String[] SERIES = {"0xx", "1xx", "2xx", "3xx", "4xx", "5xx", "6xx", "7xx", "8xx", "9xx"};
+
+    /**
+     * 被限流时 acquire 的返回值
+     */
+    private static final long SUPPRESSED = -1;
+
+    /**
+     * 窗口已被清理移除时 {@link Window#acquire} 的返回值，调用方需重新获取窗口
+     */
+    private static final long RETIRED = -2;
+
+    private final FailureProperties.Logging config;
+
+    /**
+     * 错误码分组配置，为 null 时只按状态系列匹配
+     */
+    private final CodeMappingConfig codeMapping;
+
+    private final long windowNanos;
+
+    private final LongSupplier ticker;
+
+    /**
+     * 指纹 → 限流窗口
+     */
+    private final Map<Fingerprint, Window> windows = new ConcurrentHashMap<>();
+
+    /**
+     * 上次清理过期窗口的时间，每个窗口周期最多清理一次
+     */
+    private final AtomicLong lastPurge;
+
+    /**
+     * 累计被抑制的日志条数
+     */
+    private final LongAdder suppressed = new LongAdder();
+
+    /**
+     * 创建日志策略
+     *
+     * @param config      日志配置
+     * @param codeMapping 错误码分组配置，可为 null
+     */
+    public FailureLogPolicy(FailureProperties.Logging config, CodeMappingConfig codeMapping) {
+        this(config, codeMapping, System::nanoTime);
+    }
+
+    FailureLogPolicy(FailureProperties.Logging config, CodeMappingConfig codeMapping, LongSupplier ticker) {
+        this.config = config;
+        this.codeMapping = codeMapping;
+        this.windowNanos = config.getWindow() == null ? Long.MAX_VALUE : config.getWindow().toNanos();
+        this.ticker = ticker;
+        this.lastPurge = new AtomicLong(ticker.getAsLong());
+    }
+
+    /**
+     * 按策略记录失败日志
+     *
+     * @param logger 目标日志记录器
+     * @param e      业务异常，批量异常按每个子错误分别判定
+     */
+    public void log(Logger logger, Business e) {
+        if (e instanceof MultiBusiness m) {
+            logMulti(logger, m);
+            return;
+        }
+        LogLevel level = levelOf(e);
+        if (!isEnabled(logger, level)) return;
+        long previouslySuppressed = acquire(logger, level, e);
+        if (previouslySuppressed == SUPPRESSED) return;
+        if (previouslySuppressed == 0) {
+            write(logger, level, "Failure :{}", e.toString(), null);
+        } else {
+            write(logger, level, "Failure :{} (suppressed {} similar)", e.toString(), previouslySuppressed);
+        }
+    }
+
+    /**
+     * 解析异常对应的日志级别：错误码分组优先，其次为HTTP状态系列，最后为默认级别
+     *
+     * @param e 业务异常
+     * @return 日志级别
+     */
+    public LogLevel levelOf(Business e) {
+        Map<String, LogLevel> levels = config.getLevels();
+        if (levels != null && !levels.isEmpty()) {
+            ResponseCode code = e.getResponseCode();
+            if (codeMapping != null && code != null) {
+                for (String group : codeMapping.getGroupsOf(code.getCode())) {
+                    LogLevel level = levels.get(group);
+                    if (level != null) return level;
+                }
+            }
+            int series = e.getHttpStatus().value() / 100;
+            LogLevel level = series >= 0 && series < SERIES.length ? levels.get(SERIES[series]) : null;
+            if (level != null) return level;
+        }
+        return config.getDefaultLevel();
+    }
+
+    /**
+     * 累计被抑制的日志条数
+     */
+    public long getSuppressedCount() {
+        return suppressed.sum();
+    }
+
+    /**
+     * 批量异常：先判定每个子错误，至少有一条需要记录时才输出汇总行，汇总行使用其中最高的级别
+     */
+    private void logMulti(Logger logger, MultiBusiness m) {
+        List<Business> errors = m.getErrors();
+        LogLevel[] levels = new LogLevel[errors.size()];
+        long[] decisions = new long[errors.size()];
+        LogLevel highest = null;
+        for (int i = 0; i < errors.size(); i++) {
+            Business error = errors.get(i);
+            LogLevel level = levelOf(error);
+            if (!isEnabled(logger, level) || (decisions[i] = acquire(logger, level, error)) == SUPPRESSED) continue;
+            levels[i] = level;
+            if (highest == null || level.compareTo(highest) > 0) highest = level;
+        }
+        if (highest == null) return;
+        write(logger, highest, "Multi Failure: {} errors", errors.size(), null);
+        for (int i = 0; i < errors.size(); i++) {
+            if (levels[i] == null) continue;
+            if (decisions[i] == 0) {
+                write(logger, levels[i], "{}. {}", i + 1, errors.get(i).toString());
+            } else {
+                write(logger, levels[i], "{}. {} (suppressed " + decisions[i] + " similar)", i + 1, errors.get(i).toString());
+            }
+        }
+    }
+
+    /**
+     * 申请记录一条日志
+     *
+     * @return 被限流时返回 {@link #SUPPRESSED}，否则返回此前窗口中被抑制、尚未报告的条数
+     */
+    private long acquire(Logger logger, LogLevel level, Business e) {
+        int permits = config.getPermitsPerWindow();
+        if (permits <= 0) return 0;
+        ResponseCode code = e.getResponseCode();
+        Fingerprint fingerprint = new Fingerprint(code != null ? code.getCode() : 0, e.getMethod(), e.getLocation());
+        long now = ticker.getAsLong();
+        long result;
+        do {
+            Window window = windows.get(fingerprint);
+            if (window == null) {
+                if (windows.size() >= config.getMaxFingerprints()) {
+                    // 先清理已过期的窗口，仍然已满时不再跟踪新指纹
+                    purgeExpired(logger, now);
+                    if (windows.size() >= config.getMaxFingerprints()) return 0;
+                }
+                window = windows.computeIfAbsent(fingerprint, k -> new Window(now, level));
+            }
+            result = window.acquire(now, windowNanos, permits);
+        } while (result == RETIRED);
+        if (result == SUPPRESSED) suppressed.increment();
+        // 当前指纹已先行计数，其汇总随本条日志输出；其余不再出现的指纹在此清理并输出汇总
+        purgeExpired(logger, now);
+        return result;
+    }
+
+    /**
+     * 清理已过期的窗口，每个窗口周期最多执行一次，避免每条日志都遍历整张表；
+     * 被清理的窗口中尚未报告的抑制条数在清理时输出
+     */
+    private void purgeExpired(Logger logger, long now) {
+        long last = lastPurge.get();
+        if (now - last < windowNanos || !lastPurge.compareAndSet(last, now)) return;
+        Iterator<Map.Entry<Fingerprint, Window>> it = windows.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Fingerprint, Window> entry = it.next();
+            Window window = entry.getValue();
+            if (!window.isExpired(now, windowNanos)) continue;
+            it.remove();
+            long pending = window.drain();
+            if (pending > 0 && isEnabled(logger, window.level)) {
+                write(logger, window.level, "Failure :{} (suppressed {} similar)", entry.getKey(), pending);
+            }
+        }
+    }
+
+    private static boolean isEnabled(Logger logger, LogLevel level) {
+        return switch (level) {
+            case TRACE -> logger.isTraceEnabled();
+            case DEBUG -> logger.isDebugEnabled();
+            case INFO -> logger.isInfoEnabled();
+            case WARN -> logger.isWarnEnabled();
+            case ERROR, FATAL -> logger.isErrorEnabled();
+            case OFF -> false;
+        };
+    }
+
+    private static void write(Logger logger, LogLevel level, String format, Object arg1, Object arg2) {
+        switch (level) {
+            case TRACE -> logger.trace(format, arg1, arg2);
+            case DEBUG -> logger.debug(format, arg1, arg2);
+            case INFO -> logger.info(format, arg1, arg2);
+            case WARN -> logger.warn(format, arg1, arg2);
+            case ERROR, FATAL -> logger.error(format, arg1, arg2);
+            case OFF -> {
+            }
+        }
+    }
+
+    /**
+     * 日志指纹：错误码 + 方法 + 位置
+     */
+    private record Fingerprint(int code, String method, String location) {
+
+        @Override
+        public String toString() {
+            return "[" + method + "] {code=" + code + "} (" + location + ")";
+        }
+    }
+
+    /**
+     * 单个指纹的固定窗口计数器
+     */
+    private static final class Window {
+
+        /**
+         * 创建窗口时的日志级别，用于输出清理时尚未报告的抑制条数
+         */
+        private final LogLevel level;
+
+        private long start;
+        private int count;
+
+        /**
+         * 当前窗口内被抑制的条数
+         */
+        private long suppressed;
+
+        /**
+         * 此前窗口中被抑制、尚未报告的条数
+         */
+        private long unreported;
+
+        /**
+         * 已被清理移除，不再计数
+         */
+        private boolean retired;
+
+        Window(long start, LogLevel level) {
+            this.start = start;
+            this.level = level;
+        }
+
+        synchronized long acquire(long now, long windowNanos, int permits) {
+            if (retired) return RETIRED;
+            if (now - start >= windowNanos) {
+                start = now;
+                count = 0;
+                unreported += suppressed;
+                suppressed = 0;
+            }
+            if (count >= permits) {
+                suppressed++;
+                return SUPPRESSED;
+            }
+            count++;
+            long reported = unreported;
+            unreported = 0;
+            return reported;
+        }
+
+        synchronized boolean isExpired(long now, long windowNanos) {
+            return now - start >= windowNanos;
+        }
+
+        /**
+         * 标记为已移除，取出所有尚未报告的抑制条数并清零
+         */
+        synchronized long drain() {
+            retired = true;
+            long pending = unreported + suppressed;
+            unreported = 0;
+            suppressed = 0;
+            return pending;
+        }
+    }
+}
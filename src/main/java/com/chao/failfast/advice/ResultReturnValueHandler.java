@@ -0,0 +1,127 @@
+package com.chao.failfast.advice;
+
+import com.chao.failfast.internal.Business;
+import com.chao.failfast.internal.MultiBusiness;
+import com.chao.failfast.result.Result;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestResponseBodyMethodProcessor;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result 返回值处理器 - Controller 直接返回 {@code Result<T>} 时无需抛出异常
+ * <p>
+ * 包装 {@link RequestResponseBodyMethodProcessor}：返回值为 {@link Result.Fail} 时，
+ * 交给 {@link FailFastExceptionHandler} 记录日志并构建响应（状态码映射与响应体格式与异常路径完全一致），
+ * 再由原处理器通过消息转换器写出；其余返回值原样交给原处理器。
+ * 写出失败响应时返回值类型按 {@link FailureBody} 声明，ResponseBodyAdvice 等据此判断的组件看到的类型与实际响应体一致。
+ * 需通过 {@code fail-fast.result-handler=true} 启用。
+ * <pre>{@code
+ * @PostMapping("/users")
+ * public Result<User> create(@RequestBody UserDTO dto) {
+ *     return Failure.begin().notBlank(dto.getName(), NAME_REQUIRED).toResult(() -> userService.create(dto));
+ * }
+ * }</pre>
+ */
+public class ResultReturnValueHandler implements HandlerMethodReturnValueHandler {
+
+    private final HandlerMethodReturnValueHandler delegate;
+
+    private final FailFastExceptionHandler exceptionHandler;
+
+    /**
+     * 创建处理器
+     *
+     * @param delegate         被包装的 @ResponseBody 返回值处理器
+     * @param exceptionHandler 用于构建失败响应的异常处理器
+     */
+    public ResultReturnValueHandler(HandlerMethodReturnValueHandler delegate, FailFastExceptionHandler exceptionHandler) {
+        this.delegate = delegate;
+        this.exceptionHandler = exceptionHandler;
+    }
+
+    /**
+     * 将适配器中的 {@link RequestResponseBodyMethodProcessor} 替换为本处理器
+     * 重复安装时不会重复包装
+     *
+     * @param adapter          请求映射处理器适配器（需已完成初始化）
+     * @param exceptionHandler 用于构建失败响应的异常处理器
+     */
+    public static void install(RequestMappingHandlerAdapter adapter, FailFastExceptionHandler exceptionHandler) {
+        List<HandlerMethodReturnValueHandler> handlers = adapter.getReturnValueHandlers();
+        if (handlers == null) return;
+        List<HandlerMethodReturnValueHandler> wrapped = new ArrayList<>(handlers.size());
+        boolean changed = false;
+        for (HandlerMethodReturnValueHandler handler : handlers) {
+            if (handler instanceof RequestResponseBodyMethodProcessor) {
+                wrapped.add(new ResultReturnValueHandler(handler, exceptionHandler));
+                changed = true;
+            } else {
+                wrapped.add(handler);
+            }
+        }
+        if (changed) adapter.setReturnValueHandlers(wrapped);
+    }
+
+    @Override
+    public boolean supportsReturnType(MethodParameter returnType) {
+        return delegate.supportsReturnType(returnType);
+    }
+
+    @Override
+    public void handleReturnValue(Object returnValue, MethodParameter returnType,
+                                  ModelAndViewContainer mavContainer, NativeWebRequest webRequest) throws Exception {
+        if (!(returnValue instanceof Result.Fail<?> fail)) {
+            delegate.handleReturnValue(returnValue, returnType, mavContainer, webRequest);
+            return;
+        }
+        Business error = fail.getError();
+        ResponseEntity<?> entity = error instanceof MultiBusiness multi
+                ? exceptionHandler.handleMultiBusinessException(multi)
+                : exceptionHandler.handleBusinessException(error);
+        HttpServletResponse response = webRequest.getNativeResponse(HttpServletResponse.class);
+        if (response != null) {
+            response.setStatus(entity.getStatusCode().value());
+            entity.getHeaders().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        }
+        Object body = entity.getBody();
+        MethodParameter bodyType = body != null ? new BodyReturnType(returnType, body.getClass()) : returnType;
+        delegate.handleReturnValue(body, bodyType, mavContainer, webRequest);
+    }
+
+    /**
+     * 以实际响应体类型替换声明的 {@code Result<T>} 返回值类型，其余信息（方法、注解、所属类）保持不变
+     */
+    private static final class BodyReturnType extends MethodParameter {
+
+        private final Class<?> bodyType;
+
+        BodyReturnType(MethodParameter original, Class<?> bodyType) {
+            super(original);
+            this.bodyType = bodyType;
+        }
+
+        @Override
+        public Class<?> getParameterType() {
+            return bodyType;
+        }
+
+        @Override
+        public Type getGenericParameterType() {
+            return bodyType;
+        }
+
+        @Override
+        public BodyReturnType clone() {
+            return new BodyReturnType(this, bodyType);
+        }
+    }
+}
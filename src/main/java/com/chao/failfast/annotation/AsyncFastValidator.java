@@ -0,0 +1,43 @@
+package com.chao.failfast.annotation;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 异步验证器接口 - 适用于需要 I/O 的校验（存在性检查、配额查询等）
+ * 校验结果通过线程安全的 {@link FastValidator.ValidationContext} 报告，返回的 CompletionStage 完成即表示校验结束。
+ * <p>
+ * 在返回 CompletableFuture/DeferredResult 的方法上，切面以非阻塞方式组合各验证器的结果；
+ * 在普通同步方法上，则退化为阻塞等待。
+ *
+ * @param <T> 目标类型
+ */
+@FunctionalInterface
+public interface AsyncFastValidator<T> extends FastValidator<T> {
+
+    /**
+     * 异步验证方法
+     *
+     * @param target  需要验证的目标对象
+     * @param context 验证上下文，可在任意线程上报告错误
+     * @return 校验完成时完成的 CompletionStage，异常完成表示校验过程本身失败
+     */
+    CompletionStage<Void> validateAsync(T target, ValidationContext context);
+
+    /**
+     * 同步调用时阻塞等待异步校验完成
+     *
+     * @param target  需要验证的目标对象
+     * @param context 验证上下文
+     */
+    @Override
+    default void validate(T target, ValidationContext context) {
+        try {
+            validateAsync(target, context).toCompletableFuture().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error cause) throw cause;
+            throw e;
+        }
+    }
+}
@@ -1,13 +1,18 @@
 package com.chao.failfast.annotation;
 
 import com.chao.failfast.internal.Business;
+import com.chao.failfast.internal.MultiBusiness;
 import com.chao.failfast.internal.core.ResponseCode;
+import com.chao.failfast.result.Result;
+import com.chao.failfast.validator.BatchLoader;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 
 /**
  * 验证器接口 - 支持自定义验证逻辑
@@ -34,26 +39,67 @@ public interface FastValidator<T> {
         return Object.class;
     }
 
-    @RequiredArgsConstructor
+    /**
+     * 验证上下文 - 线程安全
+     * 并行校验时多个验证器可共享同一上下文，快速模式下第一个错误会使上下文停止，其余错误被忽略
+     */
     class ValidationContext {
         @Getter
         private final boolean fast;
-        private final List<Business> errors = new ArrayList<>();
+        private final List<Business> errors = new CopyOnWriteArrayList<>();
         @Getter
-        private boolean stopped;
+        private volatile boolean stopped;
+
+        /**
+         * 批量加载器作用域，同一次校验过程中的上下文共享
+         */
+        private final LoaderScope loaderScope;
+
+        public ValidationContext(boolean fast) {
+            this.fast = fast;
+            this.loaderScope = new LoaderScope();
+        }
+
+        /**
+         * 创建与 scope 共享批量加载器的上下文
+         * 用于同一次校验过程中的多个验证器，使其登记的键合并为一次批量查询
+         *
+         * @param fast  是否快速失败
+         * @param scope 共享加载器的上下文
+         */
+        public ValidationContext(boolean fast, ValidationContext scope) {
+            this.fast = fast;
+            this.loaderScope = scope.loaderScope;
+        }
+
+        /**
+         * 获取本次校验过程中的批量加载器，不存在时创建
+         *
+         * @param key     加载器标识
+         * @param factory 加载器工厂
+         * @return 同一作用域内相同标识对应同一个加载器
+         */
+        @SuppressWarnings("unchecked")
+        public <K, V> BatchLoader<K, V> loader(Object key, Supplier<BatchLoader<K, V>> factory) {
+            return (BatchLoader<K, V>) loaderScope.get(key, factory);
+        }
 
         public void reportError(ResponseCode code) {
+            if (stopped) return;
             reportError(Business.of(code));
         }
 
         public void reportError(ResponseCode code, String detail) {
+            if (stopped) return;
             reportError(Business.of(code, detail));
         }
 
         public void reportError(Business error) {
-            if (stopped) return;
-            errors.add(error);
-            if (fast) stopped = true;
+            synchronized (errors) {
+                if (stopped) return;
+                errors.add(error);
+                if (fast) stopped = true;
+            }
         }
 
         public void stop() {
@@ -87,5 +133,47 @@ public interface FastValidator<T> {
         public Business getFirstError() {
             return errors.isEmpty() ? null : errors.get(0);
         }
+
+        /**
+         * 将当前收集的错误转换为 Result，不抛出异常
+         *
+         * @return 无错误时为 Success(null)，否则为 Fail
+         */
+        public Result<Void> toResult() {
+            return toResult(() -> null);
+        }
+
+        /**
+         * 将当前收集的错误转换为 Result，不抛出异常
+         * 无错误时由 value 提供成功值；单个错误为其本身，多个错误合并为 MultiBusiness
+         *
+         * @param value 无错误时的成功值提供者
+         * @param <T>   成功值类型
+         * @return 校验结果
+         */
+        public <T> Result<T> toResult(Supplier<? extends T> value) {
+            List<Business> snapshot = List.copyOf(errors);
+            if (snapshot.isEmpty()) return Result.ok(value.get());
+            return Result.fail(snapshot.size() == 1 ? snapshot.get(0) : new MultiBusiness(snapshot));
+        }
+
+        /**
+         * 批量加载器作用域，首次使用时创建存储
+         */
+        private static final class LoaderScope {
+
+            private volatile Map<Object, BatchLoader<?, ?>> loaders;
+
+            BatchLoader<?, ?> get(Object key, Supplier<? extends BatchLoader<?, ?>> factory) {
+                Map<Object, BatchLoader<?, ?>> map = loaders;
+                if (map == null) {
+                    synchronized (this) {
+                        map = loaders;
+                        if (map == null) loaders = map = new ConcurrentHashMap<>();
+                    }
+                }
+                return map.computeIfAbsent(key, k -> factory.get());
+            }
+        }
     }
 }
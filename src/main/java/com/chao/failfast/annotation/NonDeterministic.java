@@ -0,0 +1,14 @@
+package com.chao.failfast.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 标记结果不完全由输入决定的验证器（依赖当前时间、外部存储、随机数等）
+ * 被标记的验证器的结果永远不会进入校验结果缓存，标记可被子类（含 CGLIB 代理）继承
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+public @interface NonDeterministic {
+}
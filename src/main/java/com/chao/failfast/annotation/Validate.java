@@ -19,4 +19,22 @@ public @interface Validate {
      * @return true: 快速模式，不立即抛出异常
      */
     boolean fast() default true;
+
+    /**
+     * 是否并行执行验证器
+     * 各验证器在独立线程上并发执行，耗时取决于最慢的验证器而非总和；
+     * 快速模式下第一个失败会取消其余验证器。仅适用于彼此独立、线程安全的验证器
+     *
+     * @return true: 并行执行，false: 按声明顺序串行执行
+     */
+    boolean parallel() default false;
+
+    /**
+     * 是否缓存校验结果
+     * 参数为 record 或实现了 ContentKeyed 时，按"验证器类 + 内容键"缓存结果，相同输入不再重复校验；
+     * 标注了 @NonDeterministic 的验证器及异步验证器不参与缓存
+     *
+     * @return true: 启用结果缓存
+     */
+    boolean cache() default false;
 }
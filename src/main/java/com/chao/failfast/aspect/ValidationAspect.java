@@ -1,11 +1,15 @@
 package com.chao.failfast.aspect;
 
+import com.chao.failfast.annotation.AsyncFastValidator;
 import com.chao.failfast.annotation.FastValidator;
 import com.chao.failfast.annotation.SkipValidation;
 import com.chao.failfast.annotation.Validate;
 import com.chao.failfast.internal.Business;
 import com.chao.failfast.internal.MultiBusiness;
+import com.chao.failfast.internal.core.FailureProperties;
+import com.chao.failfast.internal.core.ResponseCode;
 import com.chao.failfast.validator.TypedValidator;
+import com.chao.failfast.validator.ValidationOutcomeCache;
 import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpSession;
@@ -14,11 +18,18 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.core.GenericTypeResolver;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.InputStream;
@@ -26,16 +37,31 @@ import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * 验证切面 - 处理 @Validate 注解声明的自定义验证器
  * 当前只保留最核心功能：
  * - value：指定自定义验证器
  * - fast：是否快速失败（默认 true）
+ * - parallel：是否并行执行验证器（默认 false）
+ * 返回 CompletionStage/CompletableFuture/DeferredResult 的方法以非阻塞方式校验，校验通过后才调用目标方法
  */
 @Slf4j
 @Aspect
@@ -43,6 +69,11 @@ import java.util.concurrent.ConcurrentHashMap;
 @Order(100)
 public class ValidationAspect {
 
+    /**
+     * 并行校验执行器持有者的 Bean 名称
+     */
+    public static final String EXECUTOR_BEAN_NAME = "failFastValidationExecutor";
+
     /**
      * 使用ConcurrentHashMap作为缓存，存储验证器实例
      */
@@ -62,117 +93,453 @@ public class ValidationAspect {
             Writer.class          // 字符写入流
     );
 
+    /**
+     * 参数运行时类型是否属于 SKIP_TYPES（含子类/实现类），按类缓存
+     */
+    private static final ClassValue<Boolean> SKIPPED_TYPES = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return SKIP_TYPES.stream().anyMatch(t -> t.isAssignableFrom(type));
+        }
+    };
+
+    /**
+     * 方法级校验元数据缓存
+     */
+    private final ConcurrentHashMap<Method, MethodPlan> plans = new ConcurrentHashMap<>();
+
+    /**
+     * 验证器绑定缓存：验证器类 → 实例及其类型匹配信息
+     */
+    private final ConcurrentHashMap<Class<?>, ValidatorBinding> bindings = new ConcurrentHashMap<>();
+
     @Autowired
     private ApplicationContext applicationContext;
 
+    /**
+     * 并行校验执行器，未配置时使用 CompletableFuture 默认的异步线程池
+     */
+    @Autowired(required = false)
+    @Qualifier(EXECUTOR_BEAN_NAME)
+    private ValidationExecutorHolder validationExecutor;
+
+    /**
+     * 框架配置，用于读取异步校验超时设置
+     */
+    @Autowired(required = false)
+    private FailureProperties properties;
+
+    /**
+     * 校验结果缓存，供 @Validate(cache = true) 使用，未配置时不缓存
+     */
+    @Autowired(required = false)
+    private ValidationOutcomeCache outcomeCache;
+
     @Around("@annotation(validate)")
     public Object around(ProceedingJoinPoint point, Validate validate) throws Throwable {
         if (validate.value().length == 0) return point.proceed();
 
+        MethodPlan plan = getOrCreatePlan(((MethodSignature) point.getSignature()).getMethod(), validate);
+
         // 1. 收集可校验参数
-        List<Object> validatableArgs = collectValidatableArgs(point);
-        if (validatableArgs.isEmpty()) return point.proceed();
+        Object[] validatableArgs = plan.collectValidatableArgs(point.getArgs());
+        if (validatableArgs.length == 0) return point.proceed();
+
+        // 异步方法：校验与目标方法调用均不阻塞当前线程
+        if (plan.asyncReturn != AsyncReturn.NONE) return proceedAsync(point, plan, validatableArgs);
 
         // 2. 执行所有验证器
-        List<Business> errors = executeValidators(validate.value(), validatableArgs, validate.fast());
+        List<Business> errors = plan.parallel
+                ? executeValidatorsInParallel(plan, validatableArgs)
+                : executeValidators(plan, validatableArgs);
 
         // 3. 处理错误
-        if (!errors.isEmpty()) throw errors.size() == 1 ? errors.get(0) : new MultiBusiness(errors);
+        Business failure = toFailure(errors);
+        if (failure != null) throw failure;
 
         return point.proceed();
     }
 
     /**
-     * 收集需要校验的参数（过滤 null、@SkipValidation、容器类型）
+     * 获取或创建方法级校验元数据
+     * 参数注解、@SkipValidation 及注解配置只在方法首次调用时解析一次
      */
-    private List<Object> collectValidatableArgs(ProceedingJoinPoint point) {
-        Object[] args = point.getArgs();
-        MethodSignature signature = (MethodSignature) point.getSignature();
-        Annotation[][] paramAnnotations = signature.getMethod().getParameterAnnotations();
-
-        List<Object> result = new ArrayList<>();
-        for (int i = 0; i < args.length; i++) {
-            Object arg = args[i];
-            if (arg == null) continue;
-            if (hasSkipAnnotation(paramAnnotations[i])) continue;
-            if (shouldSkip(arg.getClass())) continue;
-            result.add(arg);
+    private MethodPlan getOrCreatePlan(Method method, Validate validate) {
+        MethodPlan plan = plans.get(method);
+        if (plan == null) {
+            plan = plans.computeIfAbsent(method, m -> MethodPlan.of(m, validate));
         }
-        return result;
+        return plan;
     }
 
     /**
      * 执行所有验证器，收集错误
+     * 验证器按声明顺序在首次执行到时才解析，快速失败时后续验证器不会被获取或实例化
+     * 各验证器的上下文共享同一批量加载器作用域
      */
-    private List<Business> executeValidators(Class<? extends FastValidator>[] validatorClasses, List<Object> args, boolean failFast) {
+    private List<Business> executeValidators(MethodPlan plan, Object[] args) {
         List<Business> errors = new ArrayList<>();
+        FastValidator.ValidationContext scope = new FastValidator.ValidationContext(plan.failFast);
+        ValidationOutcomeCache cache = cacheFor(plan);
 
-        for (Class<? extends FastValidator> validatorClass : validatorClasses) {
-            FastValidator<Object> validator = getOrCreateValidator(validatorClass);
-            List<Business> validatorErrors = executeSingleValidator(validator, args, failFast);
+        for (int i = 0; i < plan.validatorClasses.length; i++) {
+            ValidatorBinding binding = plan.binding(i, this);
+            List<Business> validatorErrors = executeSingleValidator(binding, args, scope, cache);
             errors.addAll(validatorErrors);
-            if (failFast && !errors.isEmpty()) break;
+            if (plan.failFast && !errors.isEmpty()) break;
         }
 
         return errors;
     }
 
     /**
-     * 执行单个验证器
+     * 并行执行所有验证器，收集错误
+     * 验证器在提交前于调用线程上解析，每个验证器使用独立的上下文；
+     * 快速模式下第一个失败（错误或异常）会停止其余验证器的上下文并取消尚未开始的任务，
+     * 取消是协作式的：正在执行的验证器在处理完当前参数后退出；
+     * 非快速模式下等待全部完成，并按声明顺序合并错误
      */
-    private List<Business> executeSingleValidator(FastValidator<Object> validator, List<Object> args, boolean failFast) {
+    private List<Business> executeValidatorsInParallel(MethodPlan plan, Object[] args) throws Throwable {
+        int n = plan.validatorClasses.length;
+        ValidatorBinding[] resolved = new ValidatorBinding[n];
+        FastValidator.ValidationContext[] contexts = new FastValidator.ValidationContext[n];
+        for (int i = 0; i < n; i++) {
+            resolved[i] = plan.binding(i, this);
+            contexts[i] = i == 0
+                    ? new FastValidator.ValidationContext(plan.failFast)
+                    : new FastValidator.ValidationContext(plan.failFast, contexts[0]);
+        }
 
-        FastValidator.ValidationContext ctx = new FastValidator.ValidationContext(failFast);
+        ValidationOutcomeCache cache = cacheFor(plan);
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[n];
+        AtomicInteger firstFailure = new AtomicInteger(-1);
+        for (int i = 0; i < n; i++) {
+            if (resolved[i].skipped) continue;
+            ValidatorBinding binding = resolved[i];
+            FastValidator<Object> validator = binding.validator();
+            FastValidator.ValidationContext ctx = contexts[i];
+            int index = i;
+            Runnable task = () -> {
+                try {
+                    validateArgs(binding, validator, args, ctx, cache);
+                } catch (RuntimeException | Error e) {
+                    if (plan.failFast && firstFailure.compareAndSet(-1, index)) cancelOthers(tasks, contexts, index);
+                    throw e;
+                }
+                // 在任务完成前记录首个失败，保证调用线程 join 返回后可见
+                if (plan.failFast && !ctx.isValid() && firstFailure.compareAndSet(-1, index)) {
+                    cancelOthers(tasks, contexts, index);
+                }
+            };
+            tasks[i] = runOnExecutor(task);
+        }
 
-        if (validator instanceof TypedValidator typed) {
-            executeTypedValidator(typed, args, ctx);
+        Throwable[] thrown = new Throwable[n];
+        for (int i = 0; i < n; i++) {
+            if (tasks[i] == null) continue;
+            try {
+                tasks[i].join();
+            } catch (CancellationException ignored) {
+                // 快速模式下被其他验证器的失败取消
+            } catch (CompletionException e) {
+                thrown[i] = unwrap(e);
+            }
+        }
+
+        if (plan.failFast) {
+            int first = firstFailure.get();
+            if (first < 0) return List.of();
+            if (thrown[first] != null) throw thrown[first];
+            return contexts[first].hasCauses();
+        }
+        for (Throwable t : thrown) {
+            if (t != null) throw t;
+        }
+        return mergeErrors(contexts);
+    }
+
+    /**
+     * 异步校验后调用目标方法
+     * 校验失败时返回异常完成的 CompletableFuture 或设置了错误结果的 DeferredResult，交由 MVC 异常处理；
+     * 校验通过后调用目标方法，并将其异步结果转接到返回值上。目标方法可能在校验完成的线程上调用，
+     * 调用前恢复调用线程的请求上下文、Locale 与 MDC，调用后还原；
+     * 目标方法返回的 DeferredResult 作为结果交给 MVC 重新处理，其超时设置与回调保持生效
+     */
+    @SuppressWarnings("unchecked")
+    private Object proceedAsync(ProceedingJoinPoint point, MethodPlan plan, Object[] args) {
+        CallerContext caller = new CallerContext();
+        CompletableFuture<List<Business>> validation = executeValidatorsAsync(plan, args);
+        if (plan.asyncReturn == AsyncReturn.DEFERRED_RESULT) {
+            DeferredResult<Object> deferred = new DeferredResult<>();
+            validation.whenComplete((errors, ex) -> {
+                Throwable failure = ex != null ? unwrap(ex) : toFailure(errors);
+                if (failure != null) {
+                    deferred.setErrorResult(failure);
+                    return;
+                }
+                try {
+                    deferred.setResult(caller.proceed(point));
+                } catch (Throwable t) {
+                    deferred.setErrorResult(t);
+                }
+            });
+            return deferred;
+        }
+        return validation.thenCompose(errors -> {
+            Throwable failure = toFailure(errors);
+            if (failure != null) return CompletableFuture.failedFuture(failure);
+            try {
+                Object result = caller.proceed(point);
+                return result == null
+                        ? CompletableFuture.completedFuture(null)
+                        : ((CompletionStage<Object>) result).toCompletableFuture();
+            } catch (Throwable t) {
+                return CompletableFuture.failedFuture(t);
+            }
+        });
+    }
+
+    /**
+     * 异步执行所有验证器，不阻塞调用线程
+     * 异步验证器直接组合其返回的 CompletionStage，同步验证器提交到并行校验执行器上运行；
+     * 串行模式按声明顺序依次组合，快速模式下出现错误即不再启动后续验证器；
+     * 并行模式同时启动全部验证器，快速模式下首个失败即完成并停止其余验证器。
+     * 配置了超时时间时，超时以配置的错误码报告
+     */
+    private CompletableFuture<List<Business>> executeValidatorsAsync(MethodPlan plan, Object[] args) {
+        int n = plan.validatorClasses.length;
+        ValidatorBinding[] resolved = new ValidatorBinding[n];
+        FastValidator.ValidationContext[] contexts = new FastValidator.ValidationContext[n];
+        for (int i = 0; i < n; i++) {
+            resolved[i] = plan.binding(i, this);
+            contexts[i] = i == 0
+                    ? new FastValidator.ValidationContext(plan.failFast)
+                    : new FastValidator.ValidationContext(plan.failFast, contexts[0]);
+        }
+
+        ValidationOutcomeCache cache = cacheFor(plan);
+        CompletableFuture<List<Business>> result;
+        if (plan.parallel) {
+            CompletableFuture<?>[] stages = new CompletableFuture<?>[n];
+            for (int i = 0; i < n; i++) {
+                stages[i] = validatorStage(resolved[i], args, contexts[i], cache);
+            }
+            result = plan.failFast ? firstFailure(stages, contexts) : CompletableFuture.allOf(stages).thenApply(v -> mergeErrors(contexts));
         } else {
-            executePlainValidator(validator, args, ctx);
+            CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+            for (int i = 0; i < n; i++) {
+                int index = i;
+                chain = chain.thenCompose(v -> plan.failFast && anyFailed(contexts)
+                        ? CompletableFuture.completedFuture(null)
+                        : validatorStage(resolved[index], args, contexts[index], cache));
+            }
+            result = chain.thenApply(v -> mergeErrors(contexts));
         }
-        return ctx.isValid() ? List.of() : ctx.hasCauses();
+
+        Duration timeout = properties != null ? properties.getValidation().getTimeout() : null;
+        if (timeout == null) return result;
+        return result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS).exceptionallyCompose(ex -> {
+            Throwable cause = unwrap(ex);
+            if (!(cause instanceof TimeoutException)) return CompletableFuture.failedFuture(cause);
+            for (FastValidator.ValidationContext ctx : contexts) ctx.stop();
+            FailureProperties.Validation validation = properties.getValidation();
+            ResponseCode code = ResponseCode.of(validation.getTimeoutCode(), validation.getTimeoutMessage(), validation.getTimeoutDescription());
+            return CompletableFuture.completedFuture(List.of(Business.of(code)));
+        });
+    }
+
+    /**
+     * 快速模式下的并行组合：任一验证器失败即以其结果完成，并停止其余验证器
+     */
+    private static CompletableFuture<List<Business>> firstFailure(CompletableFuture<?>[] stages,
+                                                                  FastValidator.ValidationContext[] contexts) {
+        CompletableFuture<List<Business>> result = new CompletableFuture<>();
+        CompletableFuture<?>[] watched = new CompletableFuture<?>[stages.length];
+        for (int i = 0; i < stages.length; i++) {
+            FastValidator.ValidationContext ctx = contexts[i];
+            watched[i] = stages[i].whenComplete((v, ex) -> {
+                if (ex == null && ctx.isValid()) return;
+                boolean first = ex != null ? result.completeExceptionally(unwrap(ex)) : result.complete(ctx.hasCauses());
+                if (first) {
+                    for (FastValidator.ValidationContext other : contexts) other.stop();
+                }
+            });
+        }
+        // 等待各 whenComplete 回调执行完毕后再以"全部通过"完成，已完成时为空操作
+        CompletableFuture.allOf(watched).whenComplete((v, ex) -> result.complete(List.of()));
+        return result;
+    }
+
+    /**
+     * 构建单个验证器的异步阶段
+     */
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<Void> validatorStage(ValidatorBinding binding, Object[] args,
+                                                   FastValidator.ValidationContext ctx, ValidationOutcomeCache cache) {
+        if (binding.skipped) return CompletableFuture.completedFuture(null);
+        FastValidator<Object> validator = binding.validator();
+        if (validator instanceof AsyncFastValidator<?>) {
+            AsyncFastValidator<Object> async = (AsyncFastValidator<Object>) validator;
+            CompletableFuture<Void> stage = CompletableFuture.completedFuture(null);
+            for (Object arg : args) {
+                if (!binding.appliesTo(arg.getClass())) continue;
+                stage = stage.thenCompose(v -> ctx.isStopped()
+                        ? CompletableFuture.completedFuture(null)
+                        : async.validateAsync(arg, ctx).toCompletableFuture());
+            }
+            return stage;
+        }
+        return runOnExecutor(() -> validateArgs(binding, validator, args, ctx, cache));
+    }
+
+    /**
+     * 在并行校验执行器上运行任务，未配置时使用 CompletableFuture 默认的异步线程池
+     */
+    private CompletableFuture<Void> runOnExecutor(Runnable task) {
+        return validationExecutor != null
+                ? CompletableFuture.runAsync(task, validationExecutor.getExecutor())
+                : CompletableFuture.runAsync(task);
     }
 
     /**
-     * 执行 TypedValidator（多类型）
+     * 按声明顺序合并各验证器的错误
      */
-    private void executeTypedValidator(TypedValidator validator, List<Object> args, FastValidator.ValidationContext ctx) {
-        Set<Class<?>> registeredTypes = validator.getRegisteredTypes();
+    private static List<Business> mergeErrors(FastValidator.ValidationContext[] contexts) {
+        List<Business> errors = new ArrayList<>();
+        for (FastValidator.ValidationContext ctx : contexts) {
+            errors.addAll(ctx.hasCauses());
+        }
+        return errors;
+    }
 
+    /**
+     * 是否已有验证器报告错误
+     */
+    private static boolean anyFailed(FastValidator.ValidationContext[] contexts) {
+        for (FastValidator.ValidationContext ctx : contexts) {
+            if (!ctx.isValid()) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 将错误列表转换为待抛出的异常，无错误时返回 null
+     */
+    private static Business toFailure(List<Business> errors) {
+        if (errors.isEmpty()) return null;
+        return errors.size() == 1 ? errors.get(0) : new MultiBusiness(errors);
+    }
+
+    /**
+     * 剥离 CompletableFuture 包装的 CompletionException
+     */
+    private static Throwable unwrap(Throwable ex) {
+        while (ex instanceof CompletionException && ex.getCause() != null) ex = ex.getCause();
+        return ex;
+    }
+
+    /**
+     * 停止除 winner 外所有验证器的上下文并取消其任务
+     */
+    private static void cancelOthers(CompletableFuture<?>[] tasks, FastValidator.ValidationContext[] contexts, int winner) {
+        for (int i = 0; i < contexts.length; i++) {
+            if (i == winner) continue;
+            contexts[i].stop();
+            CompletableFuture<?> task = tasks[i];
+            if (task != null) task.cancel(false);
+        }
+    }
+
+    /**
+     * 执行单个验证器
+     */
+    private List<Business> executeSingleValidator(ValidatorBinding binding, Object[] args,
+                                                  FastValidator.ValidationContext scope, ValidationOutcomeCache cache) {
+        if (binding.skipped) return List.of();
+
+        FastValidator.ValidationContext ctx = new FastValidator.ValidationContext(scope.isFast(), scope);
+        validateArgs(binding, binding.validator(), args, ctx, cache);
+        return ctx.isValid() ? List.of() : ctx.hasCauses();
+    }
+
+    /**
+     * 使用验证器依次校验适用的参数，上下文停止后不再继续
+     */
+    private static void validateArgs(ValidatorBinding binding, FastValidator<Object> validator, Object[] args,
+                                     FastValidator.ValidationContext ctx, ValidationOutcomeCache cache) {
         for (Object arg : args) {
-            if (!registeredTypes.contains(arg.getClass())) continue;
-            validator.validate(arg, ctx);
             if (ctx.isStopped()) break;
+            if (!binding.appliesTo(arg.getClass())) continue;
+            if (cache != null && binding.cacheable) {
+                cache.validate(binding.type, ValidationOutcomeCache.contentKey(arg), ctx,
+                        scoped -> validator.validate(arg, scoped));
+            } else {
+                validator.validate(arg, ctx);
+            }
         }
     }
 
     /**
-     * 执行普通 FastValidator（单类型）
+     * 方法启用结果缓存时返回缓存实例，否则返回 null
      */
-    private void executePlainValidator(FastValidator<Object> validator, List<Object> args, FastValidator.ValidationContext ctx) {
+    private ValidationOutcomeCache cacheFor(MethodPlan plan) {
+        return plan.cached ? outcomeCache : null;
+    }
+
+    /**
+     * 获取验证器绑定，同一验证器类只解析一次
+     */
+    private ValidatorBinding getOrCreateBinding(Class<? extends FastValidator> clazz) {
+        ValidatorBinding binding = bindings.get(clazz);
+        if (binding == null) {
+            binding = bindings.computeIfAbsent(clazz, key -> createBinding(clazz));
+        }
+        return binding;
+    }
 
+    /**
+     * 解析验证器适用的参数类型
+     * TypedValidator 按已注册类型及其子类（含代理类）匹配；普通验证器按支持类型（含子类）匹配；
+     * 单例 Bean 或反射创建的验证器缓存实例，其他作用域的 Bean 仅缓存匹配信息，每次调用重新从容器获取
+     */
+    @SuppressWarnings("unchecked")
+    private ValidatorBinding createBinding(Class<? extends FastValidator> clazz) {
+        String[] beanNames = applicationContext.getBeanNamesForType(clazz);
+        FastValidator<Object> validator = getOrCreateValidator(clazz, beanNames);
+        Supplier<FastValidator<Object>> source = isShared(beanNames)
+                ? () -> validator
+                : () -> applicationContext.getBean(clazz);
+        if (validator instanceof TypedValidator typed) {
+            return new ValidatorBinding(validator, source, false, typed::supports);
+        }
         Class<?> supportedType = getValidatorSupportedType(validator);
         if (supportedType == Object.class) {
             log.warn("验证器 {} 无法确定支持类型，已跳过", validator.getClass().getSimpleName());
-            return;
+            return new ValidatorBinding(validator, source, true, type -> false);
         }
+        return new ValidatorBinding(validator, source, false, supportedType::isAssignableFrom);
+    }
 
-        for (Object arg : args) {
-            if (!supportedType.isAssignableFrom(arg.getClass())) continue;
-
-            validator.validate(arg, ctx);
-            if (ctx.isStopped()) break;
+    /**
+     * 验证器实例能否在调用间共享：非容器 Bean（反射创建）或全部候选 Bean 均为单例
+     */
+    private boolean isShared(String[] beanNames) {
+        for (String name : beanNames) {
+            if (!applicationContext.isSingleton(name)) return false;
         }
+        return true;
     }
 
     /**
      * 获取或创建一个验证器实例
      *
-     * @param clazz 验证器的类对象
+     * @param clazz     验证器的类对象
+     * @param beanNames 容器中该类型的 Bean 名称
      * @return 返回验证器实例，如果已存在则从应用上下文中获取，否则创建新实例
      */
     @SuppressWarnings("unchecked")
-    private FastValidator<Object> getOrCreateValidator(Class<? extends FastValidator> clazz) {
-        if (applicationContext.getBeanNamesForType(clazz).length > 0) {
+    private FastValidator<Object> getOrCreateValidator(Class<? extends FastValidator> clazz, String[] beanNames) {
+        if (beanNames.length > 0) {
             return applicationContext.getBean(clazz);
         }
         return VALIDATOR_CACHE.computeIfAbsent(
@@ -202,27 +569,229 @@ public class ValidationAspect {
         return type != null ? type : Object.class;
     }
 
-    /**
-     * 判断给定的类是否应该被跳过
-     *
-     * @param clazz 需要检查的类
-     * @return 如果类在SKIP_TYPES列表中或其父类/接口在SKIP_TYPES列表中，则返回true；否则返回false
-     */
-    private boolean shouldSkip(Class<?> clazz) {
-        return SKIP_TYPES.stream().anyMatch(t -> t.isAssignableFrom(clazz));
-    }
-
     /**
      * 检查注解数组中是否包含SkipValidation注解
      *
      * @param annotations 需要检查的注解数组
      * @return 如果包含SkipValidation注解则返回true，否则返回false
      */
-    private boolean hasSkipAnnotation(Annotation[] annotations) {
+    private static boolean hasSkipAnnotation(Annotation[] annotations) {
         if (annotations == null) return false;
         for (Annotation ann : annotations) {
             if (ann instanceof SkipValidation) return true;
         }
         return false;
     }
-}
\ No newline at end of file
+
+    /**
+     * 方法级校验元数据 - 每个被 @Validate 标注的方法解析一次
+     */
+    private static final class MethodPlan {
+
+        /**
+         * 未标注 @SkipValidation 的参数下标
+         */
+        private final int[] candidateIndices;
+
+        /**
+         * 声明的验证器类
+         */
+        private final Class<? extends FastValidator>[] validatorClasses;
+
+        /**
+         * 与 validatorClasses 一一对应的验证器绑定，首次使用时填充
+         */
+        private final ValidatorBinding[] bindings;
+
+        /**
+         * 是否快速失败
+         */
+        private final boolean failFast;
+
+        /**
+         * 是否并行执行，仅在声明了多个验证器时生效
+         */
+        private final boolean parallel;
+
+        /**
+         * 方法返回值的异步类型
+         */
+        private final AsyncReturn asyncReturn;
+
+        /**
+         * 是否缓存校验结果
+         */
+        private final boolean cached;
+
+        private MethodPlan(int[] candidateIndices, Class<? extends FastValidator>[] validatorClasses,
+                           boolean failFast, boolean parallel, AsyncReturn asyncReturn, boolean cached) {
+            this.candidateIndices = candidateIndices;
+            this.validatorClasses = validatorClasses;
+            this.bindings = new ValidatorBinding[validatorClasses.length];
+            this.failFast = failFast;
+            this.parallel = parallel && validatorClasses.length > 1;
+            this.asyncReturn = asyncReturn;
+            this.cached = cached;
+        }
+
+        static MethodPlan of(Method method, Validate validate) {
+            Annotation[][] paramAnnotations = method.getParameterAnnotations();
+            int[] indices = new int[paramAnnotations.length];
+            int n = 0;
+            for (int i = 0; i < paramAnnotations.length; i++) {
+                if (!hasSkipAnnotation(paramAnnotations[i])) indices[n++] = i;
+            }
+            return new MethodPlan(Arrays.copyOf(indices, n), validate.value(), validate.fast(), validate.parallel(),
+                    AsyncReturn.of(method.getReturnType()), validate.cache());
+        }
+
+        /**
+         * 收集需要校验的参数（过滤 null、@SkipValidation、容器类型）
+         */
+        Object[] collectValidatableArgs(Object[] args) {
+            Object[] result = new Object[candidateIndices.length];
+            int n = 0;
+            for (int i : candidateIndices) {
+                if (i >= args.length) break;
+                Object arg = args[i];
+                if (arg == null) continue;
+                if (SKIPPED_TYPES.get(arg.getClass())) continue;
+                result[n++] = arg;
+            }
+            return n == result.length ? result : Arrays.copyOf(result, n);
+        }
+
+        /**
+         * 获取第 i 个验证器的绑定，未解析时委托切面解析并记录
+         */
+        ValidatorBinding binding(int i, ValidationAspect aspect) {
+            ValidatorBinding binding = bindings[i];
+            if (binding == null) {
+                binding = aspect.getOrCreateBinding(validatorClasses[i]);
+                bindings[i] = binding;
+            }
+            return binding;
+        }
+    }
+
+    /**
+     * 调用线程的上下文快照 - 异步校验完成后在其他线程上调用目标方法时恢复
+     */
+    private static final class CallerContext {
+
+        private final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+        private final LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+
+        private final Map<String, String> mdc = MDC.getCopyOfContextMap();
+
+        /**
+         * 在快照的上下文中调用目标方法，结束后还原当前线程原有的上下文
+         */
+        Object proceed(ProceedingJoinPoint point) throws Throwable {
+            RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+            LocaleContext previousLocale = LocaleContextHolder.getLocaleContext();
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            LocaleContextHolder.setLocaleContext(localeContext);
+            setMdc(mdc);
+            try {
+                return point.proceed();
+            } finally {
+                RequestContextHolder.setRequestAttributes(previousAttributes);
+                LocaleContextHolder.setLocaleContext(previousLocale);
+                setMdc(previousMdc);
+            }
+        }
+
+        private static void setMdc(Map<String, String> context) {
+            if (context == null) {
+                MDC.clear();
+            } else {
+                MDC.setContextMap(context);
+            }
+        }
+    }
+
+    /**
+     * 方法返回值的异步类型
+     */
+    private enum AsyncReturn {
+        /**
+         * 同步返回
+         */
+        NONE,
+        /**
+         * 声明为 CompletionStage 或 CompletableFuture
+         */
+        COMPLETION_STAGE,
+        /**
+         * 声明为 DeferredResult
+         */
+        DEFERRED_RESULT;
+
+        static AsyncReturn of(Class<?> returnType) {
+            if (returnType == null) return NONE;
+            if (returnType == DeferredResult.class) return DEFERRED_RESULT;
+            // 返回值将被替换为 CompletableFuture，因此声明类型必须能容纳它
+            if (CompletionStage.class.isAssignableFrom(returnType) && returnType.isAssignableFrom(CompletableFuture.class)) {
+                return COMPLETION_STAGE;
+            }
+            return NONE;
+        }
+    }
+
+    /**
+     * 验证器绑定 - 验证器实例来源及按参数运行时类型缓存的匹配结果
+     */
+    private static final class ValidatorBinding {
+
+        /**
+         * 验证器实现类，作为结果缓存的归属
+         */
+        private final Class<?> type;
+
+        /**
+         * 单例时返回同一实例，其他作用域每次从容器获取
+         */
+        private final Supplier<FastValidator<Object>> source;
+
+        /**
+         * 无法确定支持类型，整体跳过
+         */
+        private final boolean skipped;
+
+        /**
+         * 结果是否允许缓存：确定性的同步验证器
+         */
+        private final boolean cacheable;
+
+        private final ClassValue<Boolean> applicable;
+
+        ValidatorBinding(FastValidator<Object> validator, Supplier<FastValidator<Object>> source,
+                         boolean skipped, Predicate<Class<?>> matcher) {
+            this.type = validator.getClass();
+            this.source = source;
+            this.skipped = skipped;
+            this.cacheable = !(validator instanceof AsyncFastValidator)
+                    && ValidationOutcomeCache.isCacheable(validator.getClass());
+            this.applicable = new ClassValue<>() {
+                @Override
+                protected Boolean computeValue(Class<?> type) {
+                    return matcher.test(type);
+                }
+            };
+        }
+
+        /**
+         * 获取本次调用使用的验证器实例
+         */
+        FastValidator<Object> validator() {
+            return source.get();
+        }
+
+        boolean appliesTo(Class<?> type) {
+            return applicable.get(type);
+        }
+    }
+}
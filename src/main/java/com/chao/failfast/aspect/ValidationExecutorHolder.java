@@ -0,0 +1,40 @@
+package com.chao.failfast.aspect;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 并行校验执行器持有者
+ * 以非 Executor 类型注册为 Bean，由 {@link ValidationAspect} 按名称 {@link ValidationAspect#EXECUTOR_BEAN_NAME} 获取，
+ * 避免容器中多出 Executor 类型的 Bean 导致 Spring Boot 的 applicationTaskExecutor 不再创建
+ */
+public final class ValidationExecutorHolder implements AutoCloseable {
+
+    private final Executor executor;
+
+    /**
+     * 创建持有者
+     *
+     * @param executor 并行校验执行器，为 ExecutorService 时随持有者一起关闭
+     */
+    public ValidationExecutorHolder(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * 获取并行校验执行器
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * 容器关闭时关闭执行器，已提交的校验任务继续执行
+     */
+    @Override
+    public void close() {
+        if (executor instanceof ExecutorService service) {
+            service.shutdown();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.chao.failfast.config;
+
+import java.util.*;
+
+/**
+ * 错误码分组索引
+ * 启动时将各分组的范围合并、排序为基本类型区间数组，运行期通过二分查找判断归属，
+ * 并维护"错误码 → 所属分组"的反向索引
+ */
+final class CodeGroupIndex {
+
+    /**
+     * 空索引
+     */
+    static final CodeGroupIndex EMPTY = new CodeGroupIndex(Collections.emptyMap());
+
+    /**
+     * 分组名 → 合并后的区间
+     */
+    private final Map<String, Intervals> groups;
+
+    /**
+     * 反向索引：按起点排序的分段边界，第 i 段为 [segmentStarts[i], segmentStarts[i + 1])
+     */
+    private final long[] segmentStarts;
+
+    /**
+     * 反向索引：每一分段所属的分组（按名称排序，不可变）
+     */
+    private final List<List<String>> segmentGroups;
+
+    private CodeGroupIndex(Map<String, Intervals> groups) {
+        this.groups = groups;
+        TreeSet<Long> boundaries = new TreeSet<>();
+        for (Intervals intervals : groups.values()) {
+            for (int i = 0; i < intervals.starts.length; i++) {
+                boundaries.add((long) intervals.starts[i]);
+                boundaries.add(intervals.ends[i] + 1L);
+            }
+        }
+        List<Long> starts = new ArrayList<>();
+        List<List<String>> owners = new ArrayList<>();
+        for (long boundary : boundaries) {
+            List<String> contained = new ArrayList<>();
+            if (boundary <= Integer.MAX_VALUE) {
+                for (Map.Entry<String, Intervals> entry : groups.entrySet()) {
+                    if (entry.getValue().contains((int) boundary)) contained.add(entry.getKey());
+                }
+            }
+            Collections.sort(contained);
+            List<String> owner = List.copyOf(contained);
+            // 相邻分段归属相同则合并
+            if (!owners.isEmpty() && owners.get(owners.size() - 1).equals(owner)) continue;
+            starts.add(boundary);
+            owners.add(owner);
+        }
+        this.segmentStarts = starts.stream().mapToLong(Long::longValue).toArray();
+        this.segmentGroups = List.copyOf(owners);
+    }
+
+    /**
+     * 构建分组索引
+     *
+     * @param ranges 分组名 → 原始范围列表（可无序、可重叠）
+     * @return 分组索引
+     */
+    static CodeGroupIndex build(Map<String, List<CodeMappingConfig.CodeRange>> ranges) {
+        if (ranges.isEmpty()) return EMPTY;
+        Map<String, Intervals> groups = new HashMap<>();
+        ranges.forEach((name, list) -> groups.put(name, Intervals.of(list)));
+        return new CodeGroupIndex(groups);
+    }
+
+    /**
+     * 判断错误码是否属于指定分组
+     */
+    boolean contains(int code, String group) {
+        Intervals intervals = groups.get(group);
+        return intervals != null && intervals.contains(code);
+    }
+
+    /**
+     * 获取包含指定错误码的所有分组
+     *
+     * @param code 错误码
+     * @return 按名称排序的不可变分组列表，不属于任何分组时为空列表
+     */
+    List<String> groupsOf(int code) {
+        int i = Arrays.binarySearch(segmentStarts, code);
+        if (i < 0) i = -i - 2;
+        return i < 0 ? Collections.emptyList() : segmentGroups.get(i);
+    }
+
+    /**
+     * 获取指定分组的区间，分组不存在时返回null
+     */
+    Intervals intervals(String group) {
+        return groups.get(group);
+    }
+
+    /**
+     * 合并后的有序不相交区间
+     * 以基本类型数组存储，支持二分查找及按序号定位错误码而无需展开
+     */
+    static final class Intervals {
+
+        private final int[] starts;
+        private final int[] ends;
+
+        /**
+         * offsets[i] 为前 i 个区间包含的错误码总数
+         */
+        private final long[] offsets;
+
+        private Intervals(int[] starts, int[] ends) {
+            this.starts = starts;
+            this.ends = ends;
+            this.offsets = new long[starts.length + 1];
+            for (int i = 0; i < starts.length; i++) {
+                offsets[i + 1] = offsets[i] + ((long) ends[i] - starts[i] + 1);
+            }
+        }
+
+        /**
+         * 对范围排序并合并重叠或相邻的区间
+         */
+        static Intervals of(List<CodeMappingConfig.CodeRange> ranges) {
+            List<CodeMappingConfig.CodeRange> sorted = new ArrayList<>(ranges);
+            sorted.sort(Comparator.comparingInt(CodeMappingConfig.CodeRange::start));
+            int[] starts = new int[sorted.size()];
+            int[] ends = new int[sorted.size()];
+            int n = 0;
+            for (CodeMappingConfig.CodeRange r : sorted) {
+                if (n > 0 && (long) r.start() <= (long) ends[n - 1] + 1) {
+                    ends[n - 1] = Math.max(ends[n - 1], r.end());
+                } else {
+                    starts[n] = r.start();
+                    ends[n] = r.end();
+                    n++;
+                }
+            }
+            return new Intervals(Arrays.copyOf(starts, n), Arrays.copyOf(ends, n));
+        }
+
+        /**
+         * 二分查找判断错误码是否落在任一区间内
+         */
+        boolean contains(int code) {
+            int i = Arrays.binarySearch(starts, code);
+            if (i >= 0) return true;
+            i = -i - 2;
+            return i >= 0 && code <= ends[i];
+        }
+
+        /**
+         * 区间内错误码总数
+         */
+        long size() {
+            return offsets[starts.length];
+        }
+
+        /**
+         * 按升序获取第 index 个错误码
+         *
+         * @param index 序号，范围 [0, size())
+         * @return 错误码
+         */
+        int codeAt(long index) {
+            int i = Arrays.binarySearch(offsets, index);
+            if (i < 0) i = -i - 2;
+            return (int) (starts[i] + (index - offsets[i]));
+        }
+    }
+}
@@ -8,7 +8,6 @@ import org.springframework.stereotype.Component;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * 错误码映射配置 - 支持配置化HTTP状态映射
@@ -17,9 +16,37 @@ import java.util.stream.Collectors;
 @Slf4j
 public class CodeMappingConfig {
 
+    /**
+     * 查找表至少覆盖的码空间 [0, 60000)，包含全部标准 HTTP 码与 4xxxx/5xxxx 业务码
+     */
+    private static final int MIN_TABLE_LIMIT = 60000;
+
+    /**
+     * 查找表容量上限，超出部分的自定义映射改走规则计算
+     */
+    private static final int MAX_TABLE_LIMIT = 1 << 20;
+
+    /**
+     * 查找表中按序号存储的状态枚举
+     */
+    private static final HttpStatus[] STATUSES = HttpStatus.values();
+
     private final FailureProperties properties;
     private final Map<Integer, HttpStatus> DEFAULT_MAPPINGS;
-    private final Map<String, List<CodeRange>> groupRanges = new HashMap<>();
+
+    /**
+     * 预编译的状态码查找表：下标为业务码，值为 {@link #STATUSES} 中的序号
+     */
+    private final byte[] statusTable;
+
+    /**
+     * 查找表之外是否存在自定义映射；为 false 时表外的码统一解析为 500
+     */
+    private final boolean mappedOutsideTable;
+    /**
+     * 分组区间索引，启动时由分组配置合并构建
+     */
+    private final CodeGroupIndex groupIndex;
     private static final Pattern RANGE_PATTERN = Pattern.compile("^\\s*(\\d+)\\s*\\.\\.\\s*(\\d+)\\s*$|^\\s*(\\d+)\\s*-\\s*(\\d+)\\s*$");
 
     /**
@@ -38,8 +65,40 @@ public class CodeMappingConfig {
         loadCustomMappings(temp);
         // 将不可修改的映射赋值给DEFAULT_MAPPINGS实例变量
         this.DEFAULT_MAPPINGS = Collections.unmodifiableMap(temp);
-        // 解析组范围配置
-        parseGroupRanges();
+        // 预编译状态码查找表
+        int limit = tableLimit(temp.keySet());
+        this.statusTable = compileStatusTable(limit);
+        this.mappedOutsideTable = temp.keySet().stream().anyMatch(code -> code <= 0 || code >= limit);
+        // 解析组范围配置并构建区间索引
+        this.groupIndex = CodeGroupIndex.build(parseGroupRanges());
+    }
+
+    /**
+     * 计算查找表覆盖的码空间上界：覆盖所有自定义映射所在的整百区间，但不超过容量上限
+     *
+     * @param codes 已映射的错误码
+     * @return 查找表长度
+     */
+    private static int tableLimit(Set<Integer> codes) {
+        long limit = MIN_TABLE_LIMIT;
+        for (int code : codes) {
+            if (code > 0) limit = Math.max(limit, (code / 100 + 1) * 100L);
+        }
+        return (int) Math.min(limit, MAX_TABLE_LIMIT);
+    }
+
+    /**
+     * 按解析规则逐码计算，生成状态码查找表
+     *
+     * @param limit 查找表长度
+     * @return 查找表
+     */
+    private byte[] compileStatusTable(int limit) {
+        byte[] table = new byte[limit];
+        for (int code = 0; code < limit; code++) {
+            table[code] = (byte) computeHttpStatus(code).ordinal();
+        }
+        return table;
     }
 
     /**
@@ -91,12 +150,15 @@ public class CodeMappingConfig {
     /**
      * 解析代码组范围的方法
      * 该方法从属性中获取代码映射的组信息，并将其转换为代码范围列表
+     *
+     * @return 组名称 → 代码范围列表
      */
-    private void parseGroupRanges() {
+    private Map<String, List<CodeRange>> parseGroupRanges() {
+        Map<String, List<CodeRange>> groupRanges = new HashMap<>();
         // 从属性中获取代码映射的组信息
         var groups = properties.getCodeMapping().getGroups();
         // 如果组信息为空，则直接返回
-        if (groups == null) return;
+        if (groups == null) return groupRanges;
         // 遍历每个组条目
         for (var entry : groups.entrySet()) {
             String groupName = entry.getKey(); // 获取组名称
@@ -124,6 +186,7 @@ public class CodeMappingConfig {
             }
             groupRanges.put(groupName, ranges);
         }
+        return groupRanges;
     }
 
     /**
@@ -156,15 +219,17 @@ public class CodeMappingConfig {
      * 判断错误码是否属于指定分组（支持范围 + 精确值）
      */
     public boolean isInGroup(int code, String groupName) {
-        List<CodeRange> ranges = groupRanges.get(groupName);
-        if (ranges == null || ranges.isEmpty()) return false;
+        return groupIndex.contains(code, groupName);
+    }
 
-        for (CodeRange r : ranges) {
-            if (code >= r.start && code <= r.end) {
-                return true;
-            }
-        }
-        return false;
+    /**
+     * 获取包含指定错误码的所有分组
+     *
+     * @param code 错误码
+     * @return 按名称排序的不可变分组列表，不属于任何分组时返回空列表
+     */
+    public List<String> getGroupsOf(int code) {
+        return groupIndex.groupsOf(code);
     }
 
     /**
@@ -198,45 +263,55 @@ public class CodeMappingConfig {
      * @return 返回格式化的字符串表示的代码列表
      */
     public String getGroupCodesExpanded(String groupName, int n) {
-        List<CodeRange> ranges = groupRanges.get(groupName);
-        if (ranges == null || ranges.isEmpty() || n <= 0) {
+        CodeGroupIndex.Intervals intervals = groupIndex.intervals(groupName);
+        if (intervals == null || intervals.size() == 0 || n <= 0) {
             return "[]";
         }
 
-        Set<Integer> expanded = new TreeSet<>();
-        for (CodeRange r : ranges) {
-            for (int i = r.start(); i <= r.end(); i++) {
-                expanded.add(i);
+        // 按序号直接从区间计算错误码，无需展开整个分组
+        long size = intervals.size();
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        if (size <= n) {
+            for (long i = 0; i < size; i++) {
+                joiner.add(String.valueOf(intervals.codeAt(i)));
             }
+            return joiner.toString();
         }
 
-        if (expanded.size() <= n) {
-            return expanded.toString();
+        StringJoiner middle = new StringJoiner(", ");
+        for (long i = 1; i < Math.min(size - 1, 4); i++) {
+            middle.add(String.valueOf(intervals.codeAt(i)));
         }
-
-        List<Integer> list = new ArrayList<>(expanded);
-        String middle = list.subList(1, list.size() - 1).stream()
-                .limit(3)
-                .map(String::valueOf)
-                .collect(Collectors.joining(", "));
-        return String.format("[%s, %s, ..., %s]", list.get(0), middle, list.get(list.size() - 1));
+        return String.format("[%s, %s, ..., %s]", intervals.codeAt(0), middle, intervals.codeAt(size - 1));
     }
 
     /**
      * 解析错误码对应的HTTP状态
-     * 采用多层次匹配策略：精确匹配 → 范围匹配 → 大类匹配 → 标准HTTP码 → 默认值
+     * 采用多层次匹配策略：标准HTTP码 → 精确匹配 → 范围匹配 → 大类匹配 → 默认值
+     * 规则已在启动时编译为查找表，热路径仅为一次数组访问
      *
      * @param code 业务错误码
      * @return 对应的HttpStatus对象
      */
     public HttpStatus resolveHttpStatus(int code) {
+        if (code >= 0 && code < statusTable.length) {
+            return STATUSES[statusTable[code] & 0xFF];
+        }
+        return mappedOutsideTable ? computeHttpStatus(code) : HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+
+    /**
+     * 按匹配规则计算错误码对应的HTTP状态，用于编译查找表及表外的自定义映射
+     *
+     * @param code 业务错误码
+     * @return 对应的HttpStatus对象
+     */
+    private HttpStatus computeHttpStatus(int code) {
         // 1. 标准 HTTP 状态码优先精确匹配（100-599）
         if (code >= 100 && code <= 599) {
-            try {
-                return HttpStatus.valueOf(code);
-            } catch (IllegalArgumentException ignored) {
-                // 非标准 HTTP 码（如 499），继续后续匹配
-            }
+            HttpStatus standard = HttpStatus.resolve(code);
+            // 非标准 HTTP 码（如 499），继续后续匹配
+            if (standard != null) return standard;
         }
         // 2. 精确匹配自定义映射
         HttpStatus exact = DEFAULT_MAPPINGS.get(code);
@@ -254,6 +329,6 @@ public class CodeMappingConfig {
     }
 
 
-    private record CodeRange(int start, int end) {
+    record CodeRange(int start, int end) {
     }
 }
\ No newline at end of file
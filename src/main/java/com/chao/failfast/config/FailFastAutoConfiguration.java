@@ -2,14 +2,23 @@ package com.chao.failfast.config;
 
 import com.chao.failfast.advice.DefaultExceptionHandler;
 import com.chao.failfast.advice.FailFastExceptionHandler;
+import com.chao.failfast.advice.FailureBodyHttpMessageConverter;
+import com.chao.failfast.advice.FailureLogPolicy;
+import com.chao.failfast.advice.ResultReturnValueHandler;
 import com.chao.failfast.aspect.ValidationAspect;
+import com.chao.failfast.aspect.ValidationExecutorHolder;
 import com.chao.failfast.internal.Ex;
 import com.chao.failfast.internal.FailureContext;
+import com.chao.failfast.internal.core.FailureClock;
 import com.chao.failfast.internal.core.FailureProperties;
+import com.chao.failfast.result.SideEffectExecutor;
+import com.chao.failfast.validator.ValidationOutcomeCache;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.*;
 import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -20,8 +29,16 @@ import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
 
 import java.io.IOException;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Fail-Fast 自动配置类 - 增强版
@@ -86,6 +103,19 @@ public class FailFastAutoConfiguration {
     }
 
 
+    /**
+     * 创建失败日志策略Bean
+     * 按 fail-fast.logging 配置决定异常处理器的日志级别、去重与限流
+     *
+     * @param codeMappingConfig 错误码映射配置，用于按分组匹配日志级别
+     * @return FailureLogPolicy实例
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public FailureLogPolicy failureLogPolicy(CodeMappingConfig codeMappingConfig) {
+        return new FailureLogPolicy(properties.getLogging(), codeMappingConfig);
+    }
+
     /**
      * 创建验证切面Bean
      * 处理@Validate注解的自定义验证逻辑
@@ -100,6 +130,55 @@ public class FailFastAutoConfiguration {
         return new ValidationAspect();
     }
 
+    /**
+     * 创建并行校验执行器Bean
+     * 供@Validate(parallel = true)使用，JDK 21+ 且启用时使用虚拟线程，否则使用固定大小的平台线程池
+     * 以持有者类型注册，不暴露为 Executor Bean，以免 Spring Boot 的 applicationTaskExecutor 退让
+     * 可通过声明同名Bean替换
+     *
+     * @return 并行校验执行器持有者
+     */
+    @Bean(name = ValidationAspect.EXECUTOR_BEAN_NAME)
+    @ConditionalOnMissingBean(name = ValidationAspect.EXECUTOR_BEAN_NAME)
+    @ConditionalOnClass(name = "org.aspectj.lang.annotation.Aspect")
+    public ValidationExecutorHolder failFastValidationExecutor() {
+        return new ValidationExecutorHolder(createValidationExecutor(properties.getValidation()));
+    }
+
+    /**
+     * 创建校验结果缓存Bean
+     * 仅对标注 @Validate(cache = true) 的方法生效，容量与存活时间由 fail-fast.validation.cache 配置
+     *
+     * @return ValidationOutcomeCache实例
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnClass(name = "org.aspectj.lang.annotation.Aspect")
+    public ValidationOutcomeCache validationOutcomeCache() {
+        FailureProperties.Cache cache = properties.getValidation().getCache();
+        return new ValidationOutcomeCache(cache.getMaxSize(), cache.getTtl());
+    }
+
+    /**
+     * 按配置创建并行校验执行器
+     * 虚拟线程通过反射获取，以兼容 JDK 17 编译
+     */
+    static ExecutorService createValidationExecutor(FailureProperties.Validation validation) {
+        if (validation.isVirtualThreads()) {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                log.debug("当前 JDK 不支持虚拟线程，并行校验使用平台线程池");
+            }
+        }
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, validation.getParallelism()), runnable -> {
+            Thread thread = new Thread(runnable, "fail-fast-validation-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     // ============ 内部组件 ============
 
     /**
@@ -110,23 +189,52 @@ public class FailFastAutoConfiguration {
      * @return ExInitializer实例
      */
     @Bean
-    public ExInitializer exInitializer(FailureContext context) {
-        return new ExInitializer(context);
+    public ExInitializer exInitializer(FailureContext context, FailureClock failureClock,
+                                       SideEffectExecutor sideEffectExecutor) {
+        return new ExInitializer(context, failureClock, sideEffectExecutor);
+    }
+
+    /**
+     * 创建共享时钟Bean
+     * 为Result与异常响应提供秒级缓存的时间戳，可声明自定义Bean替换时间来源
+     *
+     * @return FailureClock实例
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public FailureClock failureClock() {
+        return new FailureClock(Clock.systemUTC());
+    }
+
+    /**
+     * 创建副作用执行器Bean
+     * 供 Results.tapAsync 使用的有界线程池，线程数、队列、溢出策略与批量合并由 fail-fast.side-effect 配置
+     *
+     * @return SideEffectExecutor实例
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public SideEffectExecutor sideEffectExecutor() {
+        return new SideEffectExecutor(properties.getSideEffect());
     }
 
     /**
      * 异常工具初始化器
-     * 通过构造函数注入的方式初始化Ex工具类的上下文
+     * 通过构造函数注入的方式初始化Ex工具类的上下文、共享时钟与共享副作用执行器
      */
     public static class ExInitializer {
         /**
          * 构造函数
-         * 将FailFastContext设置到Ex工具类中
+         * 将FailFastContext设置到Ex工具类中，并将时钟与副作用执行器设为共享实例
          *
-         * @param context FailFast上下文
+         * @param context            FailFast上下文
+         * @param clock              共享时钟
+         * @param sideEffectExecutor 共享副作用执行器
          */
-        ExInitializer(FailureContext context) {
+        ExInitializer(FailureContext context, FailureClock clock, SideEffectExecutor sideEffectExecutor) {
             Ex.setContext(context);
+            FailureClock.setShared(clock);
+            SideEffectExecutor.setShared(sideEffectExecutor);
         }
     }
 
@@ -159,6 +267,43 @@ public class FailFastAutoConfiguration {
     }
     // ============ 内部配置类 ============
 
+    /**
+     * 错误响应体写出配置类
+     * 将 FailureBodyHttpMessageConverter 注册在所有消息转换器之前，错误响应直接写出 JSON 字节
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass(name = "org.springframework.web.servlet.config.annotation.WebMvcConfigurer")
+    static class FailureBodyConfiguration implements WebMvcConfigurer {
+
+        @Override
+        public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+            converters.add(0, new FailureBodyHttpMessageConverter());
+        }
+    }
+
+    /**
+     * Result 返回值处理配置类
+     * 所有单例初始化完成后，将 RequestMappingHandlerAdapter 中的 @ResponseBody 处理器替换为 ResultReturnValueHandler
+     * 改变 Result.Fail 的响应状态码与格式，需通过 fail-fast.result-handler=true 显式启用
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass(name = "org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter")
+    @ConditionalOnProperty(prefix = "fail-fast", name = "result-handler", havingValue = "true")
+    static class ResultReturnValueConfiguration {
+
+        @Bean
+        public SmartInitializingSingleton failFastResultReturnValueInstaller(ObjectProvider<RequestMappingHandlerAdapter> adapters,
+                                                                             ObjectProvider<FailFastExceptionHandler> exceptionHandlers) {
+            return () -> {
+                FailFastExceptionHandler exceptionHandler = exceptionHandlers.getIfUnique();
+                if (exceptionHandler == null) return;
+                adapters.orderedStream().forEach(adapter -> ResultReturnValueHandler.install(adapter, exceptionHandler));
+            };
+        }
+    }
+
     /**
      * 调试配置类
      * 当启用方法打印时激活，提供额外的调试信息
@@ -110,6 +110,11 @@ public final class FailureConst {
      */
     public static final String UNSUPPORTED_VALIDATION_TYPE = "不支持的校验类型: ";
 
+    /**
+     * 校验器已投入使用后禁止注册
+     */
+    public static final String VALIDATOR_REGISTRATION_FROZEN = "校验器已投入使用，不能再注册类型: ";
+
     /**
      * 校验失败前缀
      */
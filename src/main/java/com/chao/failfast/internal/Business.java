@@ -55,7 +55,7 @@ public class Business extends RuntimeException implements Serializable {
      * @param location     发生异常的位置信息
      */
     Business(ResponseCode responseCode, String detail, String method, String location, HttpStatus httpStatus) {
-        super(responseCode != null ? responseCode.getMessage() : FailureConst.UNKNOWN_ERROR, null, true, shouldFillStackTrace(responseCode));
+        super(responseCode != null ? responseCode.getMessage() : FailureConst.UNKNOWN_ERROR, null, true, shouldFillStackTrace(responseCode, httpStatus));
         this.responseCode = responseCode;
         this.detail = detail;
         this.method = method;
@@ -63,12 +63,21 @@ public class Business extends RuntimeException implements Serializable {
         this.httpStatus = httpStatus != null ? httpStatus : HttpStatus.INTERNAL_SERVER_ERROR;
     }
 
-    private static boolean shouldFillStackTrace(ResponseCode code) {
+    /**
+     * 判断是否需要填充堆栈：开启 shadow-trace 或映射为 5xx 时填充
+     *
+     * @param code   响应码
+     * @param status 已解析的HTTP状态，为null时按映射配置重新解析
+     * @return 是否填充堆栈
+     */
+    private static boolean shouldFillStackTrace(ResponseCode code, HttpStatus status) {
         if (code == null) return true;
         FailureContext ctx = Ex.getContext();
-        CodeMappingConfig cfg = ctx != null ? ctx.getCodeMappingConfig() : null;
-        boolean printMethod = ctx != null && ctx.isShadowTrace();
-        return printMethod || (cfg != null && cfg.resolveHttpStatus(code.getCode()).is5xxServerError());
+        if (ctx == null) return false;
+        if (ctx.isShadowTrace()) return true;
+        CodeMappingConfig cfg = ctx.getCodeMappingConfig();
+        if (cfg == null) return false;
+        return (status != null ? status : cfg.resolveHttpStatus(code.getCode())).is5xxServerError();
     }
 
     public static Business of(int code, String message) {
@@ -234,11 +243,13 @@ public class Business extends RuntimeException implements Serializable {
             }
             // 根据上下文自动填充方法和位置信息
             FailureContext ctx = Ex.getContext();
-            if (ctx != null && ctx.isShadowTrace()) {
-                if (method == null) method = Ex.method();
-                if (location == null) location = Ex.location();
+            if (ctx != null && ctx.isShadowTrace() && (method == null || location == null)) {
+                Ex.Site site = Ex.site();
+                if (method == null) method = site.method();
+                if (location == null) location = site.location();
             }
-            CodeMappingConfig cfg = Ex.getContext() != null ? Ex.getContext().getCodeMappingConfig() : null;
+            // 只解析一次HTTP状态，构造时复用于堆栈填充判断
+            CodeMappingConfig cfg = ctx != null ? ctx.getCodeMappingConfig() : null;
             HttpStatus status = (cfg != null) ? cfg.resolveHttpStatus(responseCode.getCode()) : HttpStatus.INTERNAL_SERVER_ERROR;
             return new Business(responseCode, detail, method, location, status);
         }
@@ -247,54 +258,25 @@ public class Business extends RuntimeException implements Serializable {
     /**
      * 重写toString方法，提供格式化的异常信息输出
      * 格式：[方法名] {code=xxx_xx, mes=消息, des=描述} (文件名:行号)
+     * 响应码部分、显示方法名与文件名:行号均来自缓存，结果在一个预估好容量的缓冲区中拼接
      *
      * @return 格式化的字符串表示
      */
     @Override
     public String toString() {
-        // 格式化代码为xxx_xx格式
-        String codeStr = String.valueOf(responseCode.getCode()).replaceFirst("(\\d{3})(\\d{2})", "$1_$2");
-        // 构建基础信息字符串
-        String base = "{code=%s, mes=%s, des=%s}".formatted(codeStr, responseCode.getMessage(), detail);
-        // 根据是否有方法信息决定输出格式
-        if (method == null) return base + (location != null ? " (" + extractFileLine(location) + ")" : "");
-
+        String prefix = BusinessFormat.prefix(responseCode);
+        String des = String.valueOf(detail);
         // 处理内部类方法名 (如 TestController$AdvancedUserValidator#validate -> TestController#validate)
-        String displayMethod = method;
-        int dollarIndex = method.indexOf('$');
-        if (dollarIndex > 0) {
-            int hashIndex = method.lastIndexOf('#');
-            if (hashIndex > dollarIndex) {
-                displayMethod = method.substring(0, dollarIndex) + method.substring(hashIndex);
-            }
-        }
-        return "[%s] %s".formatted(displayMethod, base) + (location != null ? " (" + extractFileLine(location) + ")" : "");
-    }
-
-    /**
-     * 从完整位置信息中提取文件名和行号
-     * 输入格式："ClassName.methodName(ClassName.java:123)" 或 "TestController$AdvancedUserValidator.validate(TestController.java:103)"
-     * 输出格式："ClassName.java:123" 或 "TestController.java:103"
-     *
-     * @param loc 完整的位置信息字符串
-     * @return 提取的文件名和行号，如果输入为null则返回空字符串
-     */
-    private String extractFileLine(String loc) {
-        // 查找左括号位置
-        int start = loc.indexOf("(");
-        if (start < 0) return loc;  // 如果没有找到括号，返回原字符串
-        // 提取括号内的内容（去除右括号）
-        String content = loc.substring(start + 1, loc.length() - 1);
-
-        // 处理内部类文件名包含 $ 的情况 (如 TestController$AdvancedUserValidator.java:103)
-        int dollarIndex = content.indexOf('$');
-        if (dollarIndex > 0) {
-            // 查找文件名结束的点号 (如 .java)
-            int dotIndex = content.indexOf('.', dollarIndex);
-            if (dotIndex > 0) {
-                return content.substring(0, dollarIndex) + content.substring(dotIndex);
-            }
-        }
-        return content;
+        String displayMethod = method != null ? BusinessFormat.displayMethod(method) : null;
+        String fileLine = location != null ? BusinessFormat.fileLine(location) : null;
+
+        int length = prefix.length() + des.length() + 1;
+        if (displayMethod != null) length += displayMethod.length() + 3;
+        if (fileLine != null) length += fileLine.length() + 3;
+        StringBuilder sb = new StringBuilder(length);
+        if (displayMethod != null) sb.append('[').append(displayMethod).append("] ");
+        sb.append(prefix).append(des).append('}');
+        if (fileLine != null) sb.append(" (").append(fileLine).append(')');
+        return sb.toString();
     }
 }
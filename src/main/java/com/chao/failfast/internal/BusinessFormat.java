@@ -0,0 +1,140 @@
+package com.chao.failfast.internal;
+
+import com.chao.failfast.internal.core.ResponseCode;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.function.Function;
+
+/**
+ * Business 字符串表示的格式化缓存
+ * 响应码的静态部分按 code 与 message 缓存，显示方法名与"文件名:行号"按原始字符串缓存。
+ * 各缓存条目数有上限，超出后淘汰最久未使用的条目，避免动态内容导致内存增长或挤占常用条目
+ */
+final class BusinessFormat {
+
+    /**
+     * 每个缓存的条目上限
+     */
+    static final int MAX_ENTRIES = 4096;
+
+    /**
+     * (code, message) → "{code=xxx_xx, mes=消息, des="
+     */
+    private static final LinkedHashMap<PrefixKey, String> PREFIXES = lru();
+
+    /**
+     * 原始方法名 → 显示方法名
+     */
+    private static final LinkedHashMap<String, String> METHODS = lru();
+
+    /**
+     * 原始位置 → 文件名:行号
+     */
+    private static final LinkedHashMap<String, String> FILE_LINES = lru();
+
+    private BusinessFormat() {
+    }
+
+    /**
+     * 获取响应码的格式化前缀："{code=xxx_xx, mes=消息, des="
+     */
+    static String prefix(ResponseCode code) {
+        return cached(PREFIXES, new PrefixKey(code.getCode(), code.getMessage()),
+                k -> "{code=" + formatCode(k.code()) + ", mes=" + k.message() + ", des=");
+    }
+
+    /**
+     * 获取显示方法名
+     * 处理内部类方法名 (如 TestController$AdvancedUserValidator#validate -> TestController#validate)
+     */
+    static String displayMethod(String method) {
+        return cached(METHODS, method, BusinessFormat::computeDisplayMethod);
+    }
+
+    /**
+     * 获取位置中的"文件名:行号"
+     */
+    static String fileLine(String location) {
+        return cached(FILE_LINES, location, BusinessFormat::extractFileLine);
+    }
+
+    /**
+     * 将错误码格式化为 xxx_xx 形式：五位及以上的数字在第三位之后插入下划线，其余原样输出
+     */
+    static String formatCode(int code) {
+        String digits = Integer.toString(code);
+        int sign = code < 0 ? 1 : 0;
+        if (digits.length() - sign < 5) return digits;
+        return digits.substring(0, sign + 3) + '_' + digits.substring(sign + 3);
+    }
+
+    private static String computeDisplayMethod(String method) {
+        int dollarIndex = method.indexOf('$');
+        if (dollarIndex > 0) {
+            int hashIndex = method.lastIndexOf('#');
+            if (hashIndex > dollarIndex) {
+                return method.substring(0, dollarIndex) + method.substring(hashIndex);
+            }
+        }
+        return method;
+    }
+
+    /**
+     * 从完整位置信息中提取文件名和行号
+     * 输入格式："ClassName.methodName(ClassName.java:123)" 或 "TestController$AdvancedUserValidator.validate(TestController.java:103)"
+     * 输出格式："ClassName.java:123" 或 "TestController.java:103"
+     *
+     * @param loc 完整的位置信息字符串
+     * @return 提取的文件名和行号
+     */
+    private static String extractFileLine(String loc) {
+        // 查找左括号位置
+        int start = loc.indexOf("(");
+        if (start < 0) return loc;  // 如果没有找到括号，返回原字符串
+        // 提取括号内的内容（去除右括号）
+        String content = loc.substring(start + 1, loc.length() - 1);
+
+        // 处理内部类文件名包含 $ 的情况 (如 TestController$AdvancedUserValidator.java:103)
+        int dollarIndex = content.indexOf('$');
+        if (dollarIndex > 0) {
+            // 查找文件名结束的点号 (如 .java)
+            int dotIndex = content.indexOf('.', dollarIndex);
+            if (dotIndex > 0) {
+                return content.substring(0, dollarIndex) + content.substring(dotIndex);
+            }
+        }
+        return content;
+    }
+
+    /**
+     * 访问顺序的 LinkedHashMap，作为 LRU 使用，受自身保护
+     */
+    private static <K> LinkedHashMap<K, String> lru() {
+        return new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    private static <K> String cached(LinkedHashMap<K, String> cache, K key, Function<K, String> compute) {
+        String value;
+        synchronized (cache) {
+            value = cache.get(key);
+        }
+        if (value != null) return value;
+        value = compute.apply(key);
+        synchronized (cache) {
+            cache.put(key, value);
+            Iterator<K> it = cache.keySet().iterator();
+            while (cache.size() > MAX_ENTRIES && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 响应码前缀缓存键：格式化结果只取决于 code 与 message
+     */
+    private record PrefixKey(int code, String message) {
+    }
+}
@@ -2,7 +2,14 @@ package com.chao.failfast.internal;
 
 import com.chao.failfast.constant.FailureConst;
 
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 /**
  * 异常构建工具类 - 线程安全改进版
@@ -35,6 +42,37 @@ public final class Ex {
             "sun."                          // Sun Microsystems遗留类
     );
 
+    /**
+     * 由 SKIP_PREFIXES 预编译的前缀匹配器，按类名首字符分派，避免逐帧流式遍历整个前缀集合
+     */
+    private static final PrefixMatcher SKIPPED = PrefixMatcher.of(SKIP_PREFIXES);
+
+    /**
+     * 未找到业务方法时的默认方法名
+     */
+    private static final String UNKNOWN_METHOD = "unknown";
+
+    /**
+     * 调用点位置字符串缓存：声明类 → (方法名 + 方法类型 + 字节码索引) → 格式化位置
+     * 使用 ClassValue 使缓存与类的生命周期绑定，不会阻止类卸载
+     */
+    private static final ClassValue<Map<SiteKey, String>> LOCATIONS = new ClassValue<>() {
+        @Override
+        protected Map<SiteKey, String> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * 方法名字符串缓存：声明类 → 方法名 → 格式化方法名
+     */
+    private static final ClassValue<Map<String, String>> METHOD_NAMES = new ClassValue<>() {
+        @Override
+        protected Map<String, String> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     /**
      * FailFast上下文对象，用于控制异常处理的行为配置
      * 包含是否打印方法信息等运行时配置
@@ -68,6 +106,16 @@ public final class Ex {
     private Ex() {
     }
 
+    /**
+     * 一次性获取当前调用方法与位置信息
+     * 只遍历一次调用栈，供同时需要两者的场景（如 Business 物化、违规记录）使用
+     *
+     * @return 调用点信息；未启用方法打印时返回 {@link Site#NONE}
+     */
+    static Site site() {
+        return isShadowTrace() ? captureSite() : Site.NONE;
+    }
+
     /**
      * 获取当前调用位置信息的便捷方法
      * 主要用于需要单独获取位置信息的场景
@@ -109,19 +157,7 @@ public final class Ex {
      * 格式示例："MyService.doSomething(MyService.java:45)"
      */
     static String captureLocation() {
-        // 首先检查是否启用方法打印功能
-        if (!isShadowTrace()) return null;
-
-        // 使用StackWalker遍历调用栈
-        return WALKER.walk(stream -> stream
-                // 过滤掉不需要的调用帧（框架、系统类等）
-                .filter(Ex::isNotSkipped)
-                // 获取第一个有效的业务调用帧
-                .findFirst()
-                // 将栈帧格式化为位置字符串
-                .map(Ex::formatLocation)
-                // 如果找不到有效帧，返回默认值
-                .orElse(FailureConst.UNKNOWN));
+        return isShadowTrace() ? captureSite().location() : null;
     }
 
     /**
@@ -130,31 +166,85 @@ public final class Ex {
      * @return 返回方法名称字符串，如果条件不满足则返回null
      */
     static String captureMethodName() {
-        if (!isShadowTrace()) return null;
+        return isShadowTrace() ? captureSite().method() : null;
+    }
 
-        return WALKER.walk(stream -> stream
-                .filter(Ex::isNotSkipped)
-                // 额外过滤验证器类，以便定位到调用验证器的业务方法 (e.g. Controller/Service)
-                // 1. 过滤 com.chao.failfast.validator 包下的类
-                // 2. 过滤类名以 Validator 或 Validators 结尾的类
-                .filter(f -> !f.getClassName().startsWith("com.chao.failfast.validator")
-                        && !f.getClassName().endsWith("Validator")
-                        && !f.getClassName().endsWith("Validators"))
-                .findFirst()
-                .map(Ex::formatMethodName)
-                .orElse("unknown"));
+    /**
+     * 单次遍历调用栈，同时定位位置帧与方法帧
+     *
+     * @return 调用点信息
+     */
+    private static Site captureSite() {
+        return WALKER.walk(Ex::resolveSite);
     }
 
     /**
-     * 检查给定的栈帧是否不被跳过
-     * 该方法通过检查类名是否以任何预定义的前缀开头来判断是否跳过该栈帧
+     * 从栈帧流中解析调用点
+     * 位置取第一个非框架帧；方法名在此基础上额外跳过验证器类，以便定位到调用验证器的业务方法
+     * (e.g. Controller/Service)，因此方法帧总是不早于位置帧，一次遍历即可得到两者
      *
-     * @param f 要检查的栈帧对象
-     * @return 如果类名不以任何SKIP_PREFIXES中的前缀开头，返回true；否则返回false
+     * @param frames 栈帧流
+     * @return 调用点信息
      */
-    private static boolean isNotSkipped(StackWalker.StackFrame f) {
-        String cls = f.getClassName();
-        return SKIP_PREFIXES.stream().noneMatch(cls::startsWith);
+    private static Site resolveSite(Stream<StackWalker.StackFrame> frames) {
+        String location = null;
+        Iterator<StackWalker.StackFrame> it = frames.iterator();
+        while (it.hasNext()) {
+            StackWalker.StackFrame f = it.next();
+            String cls = f.getClassName();
+            if (SKIPPED.matches(cls)) continue;
+            if (location == null) location = cachedLocation(f);
+            if (!isValidatorClass(cls)) return new Site(cachedMethodName(f), location);
+        }
+        return new Site(UNKNOWN_METHOD, location != null ? location : FailureConst.UNKNOWN);
+    }
+
+    /**
+     * 判断是否为验证器类
+     * 1. com.chao.failfast.validator 包下的类
+     * 2. 类名以 Validator 或 Validators 结尾的类
+     *
+     * @param cls 全限定类名
+     * @return 是验证器类返回true
+     */
+    private static boolean isValidatorClass(String cls) {
+        return cls.startsWith("com.chao.failfast.validator")
+                || cls.endsWith("Validator")
+                || cls.endsWith("Validators");
+    }
+
+    /**
+     * 获取栈帧的格式化位置，按调用点缓存
+     * 同一方法内的字节码索引唯一对应一行源码，因此可直接作为缓存键，命中时无需计算行号
+     *
+     * @param f 栈帧
+     * @return 格式化后的位置字符串
+     */
+    private static String cachedLocation(StackWalker.StackFrame f) {
+        SiteKey key = new SiteKey(f.getMethodName(), f.getMethodType(), f.getByteCodeIndex());
+        Map<SiteKey, String> cache = LOCATIONS.get(f.getDeclaringClass());
+        String location = cache.get(key);
+        if (location == null) {
+            location = formatLocation(f);
+            cache.putIfAbsent(key, location);
+        }
+        return location;
+    }
+
+    /**
+     * 获取栈帧的格式化方法名，按声明类与方法名缓存
+     *
+     * @param f 栈帧
+     * @return 格式化后的方法名
+     */
+    private static String cachedMethodName(StackWalker.StackFrame f) {
+        Map<String, String> cache = METHOD_NAMES.get(f.getDeclaringClass());
+        String method = cache.get(f.getMethodName());
+        if (method == null) {
+            method = formatMethodName(f);
+            cache.putIfAbsent(f.getMethodName(), method);
+        }
+        return method;
     }
 
     /**
@@ -194,4 +284,65 @@ public final class Ex {
         }
         return simple + "#" + methodName;
     }
+
+    /**
+     * 调用点信息
+     *
+     * @param method   格式化方法名，格式如"SimpleClassName#methodName"
+     * @param location 格式化位置，格式如"ClassName.methodName(ClassName.java:lineNumber)"
+     */
+    record Site(String method, String location) {
+        /**
+         * 未启用方法打印时的空调用点
+         */
+        static final Site NONE = new Site(null, null);
+    }
+
+    /**
+     * 类内调用点缓存键
+     * 字节码索引仅在方法内唯一，因此需配合方法名与方法类型区分重载
+     */
+    private record SiteKey(String methodName, MethodType methodType, int bci) {
+    }
+
+    /**
+     * 类名前缀匹配器
+     * 按首字符将前缀分组，匹配时只需比较首字符相同的少数前缀
+     */
+    private static final class PrefixMatcher {
+
+        /**
+         * 以 ASCII 首字符为下标的前缀表，非 ASCII 首字符一律不匹配
+         */
+        private final String[][] table = new String[128][];
+
+        private PrefixMatcher(Collection<String> prefixes) {
+            for (String prefix : prefixes) {
+                char c = prefix.charAt(0);
+                String[] group = table[c];
+                if (group == null) {
+                    table[c] = new String[]{prefix};
+                } else {
+                    group = Arrays.copyOf(group, group.length + 1);
+                    group[group.length - 1] = prefix;
+                    table[c] = group;
+                }
+            }
+        }
+
+        static PrefixMatcher of(Collection<String> prefixes) {
+            return new PrefixMatcher(prefixes);
+        }
+
+        boolean matches(String cls) {
+            if (cls.isEmpty()) return false;
+            char c = cls.charAt(0);
+            String[] candidates = c < 128 ? table[c] : null;
+            if (candidates == null) return false;
+            for (String prefix : candidates) {
+                if (cls.startsWith(prefix)) return true;
+            }
+            return false;
+        }
+    }
 }
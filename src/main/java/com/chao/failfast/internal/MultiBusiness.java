@@ -16,7 +16,7 @@ public class MultiBusiness extends Business {
     /**
      * 默认最大错误数量限制，防止内存溢出
      */
-    private static final int MAX_ERRORS = 50;
+    public static final int MAX_ERRORS = 50;
 
     /**
      * 收集的业务异常列表
@@ -30,10 +30,21 @@ public class MultiBusiness extends Business {
      * @param errors 业务异常列表
      */
     public MultiBusiness(List<Business> errors) {
+        this(errors, errors.size());
+    }
+
+    /**
+     * 构造函数
+     * 用于调用方只物化了部分错误的场景，描述信息按实际错误总数生成
+     *
+     * @param errors 业务异常列表
+     * @param total  错误总数（可大于errors的数量）
+     */
+    public MultiBusiness(List<Business> errors, int total) {
         super(ResponseCode.of(
-                        FailureConst.SYSTEM_CODE, FailureConst.MULTIPLE_VALIDATION_ERRORS, errors.size() > MAX_ERRORS ?
-                                FailureConst.TOO_MANY_ERRORS : FailureConst.VALIDATION_ERROR_PREFIX + errors.size() + FailureConst.ERROR_ITEM_SUFFIX
-                ), FailureConst.VALIDATION_ERROR_PREFIX + errors.size() + FailureConst.ERROR_ITEM_SUFFIX,
+                        FailureConst.SYSTEM_CODE, FailureConst.MULTIPLE_VALIDATION_ERRORS, total > MAX_ERRORS ?
+                                FailureConst.TOO_MANY_ERRORS : FailureConst.VALIDATION_ERROR_PREFIX + total + FailureConst.ERROR_ITEM_SUFFIX
+                ), FailureConst.VALIDATION_ERROR_PREFIX + total + FailureConst.ERROR_ITEM_SUFFIX,
                 null, null, HttpStatus.INTERNAL_SERVER_ERROR
         );
 
@@ -52,14 +63,19 @@ public class MultiBusiness extends Business {
      */
     @Override
     public String toString() {
-        StringBuilder sb = new StringBuilder("Multi={\n");
-        for (int i = 0; i < errors.size(); i++) {
-            Business ex = errors.get(i);
-            sb.append("  ").append(i + 1).append(". ").append(ex.toString());
-            if (i < errors.size() - 1) sb.append(",\n");
-            else sb.append("\n");
+        // 先格式化各子错误以确定总长度，再在一个缓冲区中拼接
+        String[] items = new String[errors.size()];
+        int length = "Multi={\n}".length();
+        for (int i = 0; i < items.length; i++) {
+            items[i] = errors.get(i).toString();
+            length += items[i].length() + 8;
+        }
+        StringBuilder sb = new StringBuilder(length).append("Multi={\n");
+        for (int i = 0; i < items.length; i++) {
+            sb.append("  ").append(i + 1).append(". ").append(items[i]);
+            sb.append(i < items.length - 1 ? ",\n" : "\n");
         }
-        sb.append("}");
+        sb.append('}');
         return sb.toString();
     }
 }
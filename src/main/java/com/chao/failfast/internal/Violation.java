@@ -0,0 +1,72 @@
+package com.chao.failfast.internal;
+
+import com.chao.failfast.internal.core.ResponseCode;
+import com.chao.failfast.internal.core.ViolationSpec;
+
+import java.util.function.Consumer;
+
+/**
+ * 校验违规记录 - 轻量级不可变值
+ * 严格模式下链式校验只记录该对象，直到 fail()/failAll() 真正抛出时才物化为 Business
+ *
+ * @param code       响应码，可能为null（此时使用默认校验错误）
+ * @param detail     详细描述，可能为null
+ * @param fabricator 延迟执行的构建器配置，优先级高于 code/detail
+ * @param method     shadow-trace 开启时在违规发生处捕获的方法名
+ * @param location   shadow-trace 开启时在违规发生处捕获的位置
+ */
+public record Violation(ResponseCode code, String detail, Consumer<Business.Fabricator> fabricator,
+                        String method, String location) {
+
+    /**
+     * 未配置 ViolationSpec 时使用的默认错误码
+     */
+    static final ResponseCode DEFAULT_CODE = ResponseCode.of(
+            500,
+            "Validation failed",
+            "链式验证未通过，请使用 ViolationSpec 配置具体错误信息"
+    );
+
+    /**
+     * 根据 ViolationSpec 创建违规记录
+     * 方法与位置信息在此刻捕获，保证延迟物化后仍指向校验发生处
+     *
+     * @param spec 违规配置
+     * @return 违规记录
+     */
+    public static Violation of(ViolationSpec spec) {
+        Ex.Site site = Ex.site();
+        return new Violation(spec.getCode(), spec.getDetail(), spec.getFabricator(), site.method(), site.location());
+    }
+
+    /**
+     * 根据响应码和描述创建违规记录
+     *
+     * @param code   响应码
+     * @param detail 详细描述，可为null
+     * @return 违规记录
+     */
+    public static Violation of(ResponseCode code, String detail) {
+        Ex.Site site = Ex.site();
+        return new Violation(code, detail, null, site.method(), site.location());
+    }
+
+    /**
+     * 物化为 Business 异常
+     *
+     * @return 构建完成的 Business 对象
+     */
+    public Business materialize() {
+        Business.Fabricator fab = Business.compose();
+        if (fabricator != null) {
+            fabricator.accept(fab);
+        } else if (code != null) {
+            fab.responseCode(code).detail(detail);
+        } else {
+            fab.responseCode(DEFAULT_CODE);
+        }
+        if (method != null) fab.method(method);
+        if (location != null) fab.location(location);
+        return fab.materialize();
+    }
+}
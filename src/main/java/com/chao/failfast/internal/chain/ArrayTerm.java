@@ -26,11 +26,11 @@ public interface ArrayTerm<S extends ChainCore<S>> {
     }
 
     default <T> S notEmpty(T[] array, ResponseCode code) {
-        return notEmpty(array, s -> s.responseCode(code));
+        return core().check(ArrayChecks.notEmpty(array), code, null);
     }
 
     default <T> S notEmpty(T[] array, ResponseCode code, String detail) {
-        return notEmpty(array, s -> s.responseCode(code).detail(detail));
+        return core().check(ArrayChecks.notEmpty(array), code, detail);
     }
 
     // ========== isEmpty ==========
@@ -44,11 +44,11 @@ public interface ArrayTerm<S extends ChainCore<S>> {
     }
 
     default <T> S isEmpty(T[] array, ResponseCode code) {
-        return isEmpty(array, s -> s.responseCode(code));
+        return core().check(ArrayChecks.isEmpty(array), code, null);
     }
 
     default <T> S isEmpty(T[] array, ResponseCode code, String detail) {
-        return isEmpty(array, s -> s.responseCode(code).detail(detail));
+        return core().check(ArrayChecks.isEmpty(array), code, detail);
     }
 
     // ========== sizeBetween ==========
@@ -63,11 +63,13 @@ public interface ArrayTerm<S extends ChainCore<S>> {
     }
 
     default <T> S sizeBetween(T[] array, int min, int max, ResponseCode code) {
-        return sizeBetween(array, min, max, s -> s.responseCode(code));
+        if (!core().isAlive()) return core();
+        return core().check(ArrayChecks.sizeBetween(array, min, max), code, null);
     }
 
     default <T> S sizeBetween(T[] array, int min, int max, ResponseCode code, String detail) {
-        return sizeBetween(array, min, max, s -> s.responseCode(code).detail(detail));
+        if (!core().isAlive()) return core();
+        return core().check(ArrayChecks.sizeBetween(array, min, max), code, detail);
     }
 
     // ========== sizeEquals ==========
@@ -81,11 +83,11 @@ public interface ArrayTerm<S extends ChainCore<S>> {
     }
 
     default <T> S sizeEquals(T[] array, int expectedSize, ResponseCode code) {
-        return sizeEquals(array, expectedSize, s -> s.responseCode(code));
+        return core().check(ArrayChecks.sizeEquals(array, expectedSize), code, null);
     }
 
     default <T> S sizeEquals(T[] array, int expectedSize, ResponseCode code, String detail) {
-        return sizeEquals(array, expectedSize, s -> s.responseCode(code).detail(detail));
+        return core().check(ArrayChecks.sizeEquals(array, expectedSize), code, detail);
     }
 
     // ========== contains ==========
@@ -100,11 +102,13 @@ public interface ArrayTerm<S extends ChainCore<S>> {
     }
 
     default <T> S contains(T[] array, T element, ResponseCode code) {
-        return contains(array, element, s -> s.responseCode(code));
+        if (!core().isAlive()) return core();
+        return core().check(ArrayChecks.contains(array, element), code, null);
     }
 
     default <T> S contains(T[] array, T element, ResponseCode code, String detail) {
-        return contains(array, element, s -> s.responseCode(code).detail(detail));
+        if (!core().isAlive()) return core();
+        return core().check(ArrayChecks.contains(array, element), code, detail);
     }
 
     // ========== notContains ==========
@@ -119,11 +123,13 @@ public interface ArrayTerm<S extends ChainCore<S>> {
     }
 
     default <T> S notContains(T[] array, T element, ResponseCode code) {
-        return notContains(array, element, s -> s.responseCode(code));
+        if (!core().isAlive()) return core();
+        return core().check(ArrayChecks.notContains(array, element), code, null);
     }
 
     default <T> S notContains(T[] array, T element, ResponseCode code, String detail) {
-        return notContains(array, element, s -> s.responseCode(code).detail(detail));
+        if (!core().isAlive()) return core();
+        return core().check(ArrayChecks.notContains(array, element), code, detail);
     }
 
     // ========== hasNoNullElements ==========
@@ -137,11 +143,11 @@ public interface ArrayTerm<S extends ChainCore<S>> {
     }
 
     default <T> S hasNoNullElements(T[] array, ResponseCode code) {
-        return hasNoNullElements(array, s -> s.responseCode(code));
+        return core().check(ArrayChecks.hasNoNullElements(array), code, null);
     }
 
     default <T> S hasNoNullElements(T[] array, ResponseCode code, String detail) {
-        return hasNoNullElements(array, s -> s.responseCode(code).detail(detail));
+        return core().check(ArrayChecks.hasNoNullElements(array), code, detail);
     }
 
     // ========== allMatch ==========
@@ -155,11 +161,11 @@ public interface ArrayTerm<S extends ChainCore<S>> {
     }
 
     default <T> S allMatch(T[] array, Predicate<T> predicate, ResponseCode code) {
-        return allMatch(array, predicate, s -> s.responseCode(code));
+        return core().check(ArrayChecks.allMatch(array, predicate), code, null);
     }
 
     default <T> S allMatch(T[] array, Predicate<T> predicate, ResponseCode code, String detail) {
-        return allMatch(array, predicate, s -> s.responseCode(code).detail(detail));
+        return core().check(ArrayChecks.allMatch(array, predicate), code, detail);
     }
 
     // ========== anyMatch ==========
@@ -173,10 +179,10 @@ public interface ArrayTerm<S extends ChainCore<S>> {
     }
 
     default <T> S anyMatch(T[] array, Predicate<T> predicate, ResponseCode code) {
-        return anyMatch(array, predicate, s -> s.responseCode(code));
+        return core().check(ArrayChecks.anyMatch(array, predicate), code, null);
     }
 
     default <T> S anyMatch(T[] array, Predicate<T> predicate, ResponseCode code, String detail) {
-        return anyMatch(array, predicate, s -> s.responseCode(code).detail(detail));
+        return core().check(ArrayChecks.anyMatch(array, predicate), code, detail);
     }
 }
\ No newline at end of file
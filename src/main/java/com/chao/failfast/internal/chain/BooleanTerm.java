@@ -25,11 +25,11 @@ public interface BooleanTerm<S extends ChainCore<S>> {
     }
 
     default S state(boolean condition, ResponseCode code) {
-        return state(condition, s -> s.responseCode(code));
+        return core().check(BooleanChecks.state(condition), code, null);
     }
 
     default S state(boolean condition, ResponseCode code, String detail) {
-        return state(condition, s -> s.responseCode(code).detail(detail));
+        return core().check(BooleanChecks.state(condition), code, detail);
     }
 
     // ========== isTrue ==========
@@ -43,11 +43,11 @@ public interface BooleanTerm<S extends ChainCore<S>> {
     }
 
     default S isTrue(boolean condition, ResponseCode code) {
-        return isTrue(condition, s -> s.responseCode(code));
+        return core().check(BooleanChecks.isTrue(condition), code, null);
     }
 
     default S isTrue(boolean condition, ResponseCode code, String detail) {
-        return isTrue(condition, s -> s.responseCode(code).detail(detail));
+        return core().check(BooleanChecks.isTrue(condition), code, detail);
     }
 
     // ========== isFalse ==========
@@ -61,10 +61,10 @@ public interface BooleanTerm<S extends ChainCore<S>> {
     }
 
     default S isFalse(boolean condition, ResponseCode code) {
-        return isFalse(condition, s -> s.responseCode(code));
+        return core().check(BooleanChecks.isFalse(condition), code, null);
     }
 
     default S isFalse(boolean condition, ResponseCode code, String detail) {
-        return isFalse(condition, s -> s.responseCode(code).detail(detail));
+        return core().check(BooleanChecks.isFalse(condition), code, detail);
     }
 }
\ No newline at end of file
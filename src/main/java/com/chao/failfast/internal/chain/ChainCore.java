@@ -3,6 +3,7 @@ package com.chao.failfast.internal.chain;
 import com.chao.failfast.annotation.FastValidator.ValidationContext;
 import com.chao.failfast.constant.FailureConst;
 import com.chao.failfast.internal.Business;
+import com.chao.failfast.internal.Violation;
 import com.chao.failfast.internal.core.ResponseCode;
 import com.chao.failfast.internal.core.ViolationSpec;
 import lombok.Getter;
@@ -20,7 +21,10 @@ public abstract class ChainCore<S extends ChainCore<S>> {
     @Getter
     protected boolean alive = true;
     protected final ValidationContext context;
-    protected final List<Business> errors = new ArrayList<>();
+    /**
+     * 违规记录 - 仅在抛出或读取时才物化为 Business
+     */
+    protected final List<Violation> errors = new ArrayList<>();
 
     protected ChainCore(boolean failFast, ValidationContext context) {
         this.failFast = failFast;
@@ -43,9 +47,29 @@ public abstract class ChainCore<S extends ChainCore<S>> {
     protected S check(boolean condition, Consumer<ViolationSpec> configurer) {
         if (shouldSkip()) return self();
         if (!condition) {
-            ViolationSpec spec = new ViolationSpec();
-            configurer.accept(spec);
-            addError(spec);
+            if (configurer == FailureConst.NO_OP) {
+                addError(Violation.of(null, null));
+            } else {
+                ViolationSpec spec = new ViolationSpec();
+                configurer.accept(spec);
+                addError(Violation.of(spec));
+            }
+            if (failFast) alive = false;
+        }
+        return self();
+    }
+
+    /**
+     * 响应码直达校验 - 不创建 ViolationSpec 和捕获型 lambda，校验通过时零分配
+     *
+     * @param condition 校验条件
+     * @param code      失败时的响应码
+     * @param detail    失败时的详细描述，可为null
+     */
+    protected S check(boolean condition, ResponseCode code, String detail) {
+        if (shouldSkip()) return self();
+        if (!condition) {
+            addError(Violation.of(code, detail));
             if (failFast) alive = false;
         }
         return self();
@@ -58,34 +82,13 @@ public abstract class ChainCore<S extends ChainCore<S>> {
         return check(condition, FailureConst.NO_OP);
     }
 
-    private void addError(ViolationSpec spec) {
-        Business business = buildBusiness(spec);
-
+    private void addError(Violation violation) {
         if (context != null) {
-            context.reportError(business);
+            context.reportError(violation.materialize());
             if (failFast) context.stop();
         } else {
-            errors.add(business);
-        }
-    }
-
-    private Business buildBusiness(ViolationSpec spec) {
-        if (spec.hasFabricator()) {
-            Business.Fabricator fab = Business.compose();
-            spec.getFabricator().accept(fab);
-            return fab.materialize();
-        }
-        if (spec.getCode() != null && spec.getDetail() != null) {
-            return Business.of(spec.getCode(), spec.getDetail());
+            errors.add(violation);
         }
-        if (spec.getCode() != null) {
-            return Business.of(spec.getCode());
-        }
-        return Business.of(ResponseCode.of(
-                500,
-                "Validation failed",
-                "链式验证未通过，请使用 ViolationSpec 配置具体错误信息"
-        ));
     }
 
     /**
@@ -97,12 +100,45 @@ public abstract class ChainCore<S extends ChainCore<S>> {
 
     /**
      * 获取业务原因列表
-     * 该方法返回一个新的ArrayList，包含所有的错误信息
+     * 该方法返回一个新的ArrayList，每次调用都会将违规记录物化为Business
      *
      * @return 返回一个Business类型的列表，包含所有错误信息
      */
     public List<Business> getCauses() {
-        return new ArrayList<>(errors);
+        return materialize(errors.size());
+    }
+
+    /**
+     * 获取违规记录列表（不物化异常）
+     *
+     * @return 不可变的违规记录列表
+     */
+    public List<Violation> getViolations() {
+        return List.copyOf(errors);
+    }
+
+    /**
+     * 物化前 limit 个违规记录
+     *
+     * @param limit 最大物化数量
+     * @return Business列表
+     */
+    protected List<Business> materialize(int limit) {
+        int n = Math.min(limit, errors.size());
+        List<Business> causes = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            causes.add(errors.get(i).materialize());
+        }
+        return causes;
+    }
+
+    /**
+     * 获取违规记录数量
+     *
+     * @return 违规记录数量
+     */
+    protected int errorCount() {
+        return errors.size();
     }
 
     /**
@@ -113,4 +149,4 @@ public abstract class ChainCore<S extends ChainCore<S>> {
     public boolean isValid() {
         return errors.isEmpty() && alive;
     }
-}
\ No newline at end of file
+}
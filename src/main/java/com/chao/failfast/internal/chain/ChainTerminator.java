@@ -3,6 +3,7 @@ package com.chao.failfast.internal.chain;
 import com.chao.failfast.internal.Business;
 import com.chao.failfast.internal.MultiBusiness;
 import com.chao.failfast.internal.core.ResponseCode;
+import com.chao.failfast.result.Result;
 
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -30,24 +31,26 @@ public interface ChainTerminator<S extends ChainCore<S>> {
      */
     default void fail() {
         if (!core().isValid()) {
-            if (core().getCauses().isEmpty()) {
+            if (core().errorCount() == 0) {
                 throw Business.of(ResponseCode.VALIDATION_ERROR_500);
             }
-            throw core().getCauses().get(0);
+            throw core().materialize(1).get(0);
         }
     }
 
     /**
      * 默认方法，用于处理验证失败的情况
      * 如果验证无效，则根据错误原因的数量抛出不同的异常
+     * 只物化 MultiBusiness 实际保留的错误，其余违规仅计入总数
      */
     default void failAll() {
         if (!core().isValid()) {
-            if (core().getCauses().isEmpty()) {
+            int count = core().errorCount();
+            if (count == 0) {
                 throw Business.of(ResponseCode.VALIDATION_ERROR_500);
             }
-            if (core().getCauses().size() == 1) throw core().getCauses().get(0);
-            throw new MultiBusiness(core().getCauses());
+            if (count == 1) throw core().materialize(1).get(0);
+            throw new MultiBusiness(core().materialize(MultiBusiness.MAX_ERRORS), count);
         }
     }
 
@@ -139,6 +142,35 @@ public interface ChainTerminator<S extends ChainCore<S>> {
     }
 
 
+    /**
+     * 将校验结果转换为 Result，不抛出异常
+     * 校验通过返回 Success(null)，失败时错误的组织方式与 {@link #failAll()} 一致
+     *
+     * @return 校验结果
+     */
+    default Result<Void> toResult() {
+        return toResult(() -> null);
+    }
+
+    /**
+     * 将校验结果转换为 Result，不抛出异常
+     * 校验通过时由 value 提供成功值，失败时与 {@link #failAll()} 一致：单个错误为其本身，多个错误合并为 MultiBusiness；
+     * 绑定了 ValidationContext 的链以上下文中的错误为准
+     *
+     * @param value 校验通过时的成功值提供者
+     * @param <T>   成功值类型
+     * @return 校验结果
+     */
+    default <T> Result<T> toResult(Supplier<? extends T> value) {
+        S core = core();
+        if (core.context != null) return core.context.toResult(value);
+        if (core.isValid()) return Result.ok(value.get());
+        int count = core.errorCount();
+        if (count == 0) return Result.fail(ResponseCode.VALIDATION_ERROR_500);
+        if (count == 1) return Result.fail(core.materialize(1).get(0));
+        return Result.fail(new MultiBusiness(core.materialize(MultiBusiness.MAX_ERRORS), count));
+    }
+
     /**
      * 默认的验证方法实现
      * 该方法不执行任何操作，错误会立即报告到上下文中
@@ -27,11 +27,11 @@ public interface CollectionTerm<S extends ChainCore<S>> {
     }
 
     default S notEmpty(Collection<?> col, ResponseCode code) {
-        return notEmpty(col, s -> s.responseCode(code));
+        return core().check(CollectionChecks.notEmpty(col), code, null);
     }
 
     default S notEmpty(Collection<?> col, ResponseCode code, String detail) {
-        return notEmpty(col, s -> s.responseCode(code).detail(detail));
+        return core().check(CollectionChecks.notEmpty(col), code, detail);
     }
 
     // ========== isEmpty ==========
@@ -45,11 +45,11 @@ public interface CollectionTerm<S extends ChainCore<S>> {
     }
 
     default S isEmpty(Collection<?> col, ResponseCode code) {
-        return isEmpty(col, s -> s.responseCode(code));
+        return core().check(CollectionChecks.isEmpty(col), code, null);
     }
 
     default S isEmpty(Collection<?> col, ResponseCode code, String detail) {
-        return isEmpty(col, s -> s.responseCode(code).detail(detail));
+        return core().check(CollectionChecks.isEmpty(col), code, detail);
     }
 
     // ========== sizeBetween ==========
@@ -64,11 +64,13 @@ public interface CollectionTerm<S extends ChainCore<S>> {
     }
 
     default S sizeBetween(Collection<?> col, int min, int max, ResponseCode code) {
-        return sizeBetween(col, min, max, s -> s.responseCode(code));
+        if (!core().isAlive()) return core();
+        return core().check(CollectionChecks.sizeBetween(col, min, max), code, null);
     }
 
     default S sizeBetween(Collection<?> col, int min, int max, ResponseCode code, String detail) {
-        return sizeBetween(col, min, max, s -> s.responseCode(code).detail(detail));
+        if (!core().isAlive()) return core();
+        return core().check(CollectionChecks.sizeBetween(col, min, max), code, detail);
     }
 
     // ========== sizeEquals ==========
@@ -82,11 +84,11 @@ public interface CollectionTerm<S extends ChainCore<S>> {
     }
 
     default S sizeEquals(Collection<?> col, int expectedSize, ResponseCode code) {
-        return sizeEquals(col, expectedSize, s -> s.responseCode(code));
+        return core().check(CollectionChecks.sizeEquals(col, expectedSize), code, null);
     }
 
     default S sizeEquals(Collection<?> col, int expectedSize, ResponseCode code, String detail) {
-        return sizeEquals(col, expectedSize, s -> s.responseCode(code).detail(detail));
+        return core().check(CollectionChecks.sizeEquals(col, expectedSize), code, detail);
     }
 
     // ========== contains ==========
@@ -100,11 +102,11 @@ public interface CollectionTerm<S extends ChainCore<S>> {
     }
 
     default S contains(Collection<?> col, Object element, ResponseCode code) {
-        return contains(col, element, s -> s.responseCode(code));
+        return core().check(CollectionChecks.contains(col, element), code, null);
     }
 
     default S contains(Collection<?> col, Object element, ResponseCode code, String detail) {
-        return contains(col, element, s -> s.responseCode(code).detail(detail));
+        return core().check(CollectionChecks.contains(col, element), code, detail);
     }
 
     // ========== notContains ==========
@@ -118,11 +120,11 @@ public interface CollectionTerm<S extends ChainCore<S>> {
     }
 
     default S notContains(Collection<?> col, Object element, ResponseCode code) {
-        return notContains(col, element, s -> s.responseCode(code));
+        return core().check(CollectionChecks.notContains(col, element), code, null);
     }
 
     default S notContains(Collection<?> col, Object element, ResponseCode code, String detail) {
-        return notContains(col, element, s -> s.responseCode(code).detail(detail));
+        return core().check(CollectionChecks.notContains(col, element), code, detail);
     }
 
     // ========== hasNoNullElements ==========
@@ -136,11 +138,11 @@ public interface CollectionTerm<S extends ChainCore<S>> {
     }
 
     default S hasNoNullElements(Collection<?> col, ResponseCode code) {
-        return hasNoNullElements(col, s -> s.responseCode(code));
+        return core().check(CollectionChecks.hasNoNullElements(col), code, null);
     }
 
     default S hasNoNullElements(Collection<?> col, ResponseCode code, String detail) {
-        return hasNoNullElements(col, s -> s.responseCode(code).detail(detail));
+        return core().check(CollectionChecks.hasNoNullElements(col), code, detail);
     }
 
     // ========== allMatch ==========
@@ -154,11 +156,11 @@ public interface CollectionTerm<S extends ChainCore<S>> {
     }
 
     default <T> S allMatch(Collection<T> col, Predicate<T> predicate, ResponseCode code) {
-        return allMatch(col, predicate, s -> s.responseCode(code));
+        return core().check(CollectionChecks.allMatch(col, predicate), code, null);
     }
 
     default <T> S allMatch(Collection<T> col, Predicate<T> predicate, ResponseCode code, String detail) {
-        return allMatch(col, predicate, s -> s.responseCode(code).detail(detail));
+        return core().check(CollectionChecks.allMatch(col, predicate), code, detail);
     }
 
     // ========== anyMatch ==========
@@ -172,10 +174,10 @@ public interface CollectionTerm<S extends ChainCore<S>> {
     }
 
     default <T> S anyMatch(Collection<T> col, Predicate<T> predicate, ResponseCode code) {
-        return anyMatch(col, predicate, s -> s.responseCode(code));
+        return core().check(CollectionChecks.anyMatch(col, predicate), code, null);
     }
 
     default <T> S anyMatch(Collection<T> col, Predicate<T> predicate, ResponseCode code, String detail) {
-        return anyMatch(col, predicate, s -> s.responseCode(code).detail(detail));
+        return core().check(CollectionChecks.anyMatch(col, predicate), code, detail);
     }
 }
\ No newline at end of file
@@ -26,11 +26,11 @@ public interface CustomTerm<S extends ChainCore<S>> {
     }
 
     default <T> S satisfies(T value, Predicate<T> condition, ResponseCode code) {
-        return satisfies(value, condition, s -> s.responseCode(code));
+        return core().check(value != null && condition.test(value), code, null);
     }
 
     default <T> S satisfies(T value, Predicate<T> condition, ResponseCode code, String detail) {
-        return satisfies(value, condition, s -> s.responseCode(code).detail(detail));
+        return core().check(value != null && condition.test(value), code, detail);
     }
 
     // ========== compare ==========
@@ -44,10 +44,10 @@ public interface CustomTerm<S extends ChainCore<S>> {
     }
 
     default <T> S compare(T field1, T field2, Comparator<T> comparator, ResponseCode code) {
-        return compare(field1, field2, comparator, s -> s.responseCode(code));
+        return core().check(comparator.compare(field1, field2) == 0, code, null);
     }
 
     default <T> S compare(T field1, T field2, Comparator<T> comparator, ResponseCode code, String detail) {
-        return compare(field1, field2, comparator, s -> s.responseCode(code).detail(detail));
+        return core().check(comparator.compare(field1, field2) == 0, code, detail);
     }
 }
\ No newline at end of file
@@ -31,11 +31,11 @@ public interface DateTerm<S extends ChainCore<S>> {
     }
 
     default S after(Date d1, Date d2, ResponseCode code) {
-        return after(d1, d2, s -> s.responseCode(code));
+        return core().check(DateChecks.after(d1, d2), code, null);
     }
 
     default S after(Date d1, Date d2, ResponseCode code, String detail) {
-        return after(d1, d2, s -> s.responseCode(code).detail(detail));
+        return core().check(DateChecks.after(d1, d2), code, detail);
     }
 
     default S before(Date d1, Date d2, Consumer<ViolationSpec> spec) {
@@ -47,11 +47,11 @@ public interface DateTerm<S extends ChainCore<S>> {
     }
 
     default S before(Date d1, Date d2, ResponseCode code) {
-        return before(d1, d2, s -> s.responseCode(code));
+        return core().check(DateChecks.before(d1, d2), code, null);
     }
 
     default S before(Date d1, Date d2, ResponseCode code, String detail) {
-        return before(d1, d2, s -> s.responseCode(code).detail(detail));
+        return core().check(DateChecks.before(d1, d2), code, detail);
     }
 
     // ----- isPast / isFuture (Date) -----
@@ -65,11 +65,11 @@ public interface DateTerm<S extends ChainCore<S>> {
     }
 
     default S isPast(Date date, ResponseCode code) {
-        return isPast(date, s -> s.responseCode(code));
+        return core().check(DateChecks.isPast(date), code, null);
     }
 
     default S isPast(Date date, ResponseCode code, String detail) {
-        return isPast(date, s -> s.responseCode(code).detail(detail));
+        return core().check(DateChecks.isPast(date), code, detail);
     }
 
     default S isFuture(Date date, Consumer<ViolationSpec> spec) {
@@ -81,11 +81,11 @@ public interface DateTerm<S extends ChainCore<S>> {
     }
 
     default S isFuture(Date date, ResponseCode code) {
-        return isFuture(date, s -> s.responseCode(code));
+        return core().check(DateChecks.isFuture(date), code, null);
     }
 
     default S isFuture(Date date, ResponseCode code, String detail) {
-        return isFuture(date, s -> s.responseCode(code).detail(detail));
+        return core().check(DateChecks.isFuture(date), code, detail);
     }
 
     // ==================== 泛型 Comparable ====================
@@ -99,11 +99,11 @@ public interface DateTerm<S extends ChainCore<S>> {
     }
 
     default <T extends Comparable<T>> S after(T t1, T t2, ResponseCode code) {
-        return after(t1, t2, s -> s.responseCode(code));
+        return core().check(DateChecks.after(t1, t2), code, null);
     }
 
     default <T extends Comparable<T>> S after(T t1, T t2, ResponseCode code, String detail) {
-        return after(t1, t2, s -> s.responseCode(code).detail(detail));
+        return core().check(DateChecks.after(t1, t2), code, detail);
     }
 
     default <T extends Comparable<T>> S before(T t1, T t2, Consumer<ViolationSpec> spec) {
@@ -115,11 +115,11 @@ public interface DateTerm<S extends ChainCore<S>> {
     }
 
     default <T extends Comparable<T>> S before(T t1, T t2, ResponseCode code) {
-        return before(t1, t2, s -> s.responseCode(code));
+        return core().check(DateChecks.before(t1, t2), code, null);
     }
 
     default <T extends Comparable<T>> S before(T t1, T t2, ResponseCode code, String detail) {
-        return before(t1, t2, s -> s.responseCode(code).detail(detail));
+        return core().check(DateChecks.before(t1, t2), code, detail);
     }
 
     default <T extends Comparable<T>> S afterOrEqual(T t1, T t2, Consumer<ViolationSpec> spec) {
@@ -131,11 +131,11 @@ public interface DateTerm<S extends ChainCore<S>> {
     }
 
     default <T extends Comparable<T>> S afterOrEqual(T t1, T t2, ResponseCode code) {
-        return afterOrEqual(t1, t2, s -> s.responseCode(code));
+        return core().check(DateChecks.afterOrEqual(t1, t2), code, null);
     }
 
     default <T extends Comparable<T>> S afterOrEqual(T t1, T t2, ResponseCode code, String detail) {
-        return afterOrEqual(t1, t2, s -> s.responseCode(code).detail(detail));
+        return core().check(DateChecks.afterOrEqual(t1, t2), code, detail);
     }
 
     default <T extends Comparable<T>> S beforeOrEqual(T t1, T t2, Consumer<ViolationSpec> spec) {
@@ -147,11 +147,11 @@ public interface DateTerm<S extends ChainCore<S>> {
     }
 
     default <T extends Comparable<T>> S beforeOrEqual(T t1, T t2, ResponseCode code) {
-        return beforeOrEqual(t1, t2, s -> s.responseCode(code));
+        return core().check(DateChecks.beforeOrEqual(t1, t2), code, null);
     }
 
     default <T extends Comparable<T>> S beforeOrEqual(T t1, T t2, ResponseCode code, String detail) {
-        return beforeOrEqual(t1, t2, s -> s.responseCode(code).detail(detail));
+        return core().check(DateChecks.beforeOrEqual(t1, t2), code, detail);
     }
 
     default <T extends Comparable<T>> S between(T value, T start, T end, Consumer<ViolationSpec> spec) {
@@ -163,11 +163,11 @@ public interface DateTerm<S extends ChainCore<S>> {
     }
 
     default <T extends Comparable<T>> S between(T value, T start, T end, ResponseCode code) {
-        return between(value, start, end, s -> s.responseCode(code));
+        return core().check(DateChecks.between(value, start, end), code, null);
     }
 
     default <T extends Comparable<T>> S between(T value, T start, T end, ResponseCode code, String detail) {
-        return between(value, start, end, s -> s.responseCode(code).detail(detail));
+        return core().check(DateChecks.between(value, start, end), code, detail);
     }
 
     // ==================== ChronoLocalDate (LocalDate) ====================
@@ -181,11 +181,11 @@ public interface DateTerm<S extends ChainCore<S>> {
     }
 
     default S isPast(ChronoLocalDate date, ResponseCode code) {
-        return isPast(date, s -> s.responseCode(code));
+        return core().check(DateChecks.isPast(date), code, null);
     }
 
     default S isPast(ChronoLocalDate date, ResponseCode code, String detail) {
-        return isPast(date, s -> s.responseCode(code).detail(detail));
+        return core().check(DateChecks.isPast(date), code, detail);
     }
 
     default S isFuture(ChronoLocalDate date, Consumer<ViolationSpec> spec) {
@@ -197,11 +197,11 @@ public interface DateTerm<S extends ChainCore<S>> {
     }
 
     default S isFuture(ChronoLocalDate date, ResponseCode code) {
-        return isFuture(date, s -> s.responseCode(code));
+        return core().check(DateChecks.isFuture(date), code, null);
     }
 
     default S isFuture(ChronoLocalDate date, ResponseCode code, String detail) {
-        return isFuture(date, s -> s.responseCode(code).detail(detail));
+        return core().check(DateChecks.isFuture(date), code, detail);
     }
 
     default S isToday(LocalDate date, Consumer<ViolationSpec> spec) {
@@ -213,11 +213,11 @@ public interface DateTerm<S extends ChainCore<S>> {
     }
 
     default S isToday(LocalDate date, ResponseCode code) {
-        return isToday(date, s -> s.responseCode(code));
+        return core().check(DateChecks.isToday(date), code, null);
     }
 
     default S isToday(LocalDate date, ResponseCode code, String detail) {
-        return isToday(date, s -> s.responseCode(code).detail(detail));
+        return core().check(DateChecks.isToday(date), code, detail);
     }
 
     // ==================== ChronoLocalDateTime (LocalDateTime) ====================
@@ -231,11 +231,11 @@ public interface DateTerm<S extends ChainCore<S>> {
     }
 
     default S isPast(ChronoLocalDateTime<?> dateTime, ResponseCode code) {
-        return isPast(dateTime, s -> s.responseCode(code));
+        return core().check(DateChecks.isPast(dateTime), code, null);
     }
 
     default S isPast(ChronoLocalDateTime<?> dateTime, ResponseCode code, String detail) {
-        return isPast(dateTime, s -> s.responseCode(code).detail(detail));
+        return core().check(DateChecks.isPast(dateTime), code, detail);
     }
 
     default S isFuture(ChronoLocalDateTime<?> dateTime, Consumer<ViolationSpec> spec) {
@@ -247,11 +247,11 @@ public interface DateTerm<S extends ChainCore<S>> {
     }
 
     default S isFuture(ChronoLocalDateTime<?> dateTime, ResponseCode code) {
-        return isFuture(dateTime, s -> s.responseCode(code));
+        return core().check(DateChecks.isFuture(dateTime), code, null);
     }
 
     default S isFuture(ChronoLocalDateTime<?> dateTime, ResponseCode code, String detail) {
-        return isFuture(dateTime, s -> s.responseCode(code).detail(detail));
+        return core().check(DateChecks.isFuture(dateTime), code, detail);
     }
 
 
@@ -266,11 +266,11 @@ public interface DateTerm<S extends ChainCore<S>> {
     }
 
     default S isPast(Instant instant, ResponseCode code) {
-        return isPast(instant, s -> s.responseCode(code));
+        return core().check(DateChecks.isPast(instant), code, null);
     }
 
     default S isPast(Instant instant, ResponseCode code, String detail) {
-        return isPast(instant, s -> s.responseCode(code).detail(detail));
+        return core().check(DateChecks.isPast(instant), code, detail);
     }
 
     default S isFuture(Instant instant, Consumer<ViolationSpec> spec) {
@@ -282,11 +282,11 @@ public interface DateTerm<S extends ChainCore<S>> {
     }
 
     default S isFuture(Instant instant, ResponseCode code) {
-        return isFuture(instant, s -> s.responseCode(code));
+        return core().check(DateChecks.isFuture(instant), code, null);
     }
 
     default S isFuture(Instant instant, ResponseCode code, String detail) {
-        return isFuture(instant, s -> s.responseCode(code).detail(detail));
+        return core().check(DateChecks.isFuture(instant), code, detail);
     }
 
     // ==================== ChronoZonedDateTime (ZonedDateTime) ====================
@@ -300,11 +300,11 @@ public interface DateTerm<S extends ChainCore<S>> {
     }
 
     default S isPast(ChronoZonedDateTime<?> zonedDateTime, ResponseCode code) {
-        return isPast(zonedDateTime, s -> s.responseCode(code));
+        return core().check(DateChecks.isPast(zonedDateTime), code, null);
     }
 
     default S isPast(ChronoZonedDateTime<?> zonedDateTime, ResponseCode code, String detail) {
-        return isPast(zonedDateTime, s -> s.responseCode(code).detail(detail));
+        return core().check(DateChecks.isPast(zonedDateTime), code, detail);
     }
 
     default S isFuture(ChronoZonedDateTime<?> zonedDateTime, Consumer<ViolationSpec> spec) {
@@ -316,10 +316,10 @@ public interface DateTerm<S extends ChainCore<S>> {
     }
 
     default S isFuture(ChronoZonedDateTime<?> zonedDateTime, ResponseCode code) {
-        return isFuture(zonedDateTime, s -> s.responseCode(code));
+        return core().check(DateChecks.isFuture(zonedDateTime), code, null);
     }
 
     default S isFuture(ChronoZonedDateTime<?> zonedDateTime, ResponseCode code, String detail) {
-        return isFuture(zonedDateTime, s -> s.responseCode(code).detail(detail));
+        return core().check(DateChecks.isFuture(zonedDateTime), code, detail);
     }
 }
\ No newline at end of file
@@ -26,11 +26,13 @@ public interface EnumTerm<S extends ChainCore<S>> {
     }
 
     default <E extends Enum<E>> S enumValue(Class<E> enumType, String value, ResponseCode code) {
-        return enumValue(enumType, value, s -> s.responseCode(code));
+        if (!core().isAlive()) return core();
+        return core().check(EnumChecks.enumValue(enumType, value), code, null);
     }
 
     default <E extends Enum<E>> S enumValue(Class<E> enumType, String value, ResponseCode code, String detail) {
-        return enumValue(enumType, value, s -> s.responseCode(code).detail(detail));
+        if (!core().isAlive()) return core();
+        return core().check(EnumChecks.enumValue(enumType, value), code, detail);
     }
 
     // ========== enumConstant ==========
@@ -44,10 +46,10 @@ public interface EnumTerm<S extends ChainCore<S>> {
     }
 
     default <E extends Enum<E>> S enumConstant(E value, Class<E> type, ResponseCode code) {
-        return enumConstant(value, type, s -> s.responseCode(code));
+        return core().check(EnumChecks.enumConstant(value, type), code, null);
     }
 
     default <E extends Enum<E>> S enumConstant(E value, Class<E> type, ResponseCode code, String detail) {
-        return enumConstant(value, type, s -> s.responseCode(code).detail(detail));
+        return core().check(EnumChecks.enumConstant(value, type), code, detail);
     }
 }
\ No newline at end of file
@@ -25,11 +25,11 @@ public interface IdentityTerm<S extends ChainCore<S>> {
     }
 
     default S same(Object obj1, Object obj2, ResponseCode code) {
-        return same(obj1, obj2, s -> s.responseCode(code));
+        return core().check(IdentityChecks.same(obj1, obj2), code, null);
     }
 
     default S same(Object obj1, Object obj2, ResponseCode code, String detail) {
-        return same(obj1, obj2, s -> s.responseCode(code).detail(detail));
+        return core().check(IdentityChecks.same(obj1, obj2), code, detail);
     }
 
     // ========== notSame ==========
@@ -43,11 +43,11 @@ public interface IdentityTerm<S extends ChainCore<S>> {
     }
 
     default S notSame(Object obj1, Object obj2, ResponseCode code) {
-        return notSame(obj1, obj2, s -> s.responseCode(code));
+        return core().check(IdentityChecks.notSame(obj1, obj2), code, null);
     }
 
     default S notSame(Object obj1, Object obj2, ResponseCode code, String detail) {
-        return notSame(obj1, obj2, s -> s.responseCode(code).detail(detail));
+        return core().check(IdentityChecks.notSame(obj1, obj2), code, detail);
     }
 
     // ========== equals ==========
@@ -61,11 +61,11 @@ public interface IdentityTerm<S extends ChainCore<S>> {
     }
 
     default S equals(Object obj1, Object obj2, ResponseCode code) {
-        return equals(obj1, obj2, s -> s.responseCode(code));
+        return core().check(IdentityChecks.equals(obj1, obj2), code, null);
     }
 
     default S equals(Object obj1, Object obj2, ResponseCode code, String detail) {
-        return equals(obj1, obj2, s -> s.responseCode(code).detail(detail));
+        return core().check(IdentityChecks.equals(obj1, obj2), code, detail);
     }
 
     // ========== notEquals ==========
@@ -79,10 +79,10 @@ public interface IdentityTerm<S extends ChainCore<S>> {
     }
 
     default S notEquals(Object obj1, Object obj2, ResponseCode code) {
-        return notEquals(obj1, obj2, s -> s.responseCode(code));
+        return core().check(IdentityChecks.notEquals(obj1, obj2), code, null);
     }
 
     default S notEquals(Object obj1, Object obj2, ResponseCode code, String detail) {
-        return notEquals(obj1, obj2, s -> s.responseCode(code).detail(detail));
+        return core().check(IdentityChecks.notEquals(obj1, obj2), code, detail);
     }
 }
\ No newline at end of file
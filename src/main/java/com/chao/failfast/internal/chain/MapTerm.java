@@ -26,11 +26,11 @@ public interface MapTerm<S extends ChainCore<S>> {
     }
 
     default S notEmpty(Map<?, ?> map, ResponseCode code) {
-        return notEmpty(map, s -> s.responseCode(code));
+        return core().check(MapChecks.notEmpty(map), code, null);
     }
 
     default S notEmpty(Map<?, ?> map, ResponseCode code, String detail) {
-        return notEmpty(map, s -> s.responseCode(code).detail(detail));
+        return core().check(MapChecks.notEmpty(map), code, detail);
     }
 
     // ========== isEmpty ==========
@@ -44,11 +44,11 @@ public interface MapTerm<S extends ChainCore<S>> {
     }
 
     default S isEmpty(Map<?, ?> map, ResponseCode code) {
-        return isEmpty(map, s -> s.responseCode(code));
+        return core().check(MapChecks.isEmpty(map), code, null);
     }
 
     default S isEmpty(Map<?, ?> map, ResponseCode code, String detail) {
-        return isEmpty(map, s -> s.responseCode(code).detail(detail));
+        return core().check(MapChecks.isEmpty(map), code, detail);
     }
 
     // ========== containsKey ==========
@@ -62,11 +62,11 @@ public interface MapTerm<S extends ChainCore<S>> {
     }
 
     default S containsKey(Map<?, ?> map, Object key, ResponseCode code) {
-        return containsKey(map, key, s -> s.responseCode(code));
+        return core().check(MapChecks.containsKey(map, key), code, null);
     }
 
     default S containsKey(Map<?, ?> map, Object key, ResponseCode code, String detail) {
-        return containsKey(map, key, s -> s.responseCode(code).detail(detail));
+        return core().check(MapChecks.containsKey(map, key), code, detail);
     }
 
     // ========== notContainsKey ==========
@@ -80,11 +80,11 @@ public interface MapTerm<S extends ChainCore<S>> {
     }
 
     default S notContainsKey(Map<?, ?> map, Object key, ResponseCode code) {
-        return notContainsKey(map, key, s -> s.responseCode(code));
+        return core().check(MapChecks.notContainsKey(map, key), code, null);
     }
 
     default S notContainsKey(Map<?, ?> map, Object key, ResponseCode code, String detail) {
-        return notContainsKey(map, key, s -> s.responseCode(code).detail(detail));
+        return core().check(MapChecks.notContainsKey(map, key), code, detail);
     }
 
     // ========== containsValue ==========
@@ -98,11 +98,11 @@ public interface MapTerm<S extends ChainCore<S>> {
     }
 
     default S containsValue(Map<?, ?> map, Object value, ResponseCode code) {
-        return containsValue(map, value, s -> s.responseCode(code));
+        return core().check(MapChecks.containsValue(map, value), code, null);
     }
 
     default S containsValue(Map<?, ?> map, Object value, ResponseCode code, String detail) {
-        return containsValue(map, value, s -> s.responseCode(code).detail(detail));
+        return core().check(MapChecks.containsValue(map, value), code, detail);
     }
 
     // ========== sizeBetween ==========
@@ -116,11 +116,11 @@ public interface MapTerm<S extends ChainCore<S>> {
     }
 
     default S sizeBetween(Map<?, ?> map, int min, int max, ResponseCode code) {
-        return sizeBetween(map, min, max, s -> s.responseCode(code));
+        return core().check(MapChecks.sizeBetween(map, min, max), code, null);
     }
 
     default S sizeBetween(Map<?, ?> map, int min, int max, ResponseCode code, String detail) {
-        return sizeBetween(map, min, max, s -> s.responseCode(code).detail(detail));
+        return core().check(MapChecks.sizeBetween(map, min, max), code, detail);
     }
 
     // ========== sizeEquals ==========
@@ -134,10 +134,10 @@ public interface MapTerm<S extends ChainCore<S>> {
     }
 
     default S sizeEquals(Map<?, ?> map, int size, ResponseCode code) {
-        return sizeEquals(map, size, s -> s.responseCode(code));
+        return core().check(MapChecks.sizeEquals(map, size), code, null);
     }
 
     default S sizeEquals(Map<?, ?> map, int size, ResponseCode code, String detail) {
-        return sizeEquals(map, size, s -> s.responseCode(code).detail(detail));
+        return core().check(MapChecks.sizeEquals(map, size), code, detail);
     }
 }
\ No newline at end of file
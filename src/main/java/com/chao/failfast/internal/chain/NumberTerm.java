@@ -26,11 +26,11 @@ public interface NumberTerm<S extends ChainCore<S>> {
     }
 
     default S positive(Number value, ResponseCode code) {
-        return positive(value, s -> s.responseCode(code));
+        return core().check(NumberChecks.positive(value), code, null);
     }
 
     default S positive(Number value, ResponseCode code, String detail) {
-        return positive(value, s -> s.responseCode(code).detail(detail));
+        return core().check(NumberChecks.positive(value), code, detail);
     }
 
     // ========== inRange ==========
@@ -45,11 +45,13 @@ public interface NumberTerm<S extends ChainCore<S>> {
     }
 
     default <T extends Number & Comparable<T>> S inRange(T value, T min, T max, ResponseCode code) {
-        return inRange(value, min, max, s -> s.responseCode(code));
+        if (!core().isAlive()) return core();
+        return core().check(NumberChecks.inRange(value, min, max), code, null);
     }
 
     default <T extends Number & Comparable<T>> S inRange(T value, T min, T max, ResponseCode code, String detail) {
-        return inRange(value, min, max, s -> s.responseCode(code).detail(detail));
+        if (!core().isAlive()) return core();
+        return core().check(NumberChecks.inRange(value, min, max), code, detail);
     }
 
     // ========== nonNegative ==========
@@ -63,11 +65,11 @@ public interface NumberTerm<S extends ChainCore<S>> {
     }
 
     default S nonNegative(Number value, ResponseCode code) {
-        return nonNegative(value, s -> s.responseCode(code));
+        return core().check(NumberChecks.nonNegative(value), code, null);
     }
 
     default S nonNegative(Number value, ResponseCode code, String detail) {
-        return nonNegative(value, s -> s.responseCode(code).detail(detail));
+        return core().check(NumberChecks.nonNegative(value), code, detail);
     }
 
     // ========== greaterThan ==========
@@ -81,11 +83,11 @@ public interface NumberTerm<S extends ChainCore<S>> {
     }
 
     default <T extends Number & Comparable<T>> S greaterThan(T value, T threshold, ResponseCode code) {
-        return greaterThan(value, threshold, s -> s.responseCode(code));
+        return core().check(NumberChecks.greaterThan(value, threshold), code, null);
     }
 
     default <T extends Number & Comparable<T>> S greaterThan(T value, T threshold, ResponseCode code, String detail) {
-        return greaterThan(value, threshold, s -> s.responseCode(code).detail(detail));
+        return core().check(NumberChecks.greaterThan(value, threshold), code, detail);
     }
 
     // ========== greaterOrEqual ==========
@@ -99,11 +101,11 @@ public interface NumberTerm<S extends ChainCore<S>> {
     }
 
     default <T extends Number & Comparable<T>> S greaterOrEqual(T value, T threshold, ResponseCode code) {
-        return greaterOrEqual(value, threshold, s -> s.responseCode(code));
+        return core().check(NumberChecks.greaterOrEqual(value, threshold), code, null);
     }
 
     default <T extends Number & Comparable<T>> S greaterOrEqual(T value, T threshold, ResponseCode code, String detail) {
-        return greaterOrEqual(value, threshold, s -> s.responseCode(code).detail(detail));
+        return core().check(NumberChecks.greaterOrEqual(value, threshold), code, detail);
     }
 
     // ========== lessThan ==========
@@ -117,11 +119,11 @@ public interface NumberTerm<S extends ChainCore<S>> {
     }
 
     default <T extends Number & Comparable<T>> S lessThan(T value, T threshold, ResponseCode code) {
-        return lessThan(value, threshold, s -> s.responseCode(code));
+        return core().check(NumberChecks.lessThan(value, threshold), code, null);
     }
 
     default <T extends Number & Comparable<T>> S lessThan(T value, T threshold, ResponseCode code, String detail) {
-        return lessThan(value, threshold, s -> s.responseCode(code).detail(detail));
+        return core().check(NumberChecks.lessThan(value, threshold), code, detail);
     }
 
     // ========== lessOrEqual ==========
@@ -135,11 +137,11 @@ public interface NumberTerm<S extends ChainCore<S>> {
     }
 
     default <T extends Number & Comparable<T>> S lessOrEqual(T value, T threshold, ResponseCode code) {
-        return lessOrEqual(value, threshold, s -> s.responseCode(code));
+        return core().check(NumberChecks.lessOrEqual(value, threshold), code, null);
     }
 
     default <T extends Number & Comparable<T>> S lessOrEqual(T value, T threshold, ResponseCode code, String detail) {
-        return lessOrEqual(value, threshold, s -> s.responseCode(code).detail(detail));
+        return core().check(NumberChecks.lessOrEqual(value, threshold), code, detail);
     }
 
     // ========== notZero ==========
@@ -153,11 +155,11 @@ public interface NumberTerm<S extends ChainCore<S>> {
     }
 
     default S notZero(Number value, ResponseCode code) {
-        return notZero(value, s -> s.responseCode(code));
+        return core().check(NumberChecks.notZero(value), code, null);
     }
 
     default S notZero(Number value, ResponseCode code, String detail) {
-        return notZero(value, s -> s.responseCode(code).detail(detail));
+        return core().check(NumberChecks.notZero(value), code, detail);
     }
 
     // ========== isZero ==========
@@ -171,11 +173,11 @@ public interface NumberTerm<S extends ChainCore<S>> {
     }
 
     default S isZero(Number value, ResponseCode code) {
-        return isZero(value, s -> s.responseCode(code));
+        return core().check(NumberChecks.isZero(value), code, null);
     }
 
     default S isZero(Number value, ResponseCode code, String detail) {
-        return isZero(value, s -> s.responseCode(code).detail(detail));
+        return core().check(NumberChecks.isZero(value), code, detail);
     }
 
     // ========== negative ==========
@@ -189,11 +191,11 @@ public interface NumberTerm<S extends ChainCore<S>> {
     }
 
     default S negative(Number value, ResponseCode code) {
-        return negative(value, s -> s.responseCode(code));
+        return core().check(NumberChecks.negative(value), code, null);
     }
 
     default S negative(Number value, ResponseCode code, String detail) {
-        return negative(value, s -> s.responseCode(code).detail(detail));
+        return core().check(NumberChecks.negative(value), code, detail);
     }
 
     // ========== multipleOf ==========
@@ -207,11 +209,11 @@ public interface NumberTerm<S extends ChainCore<S>> {
     }
 
     default S multipleOf(Number value, Number divisor, ResponseCode code) {
-        return multipleOf(value, divisor, s -> s.responseCode(code));
+        return core().check(NumberChecks.multipleOf(value, divisor), code, null);
     }
 
     default S multipleOf(Number value, Number divisor, ResponseCode code, String detail) {
-        return multipleOf(value, divisor, s -> s.responseCode(code).detail(detail));
+        return core().check(NumberChecks.multipleOf(value, divisor), code, detail);
     }
 
     // ========== decimalScale ==========
@@ -225,11 +227,11 @@ public interface NumberTerm<S extends ChainCore<S>> {
     }
 
     default S decimalScale(BigDecimal value, int scale, ResponseCode code) {
-        return decimalScale(value, scale, s -> s.responseCode(code));
+        return core().check(NumberChecks.decimalScale(value, scale), code, null);
     }
 
     default S decimalScale(BigDecimal value, int scale, ResponseCode code, String detail) {
-        return decimalScale(value, scale, s -> s.responseCode(code).detail(detail));
+        return core().check(NumberChecks.decimalScale(value, scale), code, detail);
     }
     // 在 NumberValidation 接口中添加：
 
@@ -263,10 +265,428 @@ public interface NumberTerm<S extends ChainCore<S>> {
     }
 
     default S inRangeNumber(Number v, Number min, Number max, ResponseCode code) {
-        return inRangeNumber(v, min, max, s -> s.responseCode(code));
+        if (!core().isAlive()) return core();
+        return core().check(NumberChecks.inRangeNumber(v, min, max), code, null);
     }
 
     default S inRangeNumber(Number v, Number min, Number max, ResponseCode code, String detail) {
-        return inRangeNumber(v, min, max, s -> s.responseCode(code).detail(detail));
+        if (!core().isAlive()) return core();
+        return core().check(NumberChecks.inRangeNumber(v, min, max), code, detail);
+    }
+
+// ========== 基本类型特化（无装箱） ==========
+
+    // ========== positive(long) ==========
+
+    default S positive(long value, Consumer<ViolationSpec> spec) {
+        return core().check(NumberChecks.positive(value), spec);
+    }
+
+    default S positive(long value) {
+        return positive(value, FailureConst.NO_OP);
+    }
+
+    default S positive(long value, ResponseCode code) {
+        return core().check(NumberChecks.positive(value), code, null);
+    }
+
+    default S positive(long value, ResponseCode code, String detail) {
+        return core().check(NumberChecks.positive(value), code, detail);
+    }
+
+    // ========== positive(double) ==========
+
+    default S positive(double value, Consumer<ViolationSpec> spec) {
+        return core().check(NumberChecks.positive(value), spec);
+    }
+
+    default S positive(double value) {
+        return positive(value, FailureConst.NO_OP);
+    }
+
+    default S positive(double value, ResponseCode code) {
+        return core().check(NumberChecks.positive(value), code, null);
+    }
+
+    default S positive(double value, ResponseCode code, String detail) {
+        return core().check(NumberChecks.positive(value), code, detail);
+    }
+
+    // ========== nonNegative(long) ==========
+
+    default S nonNegative(long value, Consumer<ViolationSpec> spec) {
+        return core().check(NumberChecks.nonNegative(value), spec);
+    }
+
+    default S nonNegative(long value) {
+        return nonNegative(value, FailureConst.NO_OP);
+    }
+
+    default S nonNegative(long value, ResponseCode code) {
+        return core().check(NumberChecks.nonNegative(value), code, null);
+    }
+
+    default S nonNegative(long value, ResponseCode code, String detail) {
+        return core().check(NumberChecks.nonNegative(value), code, detail);
+    }
+
+    // ========== nonNegative(double) ==========
+
+    default S nonNegative(double value, Consumer<ViolationSpec> spec) {
+        return core().check(NumberChecks.nonNegative(value), spec);
+    }
+
+    default S nonNegative(double value) {
+        return nonNegative(value, FailureConst.NO_OP);
+    }
+
+    default S nonNegative(double value, ResponseCode code) {
+        return core().check(NumberChecks.nonNegative(value), code, null);
+    }
+
+    default S nonNegative(double value, ResponseCode code, String detail) {
+        return core().check(NumberChecks.nonNegative(value), code, detail);
+    }
+
+    // ========== notZero(long) ==========
+
+    default S notZero(long value, Consumer<ViolationSpec> spec) {
+        return core().check(NumberChecks.notZero(value), spec);
+    }
+
+    default S notZero(long value) {
+        return notZero(value, FailureConst.NO_OP);
+    }
+
+    default S notZero(long value, ResponseCode code) {
+        return core().check(NumberChecks.notZero(value), code, null);
+    }
+
+    default S notZero(long value, ResponseCode code, String detail) {
+        return core().check(NumberChecks.notZero(value), code, detail);
+    }
+
+    // ========== notZero(double) ==========
+
+    default S notZero(double value, Consumer<ViolationSpec> spec) {
+        return core().check(NumberChecks.notZero(value), spec);
+    }
+
+    default S notZero(double value) {
+        return notZero(value, FailureConst.NO_OP);
+    }
+
+    default S notZero(double value, ResponseCode code) {
+        return core().check(NumberChecks.notZero(value), code, null);
+    }
+
+    default S notZero(double value, ResponseCode code, String detail) {
+        return core().check(NumberChecks.notZero(value), code, detail);
+    }
+
+    // ========== isZero(long) ==========
+
+    default S isZero(long value, Consumer<ViolationSpec> spec) {
+        return core().check(NumberChecks.isZero(value), spec);
+    }
+
+    default S isZero(long value) {
+        return isZero(value, FailureConst.NO_OP);
+    }
+
+    default S isZero(long value, ResponseCode code) {
+        return core().check(NumberChecks.isZero(value), code, null);
+    }
+
+    default S isZero(long value, ResponseCode code, String detail) {
+        return core().check(NumberChecks.isZero(value), code, detail);
+    }
+
+    // ========== isZero(double) ==========
+
+    default S isZero(double value, Consumer<ViolationSpec> spec) {
+        return core().check(NumberChecks.isZero(value), spec);
+    }
+
+    default S isZero(double value) {
+        return isZero(value, FailureConst.NO_OP);
+    }
+
+    default S isZero(double value, ResponseCode code) {
+        return core().check(NumberChecks.isZero(value), code, null);
+    }
+
+    default S isZero(double value, ResponseCode code, String detail) {
+        return core().check(NumberChecks.isZero(value), code, detail);
+    }
+
+    // ========== negative(long) ==========
+
+    default S negative(long value, Consumer<ViolationSpec> spec) {
+        return core().check(NumberChecks.negative(value), spec);
+    }
+
+    default S negative(long value) {
+        return negative(value, FailureConst.NO_OP);
+    }
+
+    default S negative(long value, ResponseCode code) {
+        return core().check(NumberChecks.negative(value), code, null);
+    }
+
+    default S negative(long value, ResponseCode code, String detail) {
+        return core().check(NumberChecks.negative(value), code, detail);
+    }
+
+    // ========== negative(double) ==========
+
+    default S negative(double value, Consumer<ViolationSpec> spec) {
+        return core().check(NumberChecks.negative(value), spec);
+    }
+
+    default S negative(double value) {
+        return negative(value, FailureConst.NO_OP);
+    }
+
+    default S negative(double value, ResponseCode code) {
+        return core().check(NumberChecks.negative(value), code, null);
+    }
+
+    default S negative(double value, ResponseCode code, String detail) {
+        return core().check(NumberChecks.negative(value), code, detail);
+    }
+
+    // ========== inRangeLong ==========
+
+    default S inRangeLong(long value, long min, long max, Consumer<ViolationSpec> spec) {
+        return core().check(NumberChecks.inRangeLong(value, min, max), spec);
+    }
+
+    default S inRangeLong(long value, long min, long max) {
+        return inRangeLong(value, min, max, FailureConst.NO_OP);
+    }
+
+    default S inRangeLong(long value, long min, long max, ResponseCode code) {
+        return core().check(NumberChecks.inRangeLong(value, min, max), code, null);
+    }
+
+    default S inRangeLong(long value, long min, long max, ResponseCode code, String detail) {
+        return core().check(NumberChecks.inRangeLong(value, min, max), code, detail);
+    }
+
+    // ========== inRangeDouble ==========
+
+    default S inRangeDouble(double value, double min, double max, Consumer<ViolationSpec> spec) {
+        return core().check(NumberChecks.inRangeDouble(value, min, max), spec);
+    }
+
+    default S inRangeDouble(double value, double min, double max) {
+        return inRangeDouble(value, min, max, FailureConst.NO_OP);
+    }
+
+    default S inRangeDouble(double value, double min, double max, ResponseCode code) {
+        return core().check(NumberChecks.inRangeDouble(value, min, max), code, null);
+    }
+
+    default S inRangeDouble(double value, double min, double max, ResponseCode code, String detail) {
+        return core().check(NumberChecks.inRangeDouble(value, min, max), code, detail);
+    }
+
+    // ========== greaterThanLong ==========
+
+    default S greaterThanLong(long value, long threshold, Consumer<ViolationSpec> spec) {
+        return core().check(NumberChecks.greaterThanLong(value, threshold), spec);
+    }
+
+    default S greaterThanLong(long value, long threshold) {
+        return greaterThanLong(value, threshold, FailureConst.NO_OP);
+    }
+
+    default S greaterThanLong(long value, long threshold, ResponseCode code) {
+        return core().check(NumberChecks.greaterThanLong(value, threshold), code, null);
+    }
+
+    default S greaterThanLong(long value, long threshold, ResponseCode code, String detail) {
+        return core().check(NumberChecks.greaterThanLong(value, threshold), code, detail);
+    }
+
+    // ========== greaterThanDouble ==========
+
+    default S greaterThanDouble(double value, double threshold, Consumer<ViolationSpec> spec) {
+        return core().check(NumberChecks.greaterThanDouble(value, threshold), spec);
+    }
+
+    default S greaterThanDouble(double value, double threshold) {
+        return greaterThanDouble(value, threshold, FailureConst.NO_OP);
+    }
+
+    default S greaterThanDouble(double value, double threshold, ResponseCode code) {
+        return core().check(NumberChecks.greaterThanDouble(value, threshold), code, null);
+    }
+
+    default S greaterThanDouble(double value, double threshold, ResponseCode code, String detail) {
+        return core().check(NumberChecks.greaterThanDouble(value, threshold), code, detail);
+    }
+
+    // ========== greaterOrEqualLong ==========
+
+    default S greaterOrEqualLong(long value, long threshold, Consumer<ViolationSpec> spec) {
+        return core().check(NumberChecks.greaterOrEqualLong(value, threshold), spec);
+    }
+
+    default S greaterOrEqualLong(long value, long threshold) {
+        return greaterOrEqualLong(value, threshold, FailureConst.NO_OP);
+    }
+
+    default S greaterOrEqualLong(long value, long threshold, ResponseCode code) {
+        return core().check(NumberChecks.greaterOrEqualLong(value, threshold), code, null);
+    }
+
+    default S greaterOrEqualLong(long value, long threshold, ResponseCode code, String detail) {
+        return core().check(NumberChecks.greaterOrEqualLong(value, threshold), code, detail);
+    }
+
+    // ========== greaterOrEqualDouble ==========
+
+    default S greaterOrEqualDouble(double value, double threshold, Consumer<ViolationSpec> spec) {
+        return core().check(NumberChecks.greaterOrEqualDouble(value, threshold), spec);
+    }
+
+    default S greaterOrEqualDouble(double value, double threshold) {
+        return greaterOrEqualDouble(value, threshold, FailureConst.NO_OP);
+    }
+
+    default S greaterOrEqualDouble(double value, double threshold, ResponseCode code) {
+        return core().check(NumberChecks.greaterOrEqualDouble(value, threshold), code, null);
+    }
+
+    default S greaterOrEqualDouble(double value, double threshold, ResponseCode code, String detail) {
+        return core().check(NumberChecks.greaterOrEqualDouble(value, threshold), code, detail);
+    }
+
+    // ========== lessThanLong ==========
+
+    default S lessThanLong(long value, long threshold, Consumer<ViolationSpec> spec) {
+        return core().check(NumberChecks.lessThanLong(value, threshold), spec);
+    }
+
+    default S lessThanLong(long value, long threshold) {
+        return lessThanLong(value, threshold, FailureConst.NO_OP);
+    }
+
+    default S lessThanLong(long value, long threshold, ResponseCode code) {
+        return core().check(NumberChecks.lessThanLong(value, threshold), code, null);
+    }
+
+    default S lessThanLong(long value, long threshold, ResponseCode code, String detail) {
+        return core().check(NumberChecks.lessThanLong(value, threshold), code, detail);
+    }
+
+    // ========== lessThanDouble ==========
+
+    default S lessThanDouble(double value, double threshold, Consumer<ViolationSpec> spec) {
+        return core().check(NumberChecks.lessThanDouble(value, threshold), spec);
+    }
+
+    default S lessThanDouble(double value, double threshold) {
+        return lessThanDouble(value, threshold, FailureConst.NO_OP);
+    }
+
+    default S lessThanDouble(double value, double threshold, ResponseCode code) {
+        return core().check(NumberChecks.lessThanDouble(value, threshold), code, null);
+    }
+
+    default S lessThanDouble(double value, double threshold, ResponseCode code, String detail) {
+        return core().check(NumberChecks.lessThanDouble(value, threshold), code, detail);
+    }
+
+    // ========== lessOrEqualLong ==========
+
+    default S lessOrEqualLong(long value, long threshold, Consumer<ViolationSpec> spec) {
+        return core().check(NumberChecks.lessOrEqualLong(value, threshold), spec);
+    }
+
+    default S lessOrEqualLong(long value, long threshold) {
+        return lessOrEqualLong(value, threshold, FailureConst.NO_OP);
+    }
+
+    default S lessOrEqualLong(long value, long threshold, ResponseCode code) {
+        return core().check(NumberChecks.lessOrEqualLong(value, threshold), code, null);
+    }
+
+    default S lessOrEqualLong(long value, long threshold, ResponseCode code, String detail) {
+        return core().check(NumberChecks.lessOrEqualLong(value, threshold), code, detail);
+    }
+
+    // ========== lessOrEqualDouble ==========
+
+    default S lessOrEqualDouble(double value, double threshold, Consumer<ViolationSpec> spec) {
+        return core().check(NumberChecks.lessOrEqualDouble(value, threshold), spec);
+    }
+
+    default S lessOrEqualDouble(double value, double threshold) {
+        return lessOrEqualDouble(value, threshold, FailureConst.NO_OP);
+    }
+
+    default S lessOrEqualDouble(double value, double threshold, ResponseCode code) {
+        return core().check(NumberChecks.lessOrEqualDouble(value, threshold), code, null);
+    }
+
+    default S lessOrEqualDouble(double value, double threshold, ResponseCode code, String detail) {
+        return core().check(NumberChecks.lessOrEqualDouble(value, threshold), code, detail);
+    }
+
+    // ========== multipleOfLong ==========
+
+    default S multipleOfLong(long value, long divisor, Consumer<ViolationSpec> spec) {
+        return core().check(NumberChecks.multipleOfLong(value, divisor), spec);
+    }
+
+    default S multipleOfLong(long value, long divisor) {
+        return multipleOfLong(value, divisor, FailureConst.NO_OP);
+    }
+
+    default S multipleOfLong(long value, long divisor, ResponseCode code) {
+        return core().check(NumberChecks.multipleOfLong(value, divisor), code, null);
+    }
+
+    default S multipleOfLong(long value, long divisor, ResponseCode code, String detail) {
+        return core().check(NumberChecks.multipleOfLong(value, divisor), code, detail);
+    }
+
+    // ========== decimalDigits ==========
+
+    default S decimalDigits(BigDecimal value, int integer, int fraction, Consumer<ViolationSpec> spec) {
+        return core().check(NumberChecks.decimalDigits(value, integer, fraction), spec);
+    }
+
+    default S decimalDigits(BigDecimal value, int integer, int fraction) {
+        return decimalDigits(value, integer, fraction, FailureConst.NO_OP);
+    }
+
+    default S decimalDigits(BigDecimal value, int integer, int fraction, ResponseCode code) {
+        return core().check(NumberChecks.decimalDigits(value, integer, fraction), code, null);
+    }
+
+    default S decimalDigits(BigDecimal value, int integer, int fraction, ResponseCode code, String detail) {
+        return core().check(NumberChecks.decimalDigits(value, integer, fraction), code, detail);
+    }
+
+    // ========== decimalPrecision ==========
+
+    default S decimalPrecision(BigDecimal value, int precision, Consumer<ViolationSpec> spec) {
+        return core().check(NumberChecks.decimalPrecision(value, precision), spec);
+    }
+
+    default S decimalPrecision(BigDecimal value, int precision) {
+        return decimalPrecision(value, precision, FailureConst.NO_OP);
+    }
+
+    default S decimalPrecision(BigDecimal value, int precision, ResponseCode code) {
+        return core().check(NumberChecks.decimalPrecision(value, precision), code, null);
+    }
+
+    default S decimalPrecision(BigDecimal value, int precision, ResponseCode code, String detail) {
+        return core().check(NumberChecks.decimalPrecision(value, precision), code, detail);
     }
-}
\ No newline at end of file
+}
@@ -25,11 +25,11 @@ public interface ObjectTerm<S extends ChainCore<S>> {
     }
 
     default S notNull(Object obj, ResponseCode code) {
-        return notNull(obj, s -> s.responseCode(code));
+        return core().check(ObjectChecks.exists(obj), code, null);
     }
 
     default S notNull(Object obj, ResponseCode code, String detail) {
-        return notNull(obj, s -> s.responseCode(code).detail(detail));
+        return core().check(ObjectChecks.exists(obj), code, detail);
     }
 
     default S exists(Object obj, Consumer<ViolationSpec> spec) {
@@ -59,11 +59,11 @@ public interface ObjectTerm<S extends ChainCore<S>> {
     }
 
     default S isNull(Object obj, ResponseCode code) {
-        return isNull(obj, s -> s.responseCode(code));
+        return core().check(ObjectChecks.isNull(obj), code, null);
     }
 
     default S isNull(Object obj, ResponseCode code, String detail) {
-        return isNull(obj, s -> s.responseCode(code).detail(detail));
+        return core().check(ObjectChecks.isNull(obj), code, detail);
     }
 
     // ========== instanceOf ==========
@@ -77,11 +77,11 @@ public interface ObjectTerm<S extends ChainCore<S>> {
     }
 
     default S instanceOf(Object obj, Class<?> type, ResponseCode code) {
-        return instanceOf(obj, type, s -> s.responseCode(code));
+        return core().check(ObjectChecks.instanceOf(obj, type), code, null);
     }
 
     default S instanceOf(Object obj, Class<?> type, ResponseCode code, String detail) {
-        return instanceOf(obj, type, s -> s.responseCode(code).detail(detail));
+        return core().check(ObjectChecks.instanceOf(obj, type), code, detail);
     }
 
     // ========== notInstanceOf ==========
@@ -95,11 +95,11 @@ public interface ObjectTerm<S extends ChainCore<S>> {
     }
 
     default S notInstanceOf(Object obj, Class<?> type, ResponseCode code) {
-        return notInstanceOf(obj, type, s -> s.responseCode(code));
+        return core().check(ObjectChecks.notInstanceOf(obj, type), code, null);
     }
 
     default S notInstanceOf(Object obj, Class<?> type, ResponseCode code, String detail) {
-        return notInstanceOf(obj, type, s -> s.responseCode(code).detail(detail));
+        return core().check(ObjectChecks.notInstanceOf(obj, type), code, detail);
     }
 
     // ========== allNotNull ==========
@@ -115,7 +115,7 @@ public interface ObjectTerm<S extends ChainCore<S>> {
     }
 
     default S allNotNull(ResponseCode code, Object... objs) {
-        return allNotNull(s -> s.responseCode(code), objs);
+        return core().check(ObjectChecks.allNotNull(objs), code, null);
     }
 
     /**
@@ -127,6 +127,6 @@ public interface ObjectTerm<S extends ChainCore<S>> {
      * @return 返回当前构建器实例S，支持链式调用
      */
     default S allNotNull(ResponseCode code, String detail, Object... objs) {
-        return allNotNull(s -> s.responseCode(code).detail(detail), objs);
+        return core().check(ObjectChecks.allNotNull(objs), code, detail);
     }
 }
\ No newline at end of file
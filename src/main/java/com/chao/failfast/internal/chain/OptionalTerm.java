@@ -26,11 +26,11 @@ public interface OptionalTerm<S extends ChainCore<S>> {
     }
 
     default S isPresent(Optional<?> opt, ResponseCode code) {
-        return isPresent(opt, s -> s.responseCode(code));
+        return core().check(OptionalChecks.isPresent(opt), code, null);
     }
 
     default S isPresent(Optional<?> opt, ResponseCode code, String detail) {
-        return isPresent(opt, s -> s.responseCode(code).detail(detail));
+        return core().check(OptionalChecks.isPresent(opt), code, detail);
     }
 
     // ========== isEmpty ==========
@@ -44,10 +44,10 @@ public interface OptionalTerm<S extends ChainCore<S>> {
     }
 
     default S isEmpty(Optional<?> opt, ResponseCode code) {
-        return isEmpty(opt, s -> s.responseCode(code));
+        return core().check(OptionalChecks.isEmpty(opt), code, null);
     }
 
     default S isEmpty(Optional<?> opt, ResponseCode code, String detail) {
-        return isEmpty(opt, s -> s.responseCode(code).detail(detail));
+        return core().check(OptionalChecks.isEmpty(opt), code, detail);
     }
 }
\ No newline at end of file
@@ -23,11 +23,11 @@ public interface StringTerm<S extends ChainCore<S>> {
     }
 
     default S notBlank(String str, ResponseCode code) {
-        return notBlank(str, s -> s.responseCode(code));
+        return core().check(StringChecks.notBlank(str), code, null);
     }
 
     default S notBlank(String str, ResponseCode code, String detail) {
-        return notBlank(str, s -> s.responseCode(code).detail(detail));
+        return core().check(StringChecks.notBlank(str), code, detail);
     }
 
     // ========== notEmpty (alias) ==========
@@ -59,11 +59,11 @@ public interface StringTerm<S extends ChainCore<S>> {
     }
 
     default S blank(String str, ResponseCode code) {
-        return blank(str, s -> s.responseCode(code));
+        return core().check(StringChecks.blank(str), code, null);
     }
 
     default S blank(String str, ResponseCode code, String detail) {
-        return blank(str, s -> s.responseCode(code).detail(detail));
+        return core().check(StringChecks.blank(str), code, detail);
     }
 
     // ========== lengthBetween ==========
@@ -78,11 +78,13 @@ public interface StringTerm<S extends ChainCore<S>> {
     }
 
     default S lengthBetween(String str, int min, int max, ResponseCode code) {
-        return lengthBetween(str, min, max, s -> s.responseCode(code));
+        if (!core().isAlive()) return core();
+        return core().check(StringChecks.lengthBetween(str, min, max), code, null);
     }
 
     default S lengthBetween(String str, int min, int max, ResponseCode code, String detail) {
-        return lengthBetween(str, min, max, s -> s.responseCode(code).detail(detail));
+        if (!core().isAlive()) return core();
+        return core().check(StringChecks.lengthBetween(str, min, max), code, detail);
     }
 
     // ========== lengthMin ==========
@@ -96,11 +98,11 @@ public interface StringTerm<S extends ChainCore<S>> {
     }
 
     default S lengthMin(String str, int min, ResponseCode code) {
-        return lengthMin(str, min, s -> s.responseCode(code));
+        return core().check(StringChecks.lengthMin(str, min), code, null);
     }
 
     default S lengthMin(String str, int min, ResponseCode code, String detail) {
-        return lengthMin(str, min, s -> s.responseCode(code).detail(detail));
+        return core().check(StringChecks.lengthMin(str, min), code, detail);
     }
 
     // ========== lengthMax ==========
@@ -114,11 +116,11 @@ public interface StringTerm<S extends ChainCore<S>> {
     }
 
     default S lengthMax(String str, int max, ResponseCode code) {
-        return lengthMax(str, max, s -> s.responseCode(code));
+        return core().check(StringChecks.lengthMax(str, max), code, null);
     }
 
     default S lengthMax(String str, int max, ResponseCode code, String detail) {
-        return lengthMax(str, max, s -> s.responseCode(code).detail(detail));
+        return core().check(StringChecks.lengthMax(str, max), code, detail);
     }
 
     // ========== match ==========
@@ -133,11 +135,13 @@ public interface StringTerm<S extends ChainCore<S>> {
     }
 
     default S match(String str, String regex, ResponseCode code) {
-        return match(str, regex, s -> s.responseCode(code));
+        if (!core().isAlive()) return core();
+        return core().check(StringChecks.match(str, regex), code, null);
     }
 
     default S match(String str, String regex, ResponseCode code, String detail) {
-        return match(str, regex, s -> s.responseCode(code).detail(detail));
+        if (!core().isAlive()) return core();
+        return core().check(StringChecks.match(str, regex), code, detail);
     }
 
     // ========== email ==========
@@ -151,11 +155,11 @@ public interface StringTerm<S extends ChainCore<S>> {
     }
 
     default S email(String email, ResponseCode code) {
-        return email(email, s -> s.responseCode(code));
+        return core().check(StringChecks.email(email), code, null);
     }
 
     default S email(String email, ResponseCode code, String detail) {
-        return email(email, s -> s.responseCode(code).detail(detail));
+        return core().check(StringChecks.email(email), code, detail);
     }
 
     // ========== mobile ==========
@@ -169,11 +173,11 @@ public interface StringTerm<S extends ChainCore<S>> {
     }
 
     default S mobile(String str, ResponseCode code) {
-        return mobile(str, s -> s.responseCode(code));
+        return core().check(StringChecks.mobile(str), code, null);
     }
 
     default S mobile(String str, ResponseCode code, String detail) {
-        return mobile(str, s -> s.responseCode(code).detail(detail));
+        return core().check(StringChecks.mobile(str), code, detail);
     }
 
     // ========== url ==========
@@ -187,11 +191,11 @@ public interface StringTerm<S extends ChainCore<S>> {
     }
 
     default S url(String str, ResponseCode code) {
-        return url(str, s -> s.responseCode(code));
+        return core().check(StringChecks.url(str), code, null);
     }
 
     default S url(String str, ResponseCode code, String detail) {
-        return url(str, s -> s.responseCode(code).detail(detail));
+        return core().check(StringChecks.url(str), code, detail);
     }
 
     // ========== ipAddress ==========
@@ -205,11 +209,11 @@ public interface StringTerm<S extends ChainCore<S>> {
     }
 
     default S ipAddress(String str, ResponseCode code) {
-        return ipAddress(str, s -> s.responseCode(code));
+        return core().check(StringChecks.ipAddress(str), code, null);
     }
 
     default S ipAddress(String str, ResponseCode code, String detail) {
-        return ipAddress(str, s -> s.responseCode(code).detail(detail));
+        return core().check(StringChecks.ipAddress(str), code, detail);
     }
 
     // ========== uuid ==========
@@ -223,11 +227,11 @@ public interface StringTerm<S extends ChainCore<S>> {
     }
 
     default S uuid(String str, ResponseCode code) {
-        return uuid(str, s -> s.responseCode(code));
+        return core().check(StringChecks.uuid(str), code, null);
     }
 
     default S uuid(String str, ResponseCode code, String detail) {
-        return uuid(str, s -> s.responseCode(code).detail(detail));
+        return core().check(StringChecks.uuid(str), code, detail);
     }
 
     // ========== isNumeric ==========
@@ -241,11 +245,11 @@ public interface StringTerm<S extends ChainCore<S>> {
     }
 
     default S isNumeric(String str, ResponseCode code) {
-        return isNumeric(str, s -> s.responseCode(code));
+        return core().check(StringChecks.isNumeric(str), code, null);
     }
 
     default S isNumeric(String str, ResponseCode code, String detail) {
-        return isNumeric(str, s -> s.responseCode(code).detail(detail));
+        return core().check(StringChecks.isNumeric(str), code, detail);
     }
 
     // ========== isAlpha ==========
@@ -259,11 +263,11 @@ public interface StringTerm<S extends ChainCore<S>> {
     }
 
     default S isAlpha(String str, ResponseCode code) {
-        return isAlpha(str, s -> s.responseCode(code));
+        return core().check(StringChecks.isAlpha(str), code, null);
     }
 
     default S isAlpha(String str, ResponseCode code, String detail) {
-        return isAlpha(str, s -> s.responseCode(code).detail(detail));
+        return core().check(StringChecks.isAlpha(str), code, detail);
     }
 
     // ========== isAlphanumeric ==========
@@ -277,11 +281,11 @@ public interface StringTerm<S extends ChainCore<S>> {
     }
 
     default S isAlphanumeric(String str, ResponseCode code) {
-        return isAlphanumeric(str, s -> s.responseCode(code));
+        return core().check(StringChecks.isAlphanumeric(str), code, null);
     }
 
     default S isAlphanumeric(String str, ResponseCode code, String detail) {
-        return isAlphanumeric(str, s -> s.responseCode(code).detail(detail));
+        return core().check(StringChecks.isAlphanumeric(str), code, detail);
     }
 
     // ========== startsWith ==========
@@ -295,11 +299,11 @@ public interface StringTerm<S extends ChainCore<S>> {
     }
 
     default S startsWith(String str, String prefix, ResponseCode code) {
-        return startsWith(str, prefix, s -> s.responseCode(code));
+        return core().check(StringChecks.startsWith(str, prefix), code, null);
     }
 
     default S startsWith(String str, String prefix, ResponseCode code, String detail) {
-        return startsWith(str, prefix, s -> s.responseCode(code).detail(detail));
+        return core().check(StringChecks.startsWith(str, prefix), code, detail);
     }
 
     // ========== endsWith ==========
@@ -313,11 +317,11 @@ public interface StringTerm<S extends ChainCore<S>> {
     }
 
     default S endsWith(String str, String suffix, ResponseCode code) {
-        return endsWith(str, suffix, s -> s.responseCode(code));
+        return core().check(StringChecks.endsWith(str, suffix), code, null);
     }
 
     default S endsWith(String str, String suffix, ResponseCode code, String detail) {
-        return endsWith(str, suffix, s -> s.responseCode(code).detail(detail));
+        return core().check(StringChecks.endsWith(str, suffix), code, detail);
     }
 
     // ========== contains ==========
@@ -331,11 +335,11 @@ public interface StringTerm<S extends ChainCore<S>> {
     }
 
     default S contains(String str, String substring, ResponseCode code) {
-        return contains(str, substring, s -> s.responseCode(code));
+        return core().check(StringChecks.contains(str, substring), code, null);
     }
 
     default S contains(String str, String substring, ResponseCode code, String detail) {
-        return contains(str, substring, s -> s.responseCode(code).detail(detail));
+        return core().check(StringChecks.contains(str, substring), code, detail);
     }
 
     // ========== notContains ==========
@@ -349,11 +353,11 @@ public interface StringTerm<S extends ChainCore<S>> {
     }
 
     default S notContains(String str, String substring, ResponseCode code) {
-        return notContains(str, substring, s -> s.responseCode(code));
+        return core().check(StringChecks.notContains(str, substring), code, null);
     }
 
     default S notContains(String str, String substring, ResponseCode code, String detail) {
-        return notContains(str, substring, s -> s.responseCode(code).detail(detail));
+        return core().check(StringChecks.notContains(str, substring), code, detail);
     }
     // 在 StringValidation 接口中添加：
 
@@ -368,11 +372,11 @@ public interface StringTerm<S extends ChainCore<S>> {
     }
 
     default S isLowerCase(String str, ResponseCode code) {
-        return isLowerCase(str, s -> s.responseCode(code));
+        return core().check(StringChecks.isLowerCase(str), code, null);
     }
 
     default S isLowerCase(String str, ResponseCode code, String detail) {
-        return isLowerCase(str, s -> s.responseCode(code).detail(detail));
+        return core().check(StringChecks.isLowerCase(str), code, detail);
     }
 
 // ========== isUpperCase ==========
@@ -386,11 +390,11 @@ public interface StringTerm<S extends ChainCore<S>> {
     }
 
     default S isUpperCase(String str, ResponseCode code) {
-        return isUpperCase(str, s -> s.responseCode(code));
+        return core().check(StringChecks.isUpperCase(str), code, null);
     }
 
     default S isUpperCase(String str, ResponseCode code, String detail) {
-        return isUpperCase(str, s -> s.responseCode(code).detail(detail));
+        return core().check(StringChecks.isUpperCase(str), code, detail);
     }
 
     // ========== equalsIgnoreCase ==========
@@ -404,10 +408,10 @@ public interface StringTerm<S extends ChainCore<S>> {
     }
 
     default S equalsIgnoreCase(String str1, String str2, ResponseCode code) {
-        return equalsIgnoreCase(str1, str2, s -> s.responseCode(code));
+        return core().check(StringChecks.equalsIgnoreCase(str1, str2), code, null);
     }
 
     default S equalsIgnoreCase(String str1, String str2, ResponseCode code, String detail) {
-        return equalsIgnoreCase(str1, str2, s -> s.responseCode(code).detail(detail));
+        return core().check(StringChecks.equalsIgnoreCase(str1, str2), code, detail);
     }
 }
\ No newline at end of file
@@ -1,5 +1,10 @@
 package com.chao.failfast.internal.check;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * 数值校验工具类
  * 提供各种数值校验的静态方法，用于检查数值是否满足特定条件
@@ -124,17 +129,39 @@ public final class NumberChecks {
 
     /**
      * 检查数值是否是另一个数的整数倍
+     * 整数类型使用long精确取模，BigDecimal/BigInteger使用精确的十进制取余，其余类型退化为double取模
      * @param value 要检查的数值
      * @param divisor 除数
      * @return 如果value是divisor的整数倍则返回true，否则返回false
      */
     public static boolean multipleOf(Number value, Number divisor) {
-        if (value == null || divisor == null || divisor.doubleValue() == 0) {
+        if (value == null || divisor == null) {
+            return false;
+        }
+        if (isIntegral(value) && isIntegral(divisor)) {
+            return multipleOfLong(value.longValue(), divisor.longValue());
+        }
+        if (isBig(value) || isBig(divisor)) {
+            BigDecimal d = toBigDecimal(divisor);
+            return d.signum() != 0 && toBigDecimal(value).remainder(d).signum() == 0;
+        }
+        if (divisor.doubleValue() == 0) {
             return false;
         }
         return value.doubleValue() % divisor.doubleValue() == 0;
     }
 
+    /**
+     * 检查long数值是否是另一个数的整数倍（精确、无装箱）
+     * @param value 要检查的数值
+     * @param divisor 除数
+     * @return 如果value是divisor的整数倍则返回true，除数为0时返回false
+     */
+    public static boolean multipleOfLong(long value, long divisor) {
+        // divisor为-1时直接返回true，避免 Long.MIN_VALUE % -1 的边界问题
+        return divisor != 0 && (divisor == -1 || value % divisor == 0);
+    }
+
     /**
      * 检查BigDecimal数值的小数位数是否符合指定要求
      * @param value 要检查的BigDecimal数值
@@ -144,4 +171,188 @@ public final class NumberChecks {
     public static boolean decimalScale(java.math.BigDecimal value, int scale) {
         return value != null && value.scale() == scale;
     }
+
+    /**
+     * 检查BigDecimal数值的整数位数和小数位数是否不超过限制（等价于 @Digits）
+     * 仅读取 precision/scale，不创建新的BigDecimal
+     * @param value 要检查的BigDecimal数值
+     * @param integer 最大整数位数
+     * @param fraction 最大小数位数
+     * @return 如果整数位数不超过integer且小数位数不超过fraction则返回true，否则返回false
+     */
+    public static boolean decimalDigits(BigDecimal value, int integer, int fraction) {
+        if (value == null) return false;
+        int scale = value.scale();
+        int integerDigits = value.precision() - scale;
+        return Math.max(scale, 0) <= fraction && integerDigits <= integer;
+    }
+
+    /**
+     * 检查BigDecimal数值的有效位数是否不超过指定精度
+     * @param value 要检查的BigDecimal数值
+     * @param precision 最大有效位数
+     * @return 如果有效位数不超过precision则返回true，否则返回false
+     */
+    public static boolean decimalPrecision(BigDecimal value, int precision) {
+        return value != null && value.precision() <= precision;
+    }
+
+    // ========== 基本类型特化（无装箱，int/short/byte 通过拓宽转换匹配 long 版本） ==========
+
+    /**
+     * 检查long数值是否为正数
+     */
+    public static boolean positive(long value) {
+        return value > 0;
+    }
+
+    /**
+     * 检查double数值是否为正数
+     */
+    public static boolean positive(double value) {
+        return value > 0;
+    }
+
+    /**
+     * 检查long数值是否为非负数
+     */
+    public static boolean nonNegative(long value) {
+        return value >= 0;
+    }
+
+    /**
+     * 检查double数值是否为非负数
+     */
+    public static boolean nonNegative(double value) {
+        return value >= 0;
+    }
+
+    /**
+     * 检查long数值是否不为零
+     */
+    public static boolean notZero(long value) {
+        return value != 0;
+    }
+
+    /**
+     * 检查double数值是否不为零
+     */
+    public static boolean notZero(double value) {
+        return value != 0.0;
+    }
+
+    /**
+     * 检查long数值是否为零
+     */
+    public static boolean isZero(long value) {
+        return value == 0;
+    }
+
+    /**
+     * 检查double数值是否为零
+     */
+    public static boolean isZero(double value) {
+        return value == 0.0;
+    }
+
+    /**
+     * 检查long数值是否为负数
+     */
+    public static boolean negative(long value) {
+        return value < 0;
+    }
+
+    /**
+     * 检查double数值是否为负数
+     */
+    public static boolean negative(double value) {
+        return value < 0;
+    }
+
+    /**
+     * 检查long数值是否在[min, max]范围内
+     * 与泛型 inRange 使用不同名称，避免 Integer 与字面量混用时的重载歧义
+     */
+    public static boolean inRangeLong(long value, long min, long max) {
+        return value >= min && value <= max;
+    }
+
+    /**
+     * 检查double数值是否在[min, max]范围内
+     */
+    public static boolean inRangeDouble(double value, double min, double max) {
+        return value >= min && value <= max;
+    }
+
+    /**
+     * 检查long数值是否大于阈值
+     */
+    public static boolean greaterThanLong(long value, long threshold) {
+        return value > threshold;
+    }
+
+    /**
+     * 检查double数值是否大于阈值
+     */
+    public static boolean greaterThanDouble(double value, double threshold) {
+        return value > threshold;
+    }
+
+    /**
+     * 检查long数值是否大于等于阈值
+     */
+    public static boolean greaterOrEqualLong(long value, long threshold) {
+        return value >= threshold;
+    }
+
+    /**
+     * 检查double数值是否大于等于阈值
+     */
+    public static boolean greaterOrEqualDouble(double value, double threshold) {
+        return value >= threshold;
+    }
+
+    /**
+     * 检查long数值是否小于阈值
+     */
+    public static boolean lessThanLong(long value, long threshold) {
+        return value < threshold;
+    }
+
+    /**
+     * 检查double数值是否小于阈值
+     */
+    public static boolean lessThanDouble(double value, double threshold) {
+        return value < threshold;
+    }
+
+    /**
+     * 检查long数值是否小于等于阈值
+     */
+    public static boolean lessOrEqualLong(long value, long threshold) {
+        return value <= threshold;
+    }
+
+    /**
+     * 检查double数值是否小于等于阈值
+     */
+    public static boolean lessOrEqualDouble(double value, double threshold) {
+        return value <= threshold;
+    }
+
+    private static boolean isIntegral(Number n) {
+        return n instanceof Integer || n instanceof Long || n instanceof Short || n instanceof Byte
+                || n instanceof AtomicInteger || n instanceof AtomicLong;
+    }
+
+    private static boolean isBig(Number n) {
+        return n instanceof BigDecimal || n instanceof BigInteger;
+    }
+
+    private static BigDecimal toBigDecimal(Number n) {
+        if (n instanceof BigDecimal bd) return bd;
+        if (n instanceof BigInteger bi) return new BigDecimal(bi);
+        if (isIntegral(n)) return BigDecimal.valueOf(n.longValue());
+        return BigDecimal.valueOf(n.doubleValue());
+    }
 }
@@ -62,6 +62,17 @@ public final class StringChecks {
         return str != null && str.matches(regex);
     }
 
+    /**
+     * 检查字符串是否匹配预编译的正则表达式
+     *
+     * @param str     要检查的字符串
+     * @param pattern 预编译的正则表达式
+     * @return 如果字符串匹配正则表达式返回true，否则返回false
+     */
+    public static boolean match(String str, Pattern pattern) {
+        return str != null && pattern.matcher(str).matches();
+    }
+
     /**
      * 检查字符串是否为有效的邮箱格式
      *
@@ -0,0 +1,95 @@
+package com.chao.failfast.internal.core;
+
+import com.chao.failfast.constant.FailureConst;
+
+import java.time.Clock;
+import java.time.Instant;
+
+/**
+ * 共享的粗粒度时钟 - 为 Result 与异常响应提供时间戳
+ * <p>
+ * 时间戳精度为秒（Asia/Shanghai，yyyy-MM-dd HH:mm:ss），同一秒内复用同一个格式化结果，
+ * 每秒最多格式化一次。时间来源为可注入的 {@link Clock}，测试中可替换为固定时钟。
+ * <p>
+ * 框架内部通过 {@link #shared()} 获取实例，Spring 环境下由自动配置将 FailureClock Bean 设为共享实例。
+ */
+public final class FailureClock {
+
+    /**
+     * 共享实例，默认使用系统时钟
+     */
+    private static volatile FailureClock shared = new FailureClock(Clock.systemUTC());
+
+    private final Clock clock;
+
+    /**
+     * 最近一次格式化的结果，秒与文本成对发布
+     */
+    private volatile Cached cached = new Cached(Long.MIN_VALUE, null);
+
+    /**
+     * 创建时钟
+     *
+     * @param clock 时间来源
+     */
+    public FailureClock(Clock clock) {
+        if (clock == null) throw new IllegalArgumentException("clock 不能为空");
+        this.clock = clock;
+    }
+
+    /**
+     * 获取共享实例
+     */
+    public static FailureClock shared() {
+        return shared;
+    }
+
+    /**
+     * 设置共享实例
+     *
+     * @param clock 新的共享实例，为 null 时恢复为系统时钟
+     */
+    public static void setShared(FailureClock clock) {
+        shared = clock != null ? clock : new FailureClock(Clock.systemUTC());
+    }
+
+    /**
+     * 获取时间来源
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * 当前时间的毫秒数，用于先记录时间、需要时再格式化
+     */
+    public long millis() {
+        return clock.millis();
+    }
+
+    /**
+     * 当前时间的格式化字符串
+     */
+    public String now() {
+        return format(clock.millis());
+    }
+
+    /**
+     * 格式化指定时间，与最近一次格式化处于同一秒时直接复用结果
+     *
+     * @param epochMillis 毫秒时间戳
+     * @return 格式化后的时间字符串
+     */
+    public String format(long epochMillis) {
+        long second = Math.floorDiv(epochMillis, 1000);
+        Cached current = cached;
+        if (current.second == second) return current.text;
+        String text = FailureConst.DEFAULT_DATETIME_FORMATTER.format(Instant.ofEpochSecond(second).atZone(FailureConst.CST));
+        // 只缓存不早于当前缓存的秒，避免延迟格式化的旧时间戳覆盖最新结果
+        if (second > current.second) cached = new Cached(second, text);
+        return text;
+    }
+
+    private record Cached(long second, String text) {
+    }
+}
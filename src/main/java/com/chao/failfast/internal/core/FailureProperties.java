@@ -1,9 +1,12 @@
 package com.chao.failfast.internal.core;
 
 import lombok.Data;
+import org.springframework.boot.logging.LogLevel;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -28,12 +31,37 @@ public class FailureProperties {
      */
     private boolean verbose = false;
 
+    /**
+     * 是否由框架渲染 Controller 返回的 Result.Fail，默认为false
+     * 启用后 Result.Fail 与抛出 Business 异常使用相同的HTTP状态码映射与响应体格式，
+     * 即不再以HTTP 200输出 Result JSON，依赖原有响应格式的调用方需同步调整
+     */
+    private boolean resultHandler = false;
+
     /**
      * 错误码映射配置
      * 包含HTTP状态码映射、分组配置和国际化设置
      */
     private CodeMapping codeMapping = new CodeMapping();
 
+    /**
+     * 校验执行配置
+     * 控制 @Validate(parallel = true) 时验证器的执行线程
+     */
+    private Validation validation = new Validation();
+
+    /**
+     * 失败日志配置
+     * 控制异常处理器记录失败日志的级别、去重与限流
+     */
+    private Logging logging = new Logging();
+
+    /**
+     * 副作用执行器配置
+     * 控制 Results.tapAsync 等异步副作用使用的线程数、有界队列、溢出策略与批量合并
+     */
+    private SideEffect sideEffect = new SideEffect();
+
     /**
      * 错误码映射配置类
      * 负责管理错误码与HTTP状态码的映射关系
@@ -52,4 +80,156 @@ public class FailureProperties {
          */
         private Map<String, List<Object>> groups = new HashMap<>();
     }
+
+    /**
+     * 校验执行配置类
+     */
+    @Data
+    public static class Validation {
+        /**
+         * 并行校验是否优先使用虚拟线程
+         * 运行于 JDK 21+ 时生效，否则退回平台线程池
+         */
+        private boolean virtualThreads = true;
+
+        /**
+         * 平台线程池大小，未使用虚拟线程时生效
+         */
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * 异步校验的整体超时时间，为空表示不限制
+         * 作用于返回 CompletableFuture/DeferredResult 的方法
+         */
+        private Duration timeout;
+
+        /**
+         * 校验超时时报告的错误码
+         */
+        private int timeoutCode = 504;
+
+        /**
+         * 校验超时时报告的错误消息
+         */
+        private String timeoutMessage = "Validation Timeout";
+
+        /**
+         * 校验超时时报告的错误描述
+         */
+        private String timeoutDescription = "校验未在限定时间内完成";
+
+        /**
+         * 校验结果缓存配置，作用于 @Validate(cache = true)
+         */
+        private Cache cache = new Cache();
+    }
+
+    /**
+     * 校验结果缓存配置类
+     */
+    @Data
+    public static class Cache {
+        /**
+         * 最大条目数，超出时按 LRU 淘汰
+         */
+        private int maxSize = 10_000;
+
+        /**
+         * 条目存活时间，为空表示永不过期
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+
+    /**
+     * 失败日志配置类
+     * 相同指纹（错误码 + 方法 + 位置）的失败在每个窗口内最多记录 permits-per-window 条，
+     * 超出部分被抑制并计数，下一窗口首条日志附带被抑制的数量。
+     * 默认不配置 levels 且不限流，所有失败按 default-level 逐条记录，与未引入此配置时一致
+     */
+    @Data
+    public static class Logging {
+        /**
+         * 默认日志级别，未匹配 levels 中任何规则时使用
+         */
+        private LogLevel defaultLevel = LogLevel.ERROR;
+
+        /**
+         * 按错误码分组或HTTP状态系列配置日志级别
+         * 键为 code-mapping.groups 中的分组名，或 "4xx"、"5xx" 形式的状态系列；分组优先于状态系列。
+         * 默认为空，如需将客户端错误降为 WARN 可配置 4xx: WARN
+         */
+        private Map<String, LogLevel> levels = new LinkedHashMap<>();
+
+        /**
+         * 每个指纹在一个窗口内最多记录的日志条数，小于等于 0 表示不限流，默认为0
+         */
+        private int permitsPerWindow = 0;
+
+        /**
+         * 限流窗口长度
+         */
+        private Duration window = Duration.ofMinutes(1);
+
+        /**
+         * 同时跟踪的指纹数量上限，超出后新指纹不限流
+         */
+        private int maxFingerprints = 10_000;
+    }
+
+    /**
+     * 副作用执行器配置类
+     * 副作用（审计、指标、缓存预热等）在独立的有界线程池中执行，不占用 ForkJoin 公共池
+     */
+    @Data
+    public static class SideEffect {
+        /**
+         * 工作线程数，空闲时线程会被回收
+         */
+        private int threads = 2;
+
+        /**
+         * 等待队列容量，批量模式下为待合并缓冲区容量
+         */
+        private int queueCapacity = 1024;
+
+        /**
+         * 队列已满时的处理策略
+         */
+        private Overflow overflow = Overflow.DROP;
+
+        /**
+         * BLOCK 策略下等待队列空位的最长时间，超时后丢弃
+         */
+        private Duration blockTimeout = Duration.ofMillis(100);
+
+        /**
+         * 批量大小，大于 1 时开启批量模式：副作用先进入缓冲区，攒满一批或到达刷新间隔时在一个任务中依次执行
+         */
+        private int batchSize = 1;
+
+        /**
+         * 批量模式下的刷新间隔
+         */
+        private Duration flushInterval = Duration.ofMillis(100);
+    }
+
+    /**
+     * 副作用队列溢出策略
+     */
+    public enum Overflow {
+        /**
+         * 丢弃新提交的副作用并计数
+         */
+        DROP,
+
+        /**
+         * 由提交线程直接执行
+         */
+        CALLER_RUNS,
+
+        /**
+         * 阻塞提交线程等待队列空位，超过 block-timeout 后丢弃
+         */
+        BLOCK
+    }
 }
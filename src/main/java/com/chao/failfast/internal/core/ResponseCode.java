@@ -29,6 +29,11 @@ public interface ResponseCode {
      */
     ResponseCode INTERRUPTED_ERROR = of(500, "Retry Interrupted", "重试被中断");
 
+    /**
+     * 执行超时（504）
+     */
+    ResponseCode TIMEOUT_ERROR = of(504, "Timeout", "执行超时");
+
     /**
      * 非法参数（500）
      */
@@ -0,0 +1,96 @@
+package com.chao.failfast.internal.plan;
+
+import com.chao.failfast.constant.FailureConst;
+import com.chao.failfast.internal.check.CollectionChecks;
+import com.chao.failfast.internal.core.ResponseCode;
+import com.chao.failfast.internal.core.ViolationSpec;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 集合字段规则
+ *
+ * @param <T> 被校验对象类型
+ * @param <E> 集合元素类型
+ */
+public final class CollectionRules<T, E> extends FieldRules<T, Collection<E>, CollectionRules<T, E>> {
+
+    CollectionRules(Function<? super T, ? extends Collection<E>> extractor) {
+        super(extractor);
+    }
+
+    // ========== notEmpty ==========
+
+    public CollectionRules<T, E> notEmpty(Consumer<ViolationSpec> spec) {
+        return rule(CollectionChecks::notEmpty, spec);
+    }
+
+    public CollectionRules<T, E> notEmpty() {
+        return notEmpty(FailureConst.NO_OP);
+    }
+
+    public CollectionRules<T, E> notEmpty(ResponseCode code) {
+        return notEmpty(spec(code));
+    }
+
+    public CollectionRules<T, E> notEmpty(ResponseCode code, String detail) {
+        return notEmpty(spec(code, detail));
+    }
+
+    // ========== sizeBetween ==========
+
+    public CollectionRules<T, E> sizeBetween(int min, int max, Consumer<ViolationSpec> spec) {
+        return rule(c -> CollectionChecks.sizeBetween(c, min, max), spec);
+    }
+
+    public CollectionRules<T, E> sizeBetween(int min, int max) {
+        return sizeBetween(min, max, FailureConst.NO_OP);
+    }
+
+    public CollectionRules<T, E> sizeBetween(int min, int max, ResponseCode code) {
+        return sizeBetween(min, max, spec(code));
+    }
+
+    public CollectionRules<T, E> sizeBetween(int min, int max, ResponseCode code, String detail) {
+        return sizeBetween(min, max, spec(code, detail));
+    }
+
+    // ========== hasNoNullElements ==========
+
+    public CollectionRules<T, E> hasNoNullElements(Consumer<ViolationSpec> spec) {
+        return rule(CollectionChecks::hasNoNullElements, spec);
+    }
+
+    public CollectionRules<T, E> hasNoNullElements() {
+        return hasNoNullElements(FailureConst.NO_OP);
+    }
+
+    public CollectionRules<T, E> hasNoNullElements(ResponseCode code) {
+        return hasNoNullElements(spec(code));
+    }
+
+    public CollectionRules<T, E> hasNoNullElements(ResponseCode code, String detail) {
+        return hasNoNullElements(spec(code, detail));
+    }
+
+    // ========== allMatch ==========
+
+    public CollectionRules<T, E> allMatch(Predicate<E> predicate, Consumer<ViolationSpec> spec) {
+        return rule(c -> CollectionChecks.allMatch(c, predicate), spec);
+    }
+
+    public CollectionRules<T, E> allMatch(Predicate<E> predicate) {
+        return allMatch(predicate, FailureConst.NO_OP);
+    }
+
+    public CollectionRules<T, E> allMatch(Predicate<E> predicate, ResponseCode code) {
+        return allMatch(predicate, spec(code));
+    }
+
+    public CollectionRules<T, E> allMatch(Predicate<E> predicate, ResponseCode code, String detail) {
+        return allMatch(predicate, spec(code, detail));
+    }
+}
@@ -0,0 +1,104 @@
+package com.chao.failfast.internal.plan;
+
+import com.chao.failfast.constant.FailureConst;
+import com.chao.failfast.internal.check.ObjectChecks;
+import com.chao.failfast.internal.core.ResponseCode;
+import com.chao.failfast.internal.core.ViolationSpec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 字段规则声明基类 - 针对单个字段提取器累积校验规则
+ * 规则只在声明阶段创建一次，ValidationPlan 构建后冻结为不可变列表
+ *
+ * @param <T> 被校验对象类型
+ * @param <V> 字段值类型
+ * @param <R> 具体规则类型（用于链式调用）
+ */
+public abstract class FieldRules<T, V, R extends FieldRules<T, V, R>> {
+
+    private final Function<? super T, ? extends V> extractor;
+    private final List<ValidationPlan.Check<V>> checks = new ArrayList<>();
+
+    protected FieldRules(Function<? super T, ? extends V> extractor) {
+        this.extractor = extractor;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected R self() {
+        return (R) this;
+    }
+
+    /**
+     * 注册一条规则
+     *
+     * @param predicate 校验谓词，返回false表示违规
+     * @param spec      违规配置
+     * @return 当前规则对象
+     */
+    protected R rule(Predicate<? super V> predicate, Consumer<ViolationSpec> spec) {
+        checks.add(new ValidationPlan.Check<>(predicate, spec));
+        return self();
+    }
+
+    /**
+     * 构建响应码配置（声明时创建一次，执行时复用）
+     */
+    protected static Consumer<ViolationSpec> spec(ResponseCode code) {
+        return s -> s.responseCode(code);
+    }
+
+    /**
+     * 构建响应码+描述配置（声明时创建一次，执行时复用）
+     */
+    protected static Consumer<ViolationSpec> spec(ResponseCode code, String detail) {
+        return s -> s.responseCode(code).detail(detail);
+    }
+
+    /**
+     * 冻结为不可变字段规则
+     */
+    ValidationPlan.Field<T, V> freeze() {
+        return new ValidationPlan.Field<>(extractor, List.copyOf(checks));
+    }
+
+    // ========== notNull ==========
+
+    public R notNull(Consumer<ViolationSpec> spec) {
+        return rule(ObjectChecks::exists, spec);
+    }
+
+    public R notNull() {
+        return notNull(FailureConst.NO_OP);
+    }
+
+    public R notNull(ResponseCode code) {
+        return notNull(spec(code));
+    }
+
+    public R notNull(ResponseCode code, String detail) {
+        return notNull(spec(code, detail));
+    }
+
+    // ========== satisfies ==========
+
+    public R satisfies(Predicate<? super V> condition, Consumer<ViolationSpec> spec) {
+        return rule(v -> v != null && condition.test(v), spec);
+    }
+
+    public R satisfies(Predicate<? super V> condition) {
+        return satisfies(condition, FailureConst.NO_OP);
+    }
+
+    public R satisfies(Predicate<? super V> condition, ResponseCode code) {
+        return satisfies(condition, spec(code));
+    }
+
+    public R satisfies(Predicate<? super V> condition, ResponseCode code, String detail) {
+        return satisfies(condition, spec(code, detail));
+    }
+}
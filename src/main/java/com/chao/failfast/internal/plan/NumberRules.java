@@ -0,0 +1,111 @@
+package com.chao.failfast.internal.plan;
+
+import com.chao.failfast.constant.FailureConst;
+import com.chao.failfast.internal.check.NumberChecks;
+import com.chao.failfast.internal.core.ResponseCode;
+import com.chao.failfast.internal.core.ViolationSpec;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 数值字段规则
+ *
+ * @param <T> 被校验对象类型
+ */
+public final class NumberRules<T> extends FieldRules<T, Number, NumberRules<T>> {
+
+    NumberRules(Function<? super T, ? extends Number> extractor) {
+        super(extractor);
+    }
+
+    // ========== positive ==========
+
+    public NumberRules<T> positive(Consumer<ViolationSpec> spec) {
+        return rule(NumberChecks::positive, spec);
+    }
+
+    public NumberRules<T> positive() {
+        return positive(FailureConst.NO_OP);
+    }
+
+    public NumberRules<T> positive(ResponseCode code) {
+        return positive(spec(code));
+    }
+
+    public NumberRules<T> positive(ResponseCode code, String detail) {
+        return positive(spec(code, detail));
+    }
+
+    // ========== nonNegative ==========
+
+    public NumberRules<T> nonNegative(Consumer<ViolationSpec> spec) {
+        return rule(NumberChecks::nonNegative, spec);
+    }
+
+    public NumberRules<T> nonNegative() {
+        return nonNegative(FailureConst.NO_OP);
+    }
+
+    public NumberRules<T> nonNegative(ResponseCode code) {
+        return nonNegative(spec(code));
+    }
+
+    public NumberRules<T> nonNegative(ResponseCode code, String detail) {
+        return nonNegative(spec(code, detail));
+    }
+
+    // ========== inRange ==========
+
+    public NumberRules<T> inRange(Number min, Number max, Consumer<ViolationSpec> spec) {
+        return rule(v -> NumberChecks.inRangeNumber(v, min, max), spec);
+    }
+
+    public NumberRules<T> inRange(Number min, Number max) {
+        return inRange(min, max, FailureConst.NO_OP);
+    }
+
+    public NumberRules<T> inRange(Number min, Number max, ResponseCode code) {
+        return inRange(min, max, spec(code));
+    }
+
+    public NumberRules<T> inRange(Number min, Number max, ResponseCode code, String detail) {
+        return inRange(min, max, spec(code, detail));
+    }
+
+    // ========== notZero ==========
+
+    public NumberRules<T> notZero(Consumer<ViolationSpec> spec) {
+        return rule(NumberChecks::notZero, spec);
+    }
+
+    public NumberRules<T> notZero() {
+        return notZero(FailureConst.NO_OP);
+    }
+
+    public NumberRules<T> notZero(ResponseCode code) {
+        return notZero(spec(code));
+    }
+
+    public NumberRules<T> notZero(ResponseCode code, String detail) {
+        return notZero(spec(code, detail));
+    }
+
+    // ========== multipleOf ==========
+
+    public NumberRules<T> multipleOf(Number divisor, Consumer<ViolationSpec> spec) {
+        return rule(v -> NumberChecks.multipleOf(v, divisor), spec);
+    }
+
+    public NumberRules<T> multipleOf(Number divisor) {
+        return multipleOf(divisor, FailureConst.NO_OP);
+    }
+
+    public NumberRules<T> multipleOf(Number divisor, ResponseCode code) {
+        return multipleOf(divisor, spec(code));
+    }
+
+    public NumberRules<T> multipleOf(Number divisor, ResponseCode code, String detail) {
+        return multipleOf(divisor, spec(code, detail));
+    }
+}
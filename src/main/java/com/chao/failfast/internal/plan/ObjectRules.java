@@ -0,0 +1,16 @@
+package com.chao.failfast.internal.plan;
+
+import java.util.function.Function;
+
+/**
+ * 通用字段规则 - 支持 notNull / satisfies
+ *
+ * @param <T> 被校验对象类型
+ * @param <V> 字段值类型
+ */
+public final class ObjectRules<T, V> extends FieldRules<T, V, ObjectRules<T, V>> {
+
+    ObjectRules(Function<? super T, ? extends V> extractor) {
+        super(extractor);
+    }
+}
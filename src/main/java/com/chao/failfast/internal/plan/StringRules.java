@@ -0,0 +1,167 @@
+package com.chao.failfast.internal.plan;
+
+import com.chao.failfast.constant.FailureConst;
+import com.chao.failfast.internal.check.StringChecks;
+import com.chao.failfast.internal.core.ResponseCode;
+import com.chao.failfast.internal.core.ViolationSpec;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * 字符串字段规则
+ *
+ * @param <T> 被校验对象类型
+ */
+public final class StringRules<T> extends FieldRules<T, String, StringRules<T>> {
+
+    StringRules(Function<? super T, String> extractor) {
+        super(extractor);
+    }
+
+    // ========== notBlank ==========
+
+    public StringRules<T> notBlank(Consumer<ViolationSpec> spec) {
+        return rule(StringChecks::notBlank, spec);
+    }
+
+    public StringRules<T> notBlank() {
+        return notBlank(FailureConst.NO_OP);
+    }
+
+    public StringRules<T> notBlank(ResponseCode code) {
+        return notBlank(spec(code));
+    }
+
+    public StringRules<T> notBlank(ResponseCode code, String detail) {
+        return notBlank(spec(code, detail));
+    }
+
+    // ========== lengthBetween ==========
+
+    public StringRules<T> lengthBetween(int min, int max, Consumer<ViolationSpec> spec) {
+        return rule(s -> StringChecks.lengthBetween(s, min, max), spec);
+    }
+
+    public StringRules<T> lengthBetween(int min, int max) {
+        return lengthBetween(min, max, FailureConst.NO_OP);
+    }
+
+    public StringRules<T> lengthBetween(int min, int max, ResponseCode code) {
+        return lengthBetween(min, max, spec(code));
+    }
+
+    public StringRules<T> lengthBetween(int min, int max, ResponseCode code, String detail) {
+        return lengthBetween(min, max, spec(code, detail));
+    }
+
+    // ========== lengthMin ==========
+
+    public StringRules<T> lengthMin(int min, Consumer<ViolationSpec> spec) {
+        return rule(s -> StringChecks.lengthMin(s, min), spec);
+    }
+
+    public StringRules<T> lengthMin(int min) {
+        return lengthMin(min, FailureConst.NO_OP);
+    }
+
+    public StringRules<T> lengthMin(int min, ResponseCode code) {
+        return lengthMin(min, spec(code));
+    }
+
+    public StringRules<T> lengthMin(int min, ResponseCode code, String detail) {
+        return lengthMin(min, spec(code, detail));
+    }
+
+    // ========== lengthMax ==========
+
+    public StringRules<T> lengthMax(int max, Consumer<ViolationSpec> spec) {
+        return rule(s -> StringChecks.lengthMax(s, max), spec);
+    }
+
+    public StringRules<T> lengthMax(int max) {
+        return lengthMax(max, FailureConst.NO_OP);
+    }
+
+    public StringRules<T> lengthMax(int max, ResponseCode code) {
+        return lengthMax(max, spec(code));
+    }
+
+    public StringRules<T> lengthMax(int max, ResponseCode code, String detail) {
+        return lengthMax(max, spec(code, detail));
+    }
+
+    // ========== match（正则在声明时预编译） ==========
+
+    public StringRules<T> match(String regex, Consumer<ViolationSpec> spec) {
+        Pattern pattern = Pattern.compile(regex);
+        return rule(s -> StringChecks.match(s, pattern), spec);
+    }
+
+    public StringRules<T> match(String regex) {
+        return match(regex, FailureConst.NO_OP);
+    }
+
+    public StringRules<T> match(String regex, ResponseCode code) {
+        return match(regex, spec(code));
+    }
+
+    public StringRules<T> match(String regex, ResponseCode code, String detail) {
+        return match(regex, spec(code, detail));
+    }
+
+    // ========== email ==========
+
+    public StringRules<T> email(Consumer<ViolationSpec> spec) {
+        return rule(StringChecks::email, spec);
+    }
+
+    public StringRules<T> email() {
+        return email(FailureConst.NO_OP);
+    }
+
+    public StringRules<T> email(ResponseCode code) {
+        return email(spec(code));
+    }
+
+    public StringRules<T> email(ResponseCode code, String detail) {
+        return email(spec(code, detail));
+    }
+
+    // ========== mobile ==========
+
+    public StringRules<T> mobile(Consumer<ViolationSpec> spec) {
+        return rule(StringChecks::mobile, spec);
+    }
+
+    public StringRules<T> mobile() {
+        return mobile(FailureConst.NO_OP);
+    }
+
+    public StringRules<T> mobile(ResponseCode code) {
+        return mobile(spec(code));
+    }
+
+    public StringRules<T> mobile(ResponseCode code, String detail) {
+        return mobile(spec(code, detail));
+    }
+
+    // ========== uuid ==========
+
+    public StringRules<T> uuid(Consumer<ViolationSpec> spec) {
+        return rule(StringChecks::uuid, spec);
+    }
+
+    public StringRules<T> uuid() {
+        return uuid(FailureConst.NO_OP);
+    }
+
+    public StringRules<T> uuid(ResponseCode code) {
+        return uuid(spec(code));
+    }
+
+    public StringRules<T> uuid(ResponseCode code, String detail) {
+        return uuid(spec(code, detail));
+    }
+}
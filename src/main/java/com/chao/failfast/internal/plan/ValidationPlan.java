@@ -0,0 +1,207 @@
+package com.chao.failfast.internal.plan;
+
+import com.chao.failfast.annotation.FastValidator.ValidationContext;
+import com.chao.failfast.internal.Chain;
+import com.chao.failfast.internal.core.ResponseCode;
+import com.chao.failfast.internal.core.ViolationSpec;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 预编译验证计划 - 一次声明，多线程复用
+ * <p>
+ * 规则通过 {@link Builder} 针对字段提取器声明，build() 后冻结为不可变列表，
+ * 运行时只按下标遍历并委托给 Chain，快速失败与全量收集语义与 Chain 完全一致
+ *
+ * <pre>
+ * Builder&lt;User&gt; b = ValidationPlan.builder(User.class);
+ * b.string(User::getName).notBlank().lengthBetween(2, 32);
+ * b.number(User::getAge).positive(CODE);
+ * ValidationPlan&lt;User&gt; plan = b.build();
+ * plan.validate(user);
+ * </pre>
+ *
+ * @param <T> 被校验对象类型
+ */
+public final class ValidationPlan<T> {
+
+    private final List<Field<T, ?>> fields;
+    private final boolean failFast;
+
+    private ValidationPlan(List<Field<T, ?>> fields, boolean failFast) {
+        this.fields = fields;
+        this.failFast = failFast;
+    }
+
+    /**
+     * 创建计划构建器
+     *
+     * @param type 被校验对象类型（仅用于类型推断）
+     * @param <T>  被校验对象类型
+     * @return 构建器
+     */
+    public static <T> Builder<T> builder(Class<T> type) {
+        return new Builder<>();
+    }
+
+    /**
+     * 是否为快速失败模式
+     */
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    /**
+     * 规则总数
+     */
+    public int size() {
+        int n = 0;
+        for (int i = 0; i < fields.size(); i++) n += fields.get(i).checks.size();
+        return n;
+    }
+
+    /**
+     * 按计划的默认模式执行校验，返回结果链供后续终结操作
+     *
+     * @param target 被校验对象
+     * @return 执行完毕的 Chain
+     */
+    public Chain apply(T target) {
+        return apply(target, failFast);
+    }
+
+    /**
+     * 按指定模式执行校验
+     *
+     * @param target   被校验对象
+     * @param failFast 是否快速失败
+     * @return 执行完毕的 Chain
+     */
+    public Chain apply(T target, boolean failFast) {
+        Chain chain = Chain.begin(failFast);
+        run(chain, target, null);
+        return chain;
+    }
+
+    /**
+     * 执行校验并将错误报告给 ValidationContext
+     *
+     * @param target  被校验对象
+     * @param context 验证上下文
+     */
+    public void apply(T target, ValidationContext context) {
+        run(Chain.begin(context), target, context);
+    }
+
+    /**
+     * 执行校验并在失败时抛出：快速失败模式使用 fail()，全量模式使用 failAll()
+     *
+     * @param target 被校验对象
+     */
+    public void validate(T target) {
+        Chain chain = apply(target);
+        if (failFast) chain.fail();
+        else chain.failAll();
+    }
+
+    private void run(Chain chain, T target, ValidationContext context) {
+        if (target == null) {
+            chain.notNull(null, ResponseCode.VALIDATION_ERROR_NULL);
+            return;
+        }
+        for (int i = 0; i < fields.size(); i++) {
+            if (!fields.get(i).run(chain, target, context)) return;
+        }
+    }
+
+    /**
+     * 单条规则：谓词 + 违规配置
+     */
+    record Check<V>(Predicate<? super V> predicate, Consumer<ViolationSpec> spec) {
+    }
+
+    /**
+     * 冻结后的字段规则：提取器只调用一次，依次执行该字段的全部规则
+     */
+    record Field<T, V>(Function<? super T, ? extends V> extractor, List<Check<V>> checks) {
+
+        /**
+         * @return false 表示链已停止，应终止后续字段
+         */
+        boolean run(Chain chain, T target, ValidationContext context) {
+            V value = extractor.apply(target);
+            for (int i = 0; i < checks.size(); i++) {
+                Check<V> check = checks.get(i);
+                if (stopped(chain, context)) return false;
+                chain.state(check.predicate.test(value), check.spec);
+            }
+            return !stopped(chain, context);
+        }
+
+        private static boolean stopped(Chain chain, ValidationContext context) {
+            if (context != null) return context.isStopped();
+            return chain.isFailFast() && !chain.isAlive();
+        }
+    }
+
+    /**
+     * 计划构建器（非线程安全，仅在声明阶段使用）
+     *
+     * @param <T> 被校验对象类型
+     */
+    public static final class Builder<T> {
+
+        private final List<FieldRules<T, ?, ?>> rules = new ArrayList<>();
+        private boolean failFast = true;
+
+        private Builder() {
+        }
+
+        /**
+         * 设置默认校验模式（默认快速失败）
+         */
+        public Builder<T> failFast(boolean failFast) {
+            this.failFast = failFast;
+            return this;
+        }
+
+        public StringRules<T> string(Function<? super T, String> extractor) {
+            return add(new StringRules<>(extractor));
+        }
+
+        public NumberRules<T> number(Function<? super T, ? extends Number> extractor) {
+            return add(new NumberRules<>(extractor));
+        }
+
+        public <E> CollectionRules<T, E> collection(Function<? super T, ? extends Collection<E>> extractor) {
+            return add(new CollectionRules<>(extractor));
+        }
+
+        public <V> ObjectRules<T, V> field(Function<? super T, ? extends V> extractor) {
+            return add(new ObjectRules<>(extractor));
+        }
+
+        private <R extends FieldRules<T, ?, ?>> R add(R r) {
+            rules.add(r);
+            return r;
+        }
+
+        /**
+         * 冻结为不可变计划，之后对构建器的修改不会影响已构建的计划
+         *
+         * @return 不可变、线程安全的验证计划
+         */
+        public ValidationPlan<T> build() {
+            List<Field<T, ?>> fields = new ArrayList<>(rules.size());
+            for (FieldRules<T, ?, ?> rule : rules) {
+                fields.add(rule.freeze());
+            }
+            return new ValidationPlan<>(List.copyOf(fields), failFast);
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.chao.failfast.result;
+
+import com.chao.failfast.internal.Business;
+import com.chao.failfast.internal.MultiBusiness;
+import com.chao.failfast.internal.core.ResponseCode;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 异步结果封装 - {@link Result} 的非阻塞版本，内部为 {@code CompletableFuture<Result<T>>}
+ * <p>
+ * 所有组合操作都注册为回调，不阻塞线程；任一阶段抛出的 {@link Business}（包括被
+ * {@link CompletionException} 包装的）自动转换为 Fail，其他异常保持为异常完成。
+ * 只在边界处通过 {@link #join()} / {@link #get(Duration)} 转回 {@link Result}，
+ * 或通过 {@link #toCompletableFuture()} 交给框架（如 Controller 直接返回）。
+ * <pre>{@code
+ * AsyncResult<Order> order = AsyncResult.supplyAsync(() -> orderClient.find(id), ioExecutor)
+ *         .flatMap(o -> AsyncResult.of(stockClient.reserveAsync(o)).map(stock -> o))
+ *         .recoverWith(e -> AsyncResult.of(cache.findAsync(id)))
+ *         .timeout(Duration.ofSeconds(2));
+ * return order.toCompletableFuture();
+ * }</pre>
+ *
+ * @param <T> 成功时的返回值类型
+ */
+public final class AsyncResult<T> {
+
+    /**
+     * 默认异步执行器，与 {@link CompletableFuture} 的默认执行器一致
+     */
+    private static final Executor DEFAULT_EXECUTOR = new CompletableFuture<Void>().defaultExecutor();
+
+    private final CompletableFuture<Result<T>> future;
+
+    private AsyncResult(CompletableFuture<Result<T>> future) {
+        this.future = future;
+    }
+
+    // ============ 创建 ============
+
+    /**
+     * 包装已有的异步结果，阶段中的 Business 异常转换为 Fail
+     */
+    public static <T> AsyncResult<T> of(CompletionStage<Result<T>> stage) {
+        return new AsyncResult<>(normalize(stage.toCompletableFuture()));
+    }
+
+    /**
+     * 包装普通的异步值：正常完成为 Success，以 Business 异常完成为 Fail
+     */
+    public static <T> AsyncResult<T> fromFuture(CompletionStage<T> stage) {
+        return of(stage.thenApply(Result::ok));
+    }
+
+    /**
+     * 包装已完成的结果
+     */
+    public static <T> AsyncResult<T> completed(Result<T> result) {
+        return new AsyncResult<>(CompletableFuture.completedFuture(result));
+    }
+
+    public static <T> AsyncResult<T> ok(T value) {
+        return completed(Result.ok(value));
+    }
+
+    public static <T> AsyncResult<T> fail(ResponseCode code) {
+        return completed(Result.fail(code));
+    }
+
+    public static <T> AsyncResult<T> fail(Business business) {
+        return completed(Result.fail(business));
+    }
+
+    /**
+     * 在默认异步执行器上执行
+     */
+    public static <T> AsyncResult<T> supplyAsync(Supplier<Result<T>> supplier) {
+        return supplyAsync(supplier, DEFAULT_EXECUTOR);
+    }
+
+    /**
+     * 在指定执行器上执行，Supplier 抛出的 Business 转换为 Fail
+     */
+    public static <T> AsyncResult<T> supplyAsync(Supplier<Result<T>> supplier, Executor executor) {
+        return of(CompletableFuture.supplyAsync(supplier, executor));
+    }
+
+    // ============ 函数式操作 ============
+
+    /**
+     * 映射成功值到新类型
+     */
+    public <R> AsyncResult<R> map(Function<T, R> mapper) {
+        return then(future.thenApply(r -> r.map(mapper)));
+    }
+
+    /**
+     * 扁平映射成功值到新的异步结果
+     */
+    public <R> AsyncResult<R> flatMap(Function<T, AsyncResult<R>> mapper) {
+        return then(future.thenCompose(r -> r.isSuccess()
+                ? mapper.apply(r.get()).future
+                : CompletableFuture.completedFuture(castFail(r))));
+    }
+
+    /**
+     * 扁平映射成功值到新的同步结果
+     */
+    public <R> AsyncResult<R> flatMapResult(Function<T, Result<R>> mapper) {
+        return then(future.thenApply(r -> r.flatMap(mapper)));
+    }
+
+    /**
+     * 对成功值执行副作用操作
+     */
+    public AsyncResult<T> peek(Consumer<T> action) {
+        return then(future.thenApply(r -> r.peek(action)));
+    }
+
+    /**
+     * 对错误执行副作用操作
+     */
+    public AsyncResult<T> peekError(Consumer<Business> action) {
+        return then(future.thenApply(r -> r.peekError(action)));
+    }
+
+    // ============ 恢复操作 ============
+
+    /**
+     * 从错误中恢复为成功值
+     */
+    public AsyncResult<T> recover(Function<Business, T> recovery) {
+        return then(future.thenApply(r -> r.recover(recovery)));
+    }
+
+    /**
+     * 从错误中恢复为新的异步结果
+     */
+    public AsyncResult<T> recoverWith(Function<Business, AsyncResult<T>> recovery) {
+        return then(future.thenCompose(r -> r.isFail()
+                ? recovery.apply(r.getError()).future
+                : CompletableFuture.completedFuture(r)));
+    }
+
+    /**
+     * 超时后以 {@link ResponseCode#TIMEOUT_ERROR} 失败
+     */
+    public AsyncResult<T> timeout(Duration timeout) {
+        return timeout(timeout, ResponseCode.TIMEOUT_ERROR);
+    }
+
+    /**
+     * 超时后以指定错误码失败，计时由共享的调度线程完成，不占用业务线程；
+     * 失败结果只在超时实际发生时创建
+     */
+    public AsyncResult<T> timeout(Duration timeout, ResponseCode code) {
+        return new AsyncResult<>(future.copy().orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS).exceptionally(ex -> {
+            // orTimeout 以未包装的 TimeoutException 完成；上游的异常在副本中总是被 CompletionException 包装
+            if (ex instanceof TimeoutException) {
+                return Result.fail(code, "Timed out after " + timeout.toMillis() + "ms");
+            }
+            throw ex instanceof CompletionException ce ? ce : new CompletionException(ex);
+        }));
+    }
+
+    // ============ 组合操作 ============
+
+    /**
+     * 合并两个异步结果，等待两者完成；两者都失败时返回本结果的失败，与 {@link Result#combine} 一致
+     */
+    public <U, R> AsyncResult<R> zip(AsyncResult<U> other, BiFunction<T, U, R> combiner) {
+        return then(future.thenCombine(other.future, (a, b) -> a.combine(b, combiner)));
+    }
+
+    /**
+     * 收集异步结果（快速失败）：任一结果失败时立即以该失败完成，不等待其余结果
+     *
+     * @return 全部成功时按输入顺序排列的值
+     */
+    public static <T> AsyncResult<List<T>> sequence(List<AsyncResult<T>> results) {
+        return collect(results, true);
+    }
+
+    /**
+     * 收集异步结果（全量收集）：等待全部完成，失败明细按输入顺序合并为 {@link MultiBusiness}
+     */
+    public static <T> AsyncResult<List<T>> sequenceAll(List<AsyncResult<T>> results) {
+        return collect(results, false);
+    }
+
+    // ============ 边界转换 ============
+
+    /**
+     * 等待完成并返回结果（阻塞），非 Business 异常以 {@link CompletionException} 抛出
+     */
+    public Result<T> join() {
+        return future.join();
+    }
+
+    /**
+     * 最多等待指定时间（阻塞），超时返回 {@link ResponseCode#TIMEOUT_ERROR}，被中断返回 {@link ResponseCode#INTERRUPTED_ERROR}
+     */
+    public Result<T> get(Duration timeout) {
+        try {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return Result.fail(ResponseCode.TIMEOUT_ERROR, "Timed out after " + timeout.toMillis() + "ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Result.fail(ResponseCode.INTERRUPTED_ERROR, "Wait interrupted");
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    /**
+     * 是否已完成
+     */
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    /**
+     * 转换为 CompletableFuture，返回副本，调用方完成或取消副本不影响本结果
+     */
+    public CompletableFuture<Result<T>> toCompletableFuture() {
+        return future.copy();
+    }
+
+    // ============ 内部实现 ============
+
+    private static <R> AsyncResult<R> then(CompletableFuture<Result<R>> next) {
+        return new AsyncResult<>(normalize(next));
+    }
+
+    /**
+     * 将以 Business 异常完成的阶段转换为 Fail
+     */
+    private static <T> CompletableFuture<Result<T>> normalize(CompletableFuture<Result<T>> stage) {
+        return stage.exceptionally(ex -> {
+            Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+            if (cause instanceof Business b) {
+                return Result.fail(b);
+            }
+            throw ex instanceof CompletionException ce ? ce : new CompletionException(ex);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, R> Result<R> castFail(Result<T> fail) {
+        return (Result<R>) fail;
+    }
+
+    private static <T> AsyncResult<List<T>> collect(List<AsyncResult<T>> results, boolean failFast) {
+        if (results.isEmpty()) {
+            return ok(new ArrayList<>());
+        }
+        int size = results.size();
+        Object[] values = new Object[size];
+        Business[] failures = new Business[size];
+        AtomicInteger remaining = new AtomicInteger(size);
+        CompletableFuture<Result<List<T>>> done = new CompletableFuture<>();
+        for (int i = 0; i < size; i++) {
+            int index = i;
+            results.get(i).future.whenComplete((r, ex) -> {
+                if (ex != null) {
+                    done.completeExceptionally(ex);
+                    return;
+                }
+                if (r.isSuccess()) {
+                    values[index] = r.get();
+                } else if (failFast) {
+                    done.complete(castFail(r));
+                    return;
+                } else {
+                    failures[index] = r.getError();
+                }
+                if (remaining.decrementAndGet() == 0) {
+                    done.complete(assemble(values, failures));
+                }
+            });
+        }
+        return new AsyncResult<>(done);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Result<List<T>> assemble(Object[] values, Business[] failures) {
+        List<T> successes = new ArrayList<>(values.length);
+        List<Business> errors = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            if (failures[i] != null) {
+                errors.add(failures[i]);
+            } else {
+                successes.add((T) values[i]);
+            }
+        }
+        if (!errors.isEmpty()) {
+            return Result.fail(new MultiBusiness(errors));
+        }
+        return Result.ok(successes);
+    }
+}
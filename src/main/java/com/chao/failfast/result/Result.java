@@ -1,14 +1,13 @@
 package com.chao.failfast.result;
 
 import com.chao.failfast.internal.Business;
+import com.chao.failfast.internal.core.FailureClock;
 import com.chao.failfast.internal.core.ResponseCode;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AccessLevel;
 import lombok.Getter;
 
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -29,16 +28,43 @@ public sealed class Result<T> permits Result.Success, Result.Fail {
     protected int code;
     protected String message;
     protected String description;
+
+    /**
+     * 格式化后的时间戳，首次读取时生成
+     */
+    @Getter(AccessLevel.NONE)
     protected String timestamp;
 
+    /**
+     * 创建时间（毫秒），时间戳按创建时间格式化
+     */
+    @Getter(AccessLevel.NONE)
+    private final long createdAt;
+
     /**
      * 私有构造函数，防止外部实例化
+     * 只记录创建时间，不在构造时格式化时间戳
      */
     private Result(int code, String message, String description) {
         this.code = code;
         this.message = message;
         this.description = description;
-        this.timestamp = ZonedDateTime.now(ZoneId.of("Asia/Shanghai")).format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+        this.createdAt = FailureClock.shared().millis();
+    }
+
+    /**
+     * 获取时间戳（创建时间，yyyy-MM-dd HH:mm:ss）
+     * 首次读取（通常是序列化时）才格式化，同一秒内创建的结果共享格式化结果
+     *
+     * @return 格式化后的时间戳
+     */
+    public String getTimestamp() {
+        String value = timestamp;
+        if (value == null) {
+            value = FailureClock.shared().format(createdAt);
+            timestamp = value;
+        }
+        return value;
     }
 
     /**
@@ -10,6 +10,16 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.*;
 
 /**
@@ -18,6 +28,16 @@ import java.util.function.*;
  */
 public final class Results {
 
+    /**
+     * 默认异步执行器，与 {@link CompletableFuture} 的默认执行器一致
+     */
+    private static final Executor DEFAULT_EXECUTOR = new CompletableFuture<Void>().defaultExecutor();
+
+    /**
+     * 默认并行遍历并发数
+     */
+    private static final int DEFAULT_PARALLELISM = Math.max(ForkJoinPool.getCommonPoolParallelism(), 1);
+
     private Results() {
     }
 
@@ -295,6 +315,78 @@ public final class Results {
         return Result.ok(successes);
     }
 
+    // ==================== 并行遍历 ====================
+
+    /**
+     * 并行遍历（快速失败）：在默认异步执行器上执行，并发数为公共池并行度
+     *
+     * @see #traverseParallel(List, int, Executor, Function)
+     */
+    public static <T, R> Result<List<R>> traverseParallel(List<T> list, Function<T, Result<R>> mapper) {
+        return traverseParallel(list, DEFAULT_PARALLELISM, DEFAULT_EXECUTOR, mapper);
+    }
+
+    /**
+     * 并行遍历（快速失败）：最多 maxConcurrency 个映射同时执行
+     * <p>
+     * 成功时结果顺序与输入一致；出现第一个 Fail 时立即返回，正在执行的映射被取消并中断，未开始的不再执行。
+     * 注意返回的是最先完成的失败，不一定是输入顺序中的第一个失败。
+     * 抛出 {@link Business} 视为失败，其他异常同样取消其余映射后原样抛出。
+     *
+     * @param list           输入列表
+     * @param maxConcurrency 最大并发数，至少为 1
+     * @param executor       执行器
+     * @param mapper         映射函数
+     */
+    public static <T, R> Result<List<R>> traverseParallel(List<T> list, int maxConcurrency, Executor executor,
+                                                          Function<T, Result<R>> mapper) {
+        return new Traversal<>(list, (i, item) -> mapper.apply(item), true).run(executor, maxConcurrency);
+    }
+
+    /**
+     * 并行遍历（全量收集）：在默认异步执行器上执行，并发数为公共池并行度
+     *
+     * @see #traverseAllParallel(List, int, Executor, Function)
+     */
+    public static <T, R> Result<List<R>> traverseAllParallel(List<T> list, Function<T, Result<R>> mapper) {
+        return traverseAllParallel(list, DEFAULT_PARALLELISM, DEFAULT_EXECUTOR, mapper);
+    }
+
+    /**
+     * 并行遍历（全量收集）：最多 maxConcurrency 个映射同时执行
+     * <p>
+     * 等待全部映射完成；成功结果与失败明细均按输入顺序排列，与 {@link #traverseAll} 的结果一致。
+     *
+     * @param list           输入列表
+     * @param maxConcurrency 最大并发数，至少为 1
+     * @param executor       执行器
+     * @param mapper         映射函数
+     */
+    public static <T, R> Result<List<R>> traverseAllParallel(List<T> list, int maxConcurrency, Executor executor,
+                                                             Function<T, Result<R>> mapper) {
+        return new Traversal<>(list, (i, item) -> mapper.apply(item), false).run(executor, maxConcurrency);
+    }
+
+    /**
+     * 带索引的并行遍历（快速失败）
+     *
+     * @see #traverseParallel(List, int, Executor, Function)
+     */
+    public static <T, R> Result<List<R>> traverseIndexedParallel(List<T> list, int maxConcurrency, Executor executor,
+                                                                 BiFunction<Integer, T, Result<R>> mapper) {
+        return new Traversal<>(list, mapper, true).run(executor, maxConcurrency);
+    }
+
+    /**
+     * 带索引的并行遍历（全量收集）
+     *
+     * @see #traverseAllParallel(List, int, Executor, Function)
+     */
+    public static <T, R> Result<List<R>> traverseAllIndexedParallel(List<T> list, int maxConcurrency, Executor executor,
+                                                                    BiFunction<Integer, T, Result<R>> mapper) {
+        return new Traversal<>(list, mapper, false).run(executor, maxConcurrency);
+    }
+
     // ==================== 组合操作 ====================
 
     public static <T1, T2, R> Result<R> zip(Result<T1> r1, Result<T2> r2, BiFunction<T1, T2, R> combiner) {
@@ -345,6 +437,15 @@ public final class Results {
         return (Result<R>) fail;
     }
 
+    /**
+     * 将异步任务中抛出的异常还原给调用线程
+     */
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException e) return e;
+        if (cause instanceof Error e) throw e;
+        return new IllegalStateException(cause);
+    }
+
     @FunctionalInterface
     public interface Function4<A, B, C, D, R> {
         R apply(A a, B b, C c, D d);
@@ -372,10 +473,18 @@ public final class Results {
     }
 
     /**
-     * 异步执行副作用（不阻塞主流程）
+     * 异步执行副作用（不阻塞主流程），在共享的 {@link SideEffectExecutor} 中执行
+     * 队列已满时按其溢出策略处理，执行失败会被计数并记录日志
      */
     public static <T> Result<T> tapAsync(Result<T> result, Consumer<Result<T>> action) {
-        CompletableFuture.runAsync(() -> action.accept(result));
+        return tapAsync(result, action, SideEffectExecutor.shared().asExecutor());
+    }
+
+    /**
+     * 在指定执行器中异步执行副作用（不阻塞主流程）
+     */
+    public static <T> Result<T> tapAsync(Result<T> result, Consumer<Result<T>> action, Executor executor) {
+        executor.execute(() -> action.accept(result));
         return result;
     }
 
@@ -402,18 +511,50 @@ public final class Results {
     }
 
     /**
-     * 竞争执行：返回第一个成功的，或最后一个失败的结果（缓存结果避免重复执行）
+     * 竞争执行：在默认异步执行器上并发运行，返回第一个成功的结果
+     *
+     * @see #race(Executor, Duration, List)
      */
     @SafeVarargs
     public static <T> Result<T> race(Supplier<Result<T>>... suppliers) {
-        Result<T> lastResult = null;
+        // 逐个复制而非 List.of(suppliers)，不将可变参数数组传给其他方法
+        List<Supplier<Result<T>>> list = new ArrayList<>(suppliers.length);
         for (Supplier<Result<T>> supplier : suppliers) {
-            lastResult = supplier.get();
-            if (lastResult.isSuccess()) {
-                return lastResult;
-            }
+            list.add(supplier);
         }
-        return lastResult != null ? lastResult : Result.ok(null);
+        return race(DEFAULT_EXECUTOR, null, list);
+    }
+
+    /**
+     * 竞争执行：在默认异步执行器上并发运行，返回第一个成功的结果，超过截止时间返回超时失败
+     *
+     * @see #race(Executor, Duration, List)
+     */
+    public static <T> Result<T> race(Duration timeout, List<? extends Supplier<Result<T>>> suppliers) {
+        return race(DEFAULT_EXECUTOR, timeout, suppliers);
+    }
+
+    /**
+     * 竞争执行：在指定执行器上并发运行所有 Supplier
+     * <ul>
+     *     <li>第一个 Success 立即返回，其余仍在运行的任务被取消并中断，尚未开始的不再执行</li>
+     *     <li>全部失败时返回最后一个 Supplier（按参数顺序）的结果；抛出 {@link Business} 视为失败，
+     *     其他异常在该 Supplier 作为最终结果时原样抛出</li>
+     *     <li>超过截止时间返回 {@link ResponseCode#TIMEOUT_ERROR}，调用线程被中断时返回 {@link ResponseCode#INTERRUPTED_ERROR}</li>
+     *     <li>没有 Supplier 时返回 ok(null)</li>
+     * </ul>
+     * 适用于多副本读取等场景，耗时取决于最快的成功者而非所有失败者之和。
+     * Supplier 需要响应中断才能在落败后及时释放线程。
+     *
+     * @param executor  执行器
+     * @param timeout   整体截止时间，null 表示不限制
+     * @param suppliers 参与竞争的结果提供者
+     */
+    public static <T> Result<T> race(Executor executor, Duration timeout, List<? extends Supplier<Result<T>>> suppliers) {
+        if (suppliers.isEmpty()) {
+            return Result.ok(null);
+        }
+        return new Race<T>(suppliers).run(executor, timeout);
     }
 
     /**
@@ -424,7 +565,7 @@ public final class Results {
     }
 
     /**
-     * 带延迟的重试
+     * 带延迟的重试，等待期间阻塞调用线程；请求线程中请使用 {@link #retryAsync}
      */
     public static <T> Result<T> retry(int times, Duration delay, Supplier<Result<T>> supplier) {
         Result<T> lastResult = null;
@@ -445,6 +586,51 @@ public final class Results {
         return lastResult != null ? lastResult : Result.ok(null);
     }
 
+    /**
+     * 异步重试：在调度器上执行尝试，重试间隔通过调度实现而非阻塞线程
+     * <ul>
+     *     <li>成功、达到最多尝试次数、失败不满足重试条件或重试预算耗尽时，以最后一次结果完成</li>
+     *     <li>抛出 {@link Business} 视为失败，其他异常直接以异常完成，不再重试</li>
+     *     <li>取消返回的 Future 后不再调度后续尝试</li>
+     * </ul>
+     * Supplier 在调度器线程中执行，耗时较长的调用应自行切换到业务线程池。
+     *
+     * @param scheduler 调度器
+     * @param policy    重试策略
+     * @param supplier  每次尝试的结果提供者
+     * @return 最终结果
+     */
+    public static <T> CompletableFuture<Result<T>> retryAsync(ScheduledExecutorService scheduler, RetryPolicy policy,
+                                                              Supplier<Result<T>> supplier) {
+        CompletableFuture<Result<T>> future = new CompletableFuture<>();
+        scheduler.execute(() -> attempt(scheduler, policy, supplier, future, 1));
+        return future;
+    }
+
+    private static <T> void attempt(ScheduledExecutorService scheduler, RetryPolicy policy,
+                                    Supplier<Result<T>> supplier, CompletableFuture<Result<T>> future, int attempt) {
+        if (future.isDone()) return;
+        Result<T> result;
+        try {
+            result = supplier.get();
+        } catch (Business e) {
+            result = Result.fail(e);
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+            return;
+        }
+        if (result.isSuccess() || !policy.shouldRetry(attempt, result.getError())) {
+            future.complete(result);
+            return;
+        }
+        try {
+            scheduler.schedule(() -> attempt(scheduler, policy, supplier, future, attempt + 1),
+                    policy.delayNanos(attempt), TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            future.complete(result);
+        }
+    }
+
     /**
      * 管道操作：按顺序执行，前一个成功才执行后一个
      */
@@ -513,6 +699,87 @@ public final class Results {
 
     // ==================== 内部类 ====================
 
+    /**
+     * 一次竞争执行的状态：每个 Supplier 包装为可中断的 {@link FutureTask}，
+     * 第一个成功者或最后一个完成者负责完成 winner
+     */
+    private static final class Race<T> {
+
+        private final List<? extends Supplier<Result<T>>> suppliers;
+
+        /**
+         * 每个 Supplier 的失败结果（Result 或 Throwable），按参数顺序存放
+         */
+        private final AtomicReferenceArray<Object> outcomes;
+
+        private final AtomicInteger pending;
+
+        private final FutureTask<?>[] tasks;
+
+        private final CompletableFuture<Result<T>> winner = new CompletableFuture<>();
+
+        Race(List<? extends Supplier<Result<T>>> suppliers) {
+            this.suppliers = suppliers;
+            this.outcomes = new AtomicReferenceArray<>(suppliers.size());
+            this.pending = new AtomicInteger(suppliers.size());
+            this.tasks = new FutureTask<?>[suppliers.size()];
+        }
+
+        Result<T> run(Executor executor, Duration timeout) {
+            long deadline = timeout == null ? 0 : System.nanoTime() + timeout.toNanos();
+            try {
+                for (int i = 0; i < tasks.length && !winner.isDone(); i++) {
+                    int index = i;
+                    FutureTask<Void> task = new FutureTask<>(() -> settle(index), null);
+                    tasks[i] = task;
+                    executor.execute(task);
+                }
+                return timeout == null
+                        ? winner.get()
+                        : winner.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                return Result.fail(ResponseCode.TIMEOUT_ERROR, "Race timed out after " + timeout.toMillis() + "ms");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Result.fail(ResponseCode.INTERRUPTED_ERROR, "Race interrupted");
+            } catch (ExecutionException e) {
+                throw rethrow(e.getCause());
+            } finally {
+                for (FutureTask<?> task : tasks) {
+                    if (task != null) task.cancel(true);
+                }
+            }
+        }
+
+        private void settle(int index) {
+            if (winner.isDone()) return;
+            Object outcome;
+            try {
+                Result<T> result = suppliers.get(index).get();
+                if (result.isSuccess()) {
+                    winner.complete(result);
+                    return;
+                }
+                outcome = result;
+            } catch (Business e) {
+                outcome = Result.fail(e);
+            } catch (Throwable e) {
+                outcome = e;
+            }
+            outcomes.set(index, outcome);
+            if (pending.decrementAndGet() == 0) {
+                Object last = outcomes.get(outcomes.length() - 1);
+                if (last instanceof Throwable t) {
+                    winner.completeExceptionally(t);
+                } else {
+                    @SuppressWarnings("unchecked")
+                    Result<T> fail = (Result<T>) last;
+                    winner.complete(fail);
+                }
+            }
+        }
+    }
+
     public record Partition<T>(List<T> successes, List<Business> failures) {
         public Partition(List<T> successes, List<Business> failures) {
             this.successes = List.copyOf(successes);
@@ -536,6 +803,120 @@ public final class Results {
         }
     }
 
+    /**
+     * 一次并行遍历的状态：启动不超过并发上限的工作任务，每个工作任务循环领取下一个下标执行，
+     * 结果按下标写入数组以保持输入顺序
+     */
+    private static final class Traversal<T, R> {
+
+        private final List<T> list;
+
+        private final BiFunction<Integer, T, Result<R>> mapper;
+
+        private final boolean failFast;
+
+        private final Object[] values;
+
+        private final Business[] failures;
+
+        /**
+         * 下一个待领取的下标
+         */
+        private final AtomicInteger next = new AtomicInteger();
+
+        /**
+         * 尚未完成的元素数
+         */
+        private final AtomicInteger remaining;
+
+        private final CompletableFuture<Result<List<R>>> done = new CompletableFuture<>();
+
+        Traversal(List<T> list, BiFunction<Integer, T, Result<R>> mapper, boolean failFast) {
+            this.list = list;
+            this.mapper = mapper;
+            this.failFast = failFast;
+            this.values = new Object[list.size()];
+            this.failures = failFast ? null : new Business[list.size()];
+            this.remaining = new AtomicInteger(list.size());
+        }
+
+        Result<List<R>> run(Executor executor, int maxConcurrency) {
+            if (maxConcurrency < 1) {
+                throw new IllegalArgumentException("maxConcurrency must be at least 1: " + maxConcurrency);
+            }
+            if (list.isEmpty()) {
+                return Result.ok(new ArrayList<>());
+            }
+            FutureTask<?>[] workers = new FutureTask<?>[Math.min(maxConcurrency, list.size())];
+            try {
+                for (int i = 0; i < workers.length; i++) {
+                    FutureTask<Void> worker = new FutureTask<>(this::work, null);
+                    try {
+                        executor.execute(worker);
+                    } catch (RejectedExecutionException e) {
+                        // 已启动的工作任务会继续领取剩余元素
+                        if (i == 0) throw e;
+                        break;
+                    }
+                    workers[i] = worker;
+                }
+                return done.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Result.fail(ResponseCode.INTERRUPTED_ERROR, "Traverse interrupted");
+            } catch (ExecutionException e) {
+                throw rethrow(e.getCause());
+            } finally {
+                for (FutureTask<?> worker : workers) {
+                    if (worker != null) worker.cancel(true);
+                }
+            }
+        }
+
+        private void work() {
+            int index;
+            while (!done.isDone() && (index = next.getAndIncrement()) < values.length) {
+                Result<R> result;
+                try {
+                    result = mapper.apply(index, list.get(index));
+                } catch (Business e) {
+                    result = Result.fail(e);
+                } catch (Throwable e) {
+                    done.completeExceptionally(e);
+                    return;
+                }
+                if (result.isSuccess()) {
+                    values[index] = result.get();
+                } else if (failFast) {
+                    done.complete(Result.fail(result.getError()));
+                    return;
+                } else {
+                    failures[index] = result.getError();
+                }
+                if (remaining.decrementAndGet() == 0) {
+                    done.complete(collect());
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private Result<List<R>> collect() {
+            List<R> successes = new ArrayList<>(values.length);
+            List<Business> errors = new ArrayList<>();
+            for (int i = 0; i < values.length; i++) {
+                if (failures != null && failures[i] != null) {
+                    errors.add(failures[i]);
+                } else {
+                    successes.add((R) values[i]);
+                }
+            }
+            if (!errors.isEmpty()) {
+                return Result.fail(new MultiBusiness(errors));
+            }
+            return Result.ok(successes);
+        }
+    }
+
     @FunctionalInterface
     public interface Function3<A, B, C, R> {
         R apply(A a, B b, C c);
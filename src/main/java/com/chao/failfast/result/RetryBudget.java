@@ -0,0 +1,96 @@
+package com.chao.failfast.result;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 重试预算 - 令牌桶，在多次调用之间共享以限制重试总量
+ * <p>
+ * 每次重试（不含首次尝试）消耗一个令牌，令牌按固定速率补充、不超过容量。
+ * 下游整体故障时重试很快耗尽预算，之后的失败直接返回，避免重试放大故障。
+ * <pre>{@code
+ * RetryBudget budget = new RetryBudget(20, 5);   // 最多突发 20 次重试，每秒补充 5 次
+ * RetryPolicy policy = RetryPolicy.of(3).retryOnServerErrors().withBudget(budget);
+ * }</pre>
+ * 所有操作线程安全。
+ */
+public final class RetryBudget {
+
+    private final double capacity;
+
+    /**
+     * 每纳秒补充的令牌数
+     */
+    private final double refillPerNano;
+
+    private final LongSupplier ticker;
+
+    private double tokens;
+
+    private long lastRefill;
+
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * 创建重试预算，初始为满桶
+     *
+     * @param capacity        令牌桶容量，即允许的突发重试次数
+     * @param refillPerSecond 每秒补充的令牌数
+     */
+    public RetryBudget(int capacity, double refillPerSecond) {
+        this(capacity, refillPerSecond, System::nanoTime);
+    }
+
+    RetryBudget(int capacity, double refillPerSecond, LongSupplier ticker) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        if (refillPerSecond < 0) {
+            throw new IllegalArgumentException("refillPerSecond must not be negative: " + refillPerSecond);
+        }
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.ticker = ticker;
+        this.tokens = capacity;
+        this.lastRefill = ticker.getAsLong();
+    }
+
+    /**
+     * 尝试为一次重试申请令牌
+     *
+     * @return 预算充足返回 true，否则返回 false 并计入拒绝次数
+     */
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * 当前可用的令牌数
+     */
+    public synchronized double available() {
+        refill();
+        return tokens;
+    }
+
+    /**
+     * 因预算不足被拒绝的重试次数
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    private void refill() {
+        long now = ticker.getAsLong();
+        long elapsed = now - lastRefill;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * refillPerNano);
+            lastRefill = now;
+        }
+    }
+}
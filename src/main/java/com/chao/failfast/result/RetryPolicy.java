@@ -0,0 +1,175 @@
+package com.chao.failfast.result;
+
+import com.chao.failfast.config.CodeMappingConfig;
+import com.chao.failfast.internal.Business;
+import com.chao.failfast.internal.core.ResponseCode;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 重试策略 - 供 {@link Results#retryAsync} 使用的不可变配置
+ * <ul>
+ *     <li>次数：最多尝试次数（含首次）</li>
+ *     <li>退避：指数退避，第 n 次重试等待 initialDelay × multiplier^(n-1)，不超过 maxDelay</li>
+ *     <li>抖动：在退避时间上随机减少最多 jitter 比例，打散同时失败的调用方</li>
+ *     <li>条件：按错误码、错误码分组或HTTP状态决定哪些失败可以重试</li>
+ *     <li>预算：可选的共享 {@link RetryBudget}，预算耗尽时不再重试</li>
+ * </ul>
+ * <pre>{@code
+ * RetryPolicy policy = RetryPolicy.of(4)
+ *         .withBackoff(Duration.ofMillis(50), Duration.ofSeconds(2), 2)
+ *         .retryOnServerErrors()
+ *         .withBudget(budget);
+ * }</pre>
+ * 每个 with / retryOn 方法返回新实例，可安全地在多处共享。
+ */
+public final class RetryPolicy {
+
+    private final int maxAttempts;
+    private final Duration initialDelay;
+    private final Duration maxDelay;
+    private final double multiplier;
+    private final double jitter;
+    private final Predicate<Business> retryOn;
+    private final RetryBudget budget;
+
+    private RetryPolicy(int maxAttempts, Duration initialDelay, Duration maxDelay, double multiplier,
+                        double jitter, Predicate<Business> retryOn, RetryBudget budget) {
+        this.maxAttempts = maxAttempts;
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+        this.multiplier = multiplier;
+        this.jitter = jitter;
+        this.retryOn = retryOn;
+        this.budget = budget;
+    }
+
+    /**
+     * 创建重试策略，默认 100ms 起、翻倍、最长 10s 的退避，50% 抖动，任何失败都重试，不限预算
+     *
+     * @param maxAttempts 最多尝试次数（含首次），至少为 1
+     */
+    public static RetryPolicy of(int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1: " + maxAttempts);
+        }
+        return new RetryPolicy(maxAttempts, Duration.ofMillis(100), Duration.ofSeconds(10), 2, 0.5, e -> true, null);
+    }
+
+    /**
+     * 设置指数退避
+     *
+     * @param initialDelay 首次重试前的等待时间
+     * @param maxDelay     单次等待时间上限
+     * @param multiplier   每次重试的放大倍数，至少为 1
+     */
+    public RetryPolicy withBackoff(Duration initialDelay, Duration maxDelay, double multiplier) {
+        if (initialDelay.isNegative() || maxDelay.compareTo(initialDelay) < 0) {
+            throw new IllegalArgumentException("invalid backoff: " + initialDelay + " .. " + maxDelay);
+        }
+        if (multiplier < 1) {
+            throw new IllegalArgumentException("multiplier must be at least 1: " + multiplier);
+        }
+        return new RetryPolicy(maxAttempts, initialDelay, maxDelay, multiplier, jitter, retryOn, budget);
+    }
+
+    /**
+     * 设置固定间隔，不做指数放大
+     */
+    public RetryPolicy withFixedDelay(Duration delay) {
+        return withBackoff(delay, delay, 1);
+    }
+
+    /**
+     * 设置抖动比例
+     *
+     * @param jitter 0 表示不抖动，1 表示在 [0, 退避时间] 内完全随机
+     */
+    public RetryPolicy withJitter(double jitter) {
+        if (jitter < 0 || jitter > 1) {
+            throw new IllegalArgumentException("jitter must be within [0, 1]: " + jitter);
+        }
+        return new RetryPolicy(maxAttempts, initialDelay, maxDelay, multiplier, jitter, retryOn, budget);
+    }
+
+    /**
+     * 设置共享的重试预算，null 表示不限
+     */
+    public RetryPolicy withBudget(RetryBudget budget) {
+        return new RetryPolicy(maxAttempts, initialDelay, maxDelay, multiplier, jitter, retryOn, budget);
+    }
+
+    /**
+     * 只重试满足条件的失败
+     */
+    public RetryPolicy retryOn(Predicate<Business> predicate) {
+        return new RetryPolicy(maxAttempts, initialDelay, maxDelay, multiplier, jitter, predicate, budget);
+    }
+
+    /**
+     * 只重试指定错误码的失败（按错误码数值比较）
+     */
+    public RetryPolicy retryOnCodes(ResponseCode... codes) {
+        Set<Integer> values = Stream.of(codes).map(ResponseCode::getCode).collect(Collectors.toUnmodifiableSet());
+        return retryOn(e -> e.getResponseCode() != null && values.contains(e.getResponseCode().getCode()));
+    }
+
+    /**
+     * 只重试属于指定错误码分组的失败
+     *
+     * @param codeMapping 错误码分组配置
+     * @param groups      分组名称
+     */
+    public RetryPolicy retryOnGroups(CodeMappingConfig codeMapping, String... groups) {
+        return retryOn(e -> {
+            ResponseCode code = e.getResponseCode();
+            if (code == null) return false;
+            for (String group : groups) {
+                if (codeMapping.isInGroup(code.getCode(), group)) return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * 只重试映射为 5xx 状态的失败
+     */
+    public RetryPolicy retryOnServerErrors() {
+        return retryOn(e -> e.getHttpStatus().is5xxServerError());
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public RetryBudget getBudget() {
+        return budget;
+    }
+
+    /**
+     * 判断失败后是否进行下一次尝试：次数未用完、满足重试条件且预算充足
+     *
+     * @param attempt 已完成的尝试次数
+     * @param error   本次失败
+     */
+    boolean shouldRetry(int attempt, Business error) {
+        return attempt < maxAttempts && retryOn.test(error) && (budget == null || budget.tryAcquire());
+    }
+
+    /**
+     * 计算第 retry 次重试前的等待时间（纳秒），retry 从 1 开始
+     */
+    long delayNanos(int retry) {
+        double backoff = initialDelay.toNanos() * Math.pow(multiplier, retry - 1);
+        double capped = Math.min(backoff, maxDelay.toNanos());
+        if (jitter > 0) {
+            capped -= capped * jitter * ThreadLocalRandom.current().nextDouble();
+        }
+        return (long) capped;
+    }
+}
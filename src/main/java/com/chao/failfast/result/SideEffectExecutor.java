@@ -0,0 +1,300 @@
+package com.chao.failfast.result;
+
+import com.chao.failfast.internal.core.FailureProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 副作用执行器 - {@link Results#tapAsync} 使用的独立有界线程池
+ * <ul>
+ *     <li>有界：等待队列容量固定，队列满时按 {@link FailureProperties.Overflow} 丢弃、由调用方执行或限时阻塞</li>
+ *     <li>可观测：统计提交、丢弃与执行失败的次数，失败的副作用记录 WARN 日志而不是被静默吞掉</li>
+ *     <li>批量：batch-size 大于 1 时副作用先进入缓冲区，攒满一批或到达刷新间隔时在一个任务中依次执行，
+ *     减少大量细小副作用的调度开销</li>
+ * </ul>
+ * 框架内部通过 {@link #shared()} 获取实例，Spring 环境下由自动配置将 SideEffectExecutor Bean 设为共享实例。
+ * 本类不实现 {@link Executor}，避免作为 Executor 类型的 Bean 使 Spring Boot 的 applicationTaskExecutor 退让，
+ * 需要 Executor 时通过 {@link #asExecutor()} 获取。
+ */
+@Slf4j
+public final class SideEffectExecutor implements AutoCloseable {
+
+    /**
+     * 共享实例，未设置时首次使用按默认配置创建
+     */
+    private static volatile SideEffectExecutor shared;
+
+    private final FailureProperties.SideEffect config;
+
+    private final ThreadPoolExecutor pool;
+
+    /**
+     * 批量模式的缓冲区，非批量模式为 null
+     */
+    private final BlockingQueue<Runnable> buffer;
+
+    /**
+     * 批量模式的定时刷新线程，非批量模式为 null
+     */
+    private final ScheduledExecutorService flusher;
+
+    /**
+     * 是否已有待执行的立即刷新
+     */
+    private final AtomicBoolean flushPending = new AtomicBoolean();
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private final Executor executor = this::execute;
+
+    /**
+     * 创建副作用执行器
+     *
+     * @param config 副作用执行器配置
+     */
+    public SideEffectExecutor(FailureProperties.SideEffect config) {
+        if (config.getThreads() < 1 || config.getQueueCapacity() < 1) {
+            throw new IllegalArgumentException("threads 与 queue-capacity 必须大于 0");
+        }
+        this.config = config;
+        AtomicInteger counter = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(config.getThreads(), config.getThreads(), 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(config.getQueueCapacity()),
+                runnable -> daemon(runnable, "fail-fast-side-effect-" + counter.incrementAndGet()),
+                this::rejected);
+        this.pool.allowCoreThreadTimeOut(true);
+        if (config.getBatchSize() > 1) {
+            long interval = config.getFlushInterval().toNanos();
+            this.buffer = new ArrayBlockingQueue<>(config.getQueueCapacity());
+            this.flusher = Executors.newSingleThreadScheduledExecutor(
+                    runnable -> daemon(runnable, "fail-fast-side-effect-flusher"));
+            this.flusher.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.NANOSECONDS);
+        } else {
+            this.buffer = null;
+            this.flusher = null;
+        }
+    }
+
+    /**
+     * 获取共享实例
+     */
+    public static SideEffectExecutor shared() {
+        SideEffectExecutor executor = shared;
+        if (executor == null) {
+            synchronized (SideEffectExecutor.class) {
+                executor = shared;
+                if (executor == null) {
+                    executor = shared = new SideEffectExecutor(new FailureProperties.SideEffect());
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * 设置共享实例
+     *
+     * @param executor 新的共享实例，为 null 时下次使用按默认配置重新创建；
+     *                 共享实例关闭后不会被自动替换，之后提交的副作用被丢弃并计数
+     */
+    public static void setShared(SideEffectExecutor executor) {
+        shared = executor;
+    }
+
+    /**
+     * 提交副作用，队列已满时按溢出策略处理，执行器关闭后提交的副作用被丢弃并计数
+     */
+    public void execute(Runnable task) {
+        submitted.increment();
+        if (buffer == null) {
+            pool.execute(new Guarded(task));
+            return;
+        }
+        if (pool.isShutdown()) {
+            dropped.increment();
+            return;
+        }
+        if (!buffer.offer(task) && !overflow(task)) {
+            return;
+        }
+        if (buffer.size() >= config.getBatchSize() && flushPending.compareAndSet(false, true)) {
+            try {
+                flusher.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                flushPending.set(false);
+            }
+        }
+    }
+
+    /**
+     * 以 {@link Executor} 形式使用本执行器，例如传给 {@link Results#tapAsync(Result, java.util.function.Consumer, Executor)}
+     */
+    public Executor asExecutor() {
+        return executor;
+    }
+
+    /**
+     * 已提交的副作用数
+     */
+    public long getSubmittedCount() {
+        return submitted.sum();
+    }
+
+    /**
+     * 因队列已满或执行器关闭被丢弃的副作用数
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * 执行时抛出异常的副作用数
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * 等待执行的副作用数（含批量缓冲区）
+     */
+    public int getQueueSize() {
+        return pool.getQueue().size() + (buffer != null ? buffer.size() : 0);
+    }
+
+    /**
+     * 关闭执行器：刷新缓冲区中的副作用，已排队的副作用继续执行，之后提交的被丢弃
+     */
+    @Override
+    public void close() {
+        if (flusher != null) {
+            flusher.shutdown();
+            flush();
+        }
+        pool.shutdown();
+    }
+
+    /**
+     * 将缓冲区按批量大小切分，每批作为一个任务提交
+     */
+    private void flush() {
+        flushPending.set(false);
+        while (!buffer.isEmpty()) {
+            List<Runnable> tasks = new ArrayList<>(config.getBatchSize());
+            buffer.drainTo(tasks, config.getBatchSize());
+            if (tasks.isEmpty()) return;
+            pool.execute(new Batch(tasks));
+        }
+    }
+
+    /**
+     * 批量模式下缓冲区已满
+     *
+     * @return 任务是否最终进入了缓冲区
+     */
+    private boolean overflow(Runnable task) {
+        switch (config.getOverflow()) {
+            case CALLER_RUNS -> new Guarded(task).run();
+            case BLOCK -> {
+                if (offer(buffer, task)) return true;
+                dropped.increment();
+            }
+            default -> dropped.increment();
+        }
+        return false;
+    }
+
+    /**
+     * 线程池等待队列已满或已关闭
+     */
+    private void rejected(Runnable task, ThreadPoolExecutor executor) {
+        if (!executor.isShutdown()) {
+            switch (config.getOverflow()) {
+                case CALLER_RUNS -> {
+                    task.run();
+                    return;
+                }
+                case BLOCK -> {
+                    if (offer(executor.getQueue(), task)) return;
+                }
+                default -> {
+                }
+            }
+        }
+        dropped.add(task instanceof Batch batch ? batch.tasks.size() : 1);
+    }
+
+    private boolean offer(BlockingQueue<Runnable> queue, Runnable task) {
+        try {
+            return queue.offer(task, config.getBlockTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void runGuarded(Runnable task) {
+        try {
+            task.run();
+        } catch (Throwable e) {
+            failed.increment();
+            log.warn("副作用执行失败", e);
+        }
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * 单个副作用，异常被计数并记录
+     */
+    private final class Guarded implements Runnable {
+
+        private final Runnable task;
+
+        Guarded(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            runGuarded(task);
+        }
+    }
+
+    /**
+     * 一批副作用，依次执行，单个失败不影响其余
+     */
+    private final class Batch implements Runnable {
+
+        private final List<Runnable> tasks;
+
+        Batch(List<Runnable> tasks) {
+            this.tasks = tasks;
+        }
+
+        @Override
+        public void run() {
+            for (Runnable task : tasks) {
+                runGuarded(task);
+            }
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.chao.failfast.validator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 批量加载器 - 将校验过程中的逐个查询合并为一次批量查询
+ * <p>
+ * 校验阶段先通过 {@link #prime(Collection)} 登记需要的键（不触发查询），
+ * 首次查询任一未缓存的键时，将所有已登记的键连同该键一起交给批量查询函数，
+ * 结果（含不存在的键）在加载器生命周期内缓存，后续查询直接命中。
+ * <p>
+ * 典型用法：
+ * <pre>{@code
+ * BatchLoader<String, Sku> skus = context.loader("sku", () -> BatchLoader.of(skuRepository::findAllByIds));
+ * Failure.with(context).allMatch(order.getSkuIds(), skus.prime(order.getSkuIds()).exists(), SKU_NOT_FOUND);
+ * }</pre>
+ * 加载器应按请求创建（如通过 {@link com.chao.failfast.annotation.FastValidator.ValidationContext#loader}），
+ * 以保证缓存只在一次校验过程内有效。实例线程安全，可供并行执行的验证器共享：
+ * 批量查询在锁外执行，同一个键正在被其他线程加载时，调用方等待该批次完成而不是重复查询。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ */
+public final class BatchLoader<K, V> {
+
+    /**
+     * 不存在的键在缓存中的占位值
+     */
+    private static final Object MISSING = new Object();
+
+    /**
+     * 批量查询函数：键集合 → 存在的键值映射，缺失或值为 null 的键视为不存在
+     */
+    private final Function<? super Set<K>, ? extends Map<K, ? extends V>> bulkLookup;
+
+    /**
+     * 单次批量查询的最大键数
+     */
+    private final int maxBatchSize;
+
+    /**
+     * 已加载的结果，值为 V 或 MISSING
+     */
+    private final Map<K, Object> loaded = new ConcurrentHashMap<>();
+
+    /**
+     * 保护 pending 与 inFlight，只在登记与认领键时短暂持有，不覆盖批量查询本身
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * 已登记、尚未加载的键，受 lock 保护
+     */
+    private final Set<K> pending = new LinkedHashSet<>();
+
+    /**
+     * 正在加载的键 → 所属批次完成信号，受 lock 保护
+     */
+    private final Map<K, CompletableFuture<Void>> inFlight = new HashMap<>();
+
+    /**
+     * 已执行的批量查询次数
+     */
+    private final AtomicInteger batchCount = new AtomicInteger();
+
+    private BatchLoader(Function<? super Set<K>, ? extends Map<K, ? extends V>> bulkLookup, int maxBatchSize) {
+        this.bulkLookup = bulkLookup;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * 创建不限制批量大小的加载器
+     *
+     * @param bulkLookup 批量查询函数
+     */
+    public static <K, V> BatchLoader<K, V> of(Function<? super Set<K>, ? extends Map<K, ? extends V>> bulkLookup) {
+        return of(bulkLookup, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 创建加载器
+     *
+     * @param bulkLookup   批量查询函数
+     * @param maxBatchSize 单次批量查询的最大键数，超出时拆分为多次查询
+     */
+    public static <K, V> BatchLoader<K, V> of(Function<? super Set<K>, ? extends Map<K, ? extends V>> bulkLookup,
+                                              int maxBatchSize) {
+        if (bulkLookup == null) throw new IllegalArgumentException("bulkLookup 不能为空");
+        if (maxBatchSize < 1) throw new IllegalArgumentException("maxBatchSize 必须大于 0");
+        return new BatchLoader<>(bulkLookup, maxBatchSize);
+    }
+
+    /**
+     * 登记需要加载的键，不触发查询
+     * null 与已加载的键会被忽略
+     *
+     * @param keys 键集合
+     * @return 当前加载器，便于链式使用
+     */
+    public BatchLoader<K, V> prime(Collection<? extends K> keys) {
+        if (keys == null || keys.isEmpty()) return this;
+        lock.lock();
+        try {
+            for (K key : keys) {
+                if (key != null && !loaded.containsKey(key) && !inFlight.containsKey(key)) pending.add(key);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return this;
+    }
+
+    /**
+     * 加载单个键，未缓存时连同所有已登记的键一起批量查询
+     *
+     * @param key 键，为 null 时返回空
+     * @return 对应的值，不存在时为空
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<V> load(K key) {
+        Object value = resolve(key);
+        return value == MISSING ? Optional.empty() : Optional.of((V) value);
+    }
+
+    /**
+     * 批量加载多个键，只对尚未缓存的键发起查询
+     *
+     * @param keys 键集合
+     * @return 存在的键值映射，按参数顺序排列
+     */
+    @SuppressWarnings("unchecked")
+    public Map<K, V> loadMany(Collection<? extends K> keys) {
+        prime(keys);
+        Map<K, V> result = new LinkedHashMap<>();
+        if (keys == null) return result;
+        for (K key : keys) {
+            Object value = resolve(key);
+            if (value != MISSING) result.put(key, (V) value);
+        }
+        return result;
+    }
+
+    /**
+     * 判断键是否存在
+     *
+     * @param key 键，为 null 时返回 false
+     */
+    public boolean exists(K key) {
+        return resolve(key) != MISSING;
+    }
+
+    /**
+     * 获取存在性谓词，可直接用于 allMatch / satisfies 等校验
+     */
+    public Predicate<K> exists() {
+        return this::exists;
+    }
+
+    /**
+     * 已执行的批量查询次数
+     */
+    public int getBatchCount() {
+        return batchCount.get();
+    }
+
+    /**
+     * 清空缓存与已登记的键，正在执行的批量查询不受影响
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            loaded.clear();
+            pending.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 获取缓存值，未命中时触发批量查询
+     */
+    private Object resolve(K key) {
+        if (key == null) return MISSING;
+        Object value = loaded.get(key);
+        return value != null ? value : fetch(key);
+    }
+
+    /**
+     * 未命中时认领所有已登记的键并在锁外批量查询；
+     * 键已被其他线程认领时等待其批次完成，查询失败的批次不缓存，等待方重新认领
+     */
+    private Object fetch(K key) {
+        while (true) {
+            List<Batch<K>> owned;
+            CompletableFuture<Void> other;
+            lock.lock();
+            try {
+                Object value = loaded.get(key);
+                if (value != null) return value;
+                other = inFlight.get(key);
+                if (other == null) {
+                    pending.add(key);
+                    owned = claim();
+                } else {
+                    owned = List.of();
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (other != null) {
+                other.join();
+                continue;
+            }
+            dispatch(owned);
+            // 批次完成后被 clear() 清空时重新加载
+            Object value = loaded.get(key);
+            if (value != null) return value;
+        }
+    }
+
+    /**
+     * 按批量上限将全部已登记的键切分为批次，并登记为正在加载，调用方须持有 lock
+     */
+    private List<Batch<K>> claim() {
+        List<Batch<K>> batches = new ArrayList<>();
+        Iterator<K> it = pending.iterator();
+        while (it.hasNext()) {
+            Batch<K> batch = new Batch<>(new LinkedHashSet<>());
+            while (it.hasNext() && batch.keys.size() < maxBatchSize) {
+                K k = it.next();
+                it.remove();
+                batch.keys.add(k);
+                inFlight.put(k, batch.done);
+            }
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    /**
+     * 依次执行已认领的批次
+     * 查询失败时本批次及之后批次的键不会被缓存，下次查询时重新加载
+     */
+    private void dispatch(List<Batch<K>> batches) {
+        int next = 0;
+        try {
+            for (; next < batches.size(); next++) {
+                Batch<K> batch = batches.get(next);
+                Map<K, ? extends V> found = bulkLookup.apply(Collections.unmodifiableSet(batch.keys));
+                batchCount.incrementAndGet();
+                for (K k : batch.keys) {
+                    V v = found != null ? found.get(k) : null;
+                    loaded.put(k, v != null ? v : MISSING);
+                }
+                release(batch);
+            }
+        } finally {
+            for (int i = next; i < batches.size(); i++) {
+                release(batches.get(i));
+            }
+        }
+    }
+
+    /**
+     * 撤销批次的加载登记并唤醒等待方
+     */
+    private void release(Batch<K> batch) {
+        lock.lock();
+        try {
+            for (K k : batch.keys) {
+                inFlight.remove(k, batch.done);
+            }
+        } finally {
+            lock.unlock();
+        }
+        batch.done.complete(null);
+    }
+
+    /**
+     * 一次批量查询认领的键及其完成信号
+     */
+    private record Batch<K>(Set<K> keys, CompletableFuture<Void> done) {
+
+        Batch(Set<K> keys) {
+            this(keys, new CompletableFuture<>());
+        }
+    }
+}
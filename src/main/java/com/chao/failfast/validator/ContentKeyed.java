@@ -0,0 +1,17 @@
+package com.chao.failfast.validator;
+
+/**
+ * 提供内容键的校验对象
+ * 内容键需实现基于内容的 equals/hashCode，内容相同的对象返回相等的键，
+ * 用于在 {@link ValidationOutcomeCache} 中复用校验结果
+ */
+@FunctionalInterface
+public interface ContentKeyed {
+
+    /**
+     * 获取内容键
+     *
+     * @return 内容键，为 null 表示本次不使用缓存
+     */
+    Object contentKey();
+}
@@ -4,21 +4,52 @@ import com.chao.failfast.annotation.FastValidator;
 import com.chao.failfast.constant.FailureConst;
 import com.chao.failfast.internal.core.ResponseCode;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 
 /**
  * TypedValidator 是一个抽象的泛型校验器类，实现了 FastValidator 接口，用于支持多种类型的校验逻辑。
+ * <p>
+ * 分派规则：优先精确匹配对象的运行时类型，否则选择已注册类型中最具体的父类或接口，
+ * 因此 Hibernate/CGLIB 等代理对象和子类也能命中其声明类型的校验逻辑。
+ * 若存在多个互不相关的候选类型（如两个接口），按注册顺序取第一个。
+ * <p>
+ * 注册仅允许在首次校验之前进行（通常在 {@link #registerValidators()} 或子类构造方法中），
+ * 首次使用时注册表被冻结，此后每个具体类型的解析结果（含未命中）缓存在 {@link ClassValue} 中，查找无锁。
  */
 public abstract class TypedValidator implements FastValidator<Object> {
 
     /**
-     * 使用 ConcurrentHashMap 存储不同类型的校验器，键为 Class 对象，值为对应的校验逻辑 BiConsumer。
-     * 使用线程安全的 ConcurrentHashMap 确保多线程环境下的安全性。
+     * 未命中任何已注册类型时的占位处理器，用于缓存否定结果
      */
-    private final Map<Class<?>, BiConsumer<Object, ValidationContext>> validators = new ConcurrentHashMap<>();
+    private static final BiConsumer<Object, ValidationContext> UNSUPPORTED = (obj, ctx) -> {
+        String s = FailureConst.UNSUPPORTED_VALIDATION_TYPE + obj.getClass().getSimpleName();
+        ctx.reportError(ResponseCode.of(400, s));
+    };
+
+    /**
+     * 注册阶段的校验逻辑，键为 Class 对象，值为对应的校验逻辑 BiConsumer，保持注册顺序。
+     * 注册只发生在构造阶段，冻结后不再修改
+     */
+    private final Map<Class<?>, BiConsumer<Object, ValidationContext>> validators = new LinkedHashMap<>();
+
+    /**
+     * 冻结后的不可变注册表，首次使用前为 null
+     */
+    private volatile Map<Class<?>, BiConsumer<Object, ValidationContext>> frozen;
+
+    /**
+     * 具体类型 → 处理器的解析缓存
+     */
+    private final ClassValue<BiConsumer<Object, ValidationContext>> dispatch = new ClassValue<>() {
+        @Override
+        protected BiConsumer<Object, ValidationContext> computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
 
     /**
      * 构造方法，在创建实例时自动调用 registerValidators() 方法，
@@ -37,31 +68,48 @@ public abstract class TypedValidator implements FastValidator<Object> {
 
     /**
      * 注册一个类型的校验方法
+     *
+     * @throws IllegalStateException 校验器已投入使用（注册表已冻结）
      */
     protected final <T> void register(Class<T> type, BiConsumer<T, ValidationContext> validator) {
-        validators.put(type, (obj, ctx) -> validator.accept(type.cast(obj), ctx));
+        synchronized (validators) {
+            if (frozen != null) {
+                throw new IllegalStateException(FailureConst.VALIDATOR_REGISTRATION_FROZEN + type.getName());
+            }
+            validators.put(type, (obj, ctx) -> validator.accept(type.cast(obj), ctx));
+        }
     }
 
-
     /**
      * 获取所有注册的类型
      */
     public Set<Class<?>> getRegisteredTypes() {
-        return Set.copyOf(validators.keySet());
+        return registrations().keySet();
+    }
+
+    /**
+     * 判断是否能校验指定类型的对象（含已注册类型的子类与实现类）
+     *
+     * @param type 对象的运行时类型
+     * @return 存在匹配的已注册类型时返回 true
+     */
+    public boolean supports(Class<?> type) {
+        return dispatch.get(type) != UNSUPPORTED;
     }
 
     @Override
     public Class<?> getSupportedType() {
         // 单一类型直接返回，多类型返回 Object
-        return validators.size() == 1 ? validators.keySet().iterator().next() : Object.class;
+        Map<Class<?>, BiConsumer<Object, ValidationContext>> registered = registrations();
+        return registered.size() == 1 ? registered.keySet().iterator().next() : Object.class;
     }
 
     /**
      * 执行对象校验的核心方法。
      * <p>
      * 该方法首先检查目标对象是否为空，若为空则立即记录错误并终止校验流程；
-     * 若目标对象非空，则尝试从已注册的校验器映射中查找对应类型的处理器，
-     * 并调用该处理器执行具体校验逻辑；如果未找到匹配的处理器，则记录不支持的类型错误。
+     * 若目标对象非空，则按运行时类型查找最匹配的处理器并执行具体校验逻辑；
+     * 如果未找到匹配的处理器，则记录不支持的类型错误。
      *
      * @param object  待校验的目标对象，不能为 {@code null}
      * @param context 校验上下文，用于记录校验过程中的错误信息
@@ -72,14 +120,39 @@ public abstract class TypedValidator implements FastValidator<Object> {
             context.reportError(ResponseCode.VALIDATION_ERROR_NULL);
             return;
         }
-        // 查找并执行对应类型的校验处理器
-        BiConsumer<Object, ValidationContext> handler = validators.get(object.getClass());
-        if (handler != null) {
-            handler.accept(object, context);
-        } else {
-            // 处理未注册的类型情况
-            String s = FailureConst.UNSUPPORTED_VALIDATION_TYPE + object.getClass().getSimpleName();
-            context.reportError(ResponseCode.of(400, s));
+        dispatch.get(object.getClass()).accept(object, context);
+    }
+
+    /**
+     * 获取冻结后的注册表，首次调用时完成冻结
+     */
+    private Map<Class<?>, BiConsumer<Object, ValidationContext>> registrations() {
+        Map<Class<?>, BiConsumer<Object, ValidationContext>> registered = frozen;
+        if (registered == null) {
+            synchronized (validators) {
+                registered = frozen;
+                if (registered == null) {
+                    registered = Collections.unmodifiableMap(new LinkedHashMap<>(validators));
+                    frozen = registered;
+                }
+            }
+        }
+        return registered;
+    }
+
+    /**
+     * 解析具体类型对应的处理器：精确匹配优先，其次为最具体的已注册父类或接口
+     */
+    private BiConsumer<Object, ValidationContext> resolve(Class<?> type) {
+        Map<Class<?>, BiConsumer<Object, ValidationContext>> registered = registrations();
+        BiConsumer<Object, ValidationContext> exact = registered.get(type);
+        if (exact != null) return exact;
+        Class<?> best = null;
+        for (Class<?> candidate : registered.keySet()) {
+            if (!candidate.isAssignableFrom(type)) continue;
+            // 候选类型比当前最佳更具体时替换；互不相关时保留先注册者
+            if (best == null || best.isAssignableFrom(candidate)) best = candidate;
         }
+        return best == null ? UNSUPPORTED : registered.get(best);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,247 @@
+package com.chao.failfast.validator;
+
+import com.chao.failfast.annotation.FastValidator.ValidationContext;
+import com.chao.failfast.annotation.NonDeterministic;
+import com.chao.failfast.internal.Business;
+import com.chao.failfast.internal.MultiBusiness;
+import com.chao.failfast.internal.core.ResponseCode;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 校验结果缓存 - 按"校验方 + 内容键"缓存校验结果（通过或违规列表）
+ * <p>
+ * 适用于重复校验相同不可变输入的场景（重试、扇出、幂等重放）。
+ * 容量按 LRU 淘汰，条目超过存活时间后失效；结果与快速/全量模式相关，模式作为键的一部分。
+ * 校验过程中抛出的异常不会被缓存。缓存只保存违规的错误码与描述，每次回放都创建新的 {@link Business}，
+ * 因此方法、位置与堆栈属于当前请求，不同请求之间不共享异常实例。所有操作线程安全。
+ * <p>
+ * 除 {@code @Validate(cache = true)} 外，也可直接用于 Chain 或 ValidationPlan：
+ * <pre>{@code
+ * cache.validate(OrderRules.class, order, context, ctx -> ORDER_PLAN.apply(order, ctx));
+ * }</pre>
+ */
+public final class ValidationOutcomeCache {
+
+    /**
+     * 校验方是否确定性（未标注 @NonDeterministic），按类缓存
+     */
+    private static final ClassValue<Boolean> DETERMINISTIC = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return !type.isAnnotationPresent(NonDeterministic.class);
+        }
+    };
+
+    private final int maxSize;
+
+    /**
+     * 存活时间（纳秒），0 表示永不过期
+     */
+    private final long ttlNanos;
+
+    private final LongSupplier ticker;
+
+    /**
+     * 访问顺序的 LinkedHashMap 实现 LRU，受 this 保护
+     */
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * 创建缓存
+     *
+     * @param maxSize 最大条目数
+     * @param ttl     条目存活时间，为 null 或 0 表示永不过期
+     */
+    public ValidationOutcomeCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    ValidationOutcomeCache(int maxSize, Duration ttl, LongSupplier ticker) {
+        if (maxSize < 1) throw new IllegalArgumentException("maxSize 必须大于 0");
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl == null ? 0 : ttl.toNanos();
+        this.ticker = ticker;
+    }
+
+    /**
+     * 解析对象的内容键：record 以自身为键，ContentKeyed 使用其提供的键，其余类型不可缓存
+     *
+     * @param target 校验对象
+     * @return 内容键，不可缓存时为 null
+     */
+    public static Object contentKey(Object target) {
+        if (target instanceof ContentKeyed keyed) return keyed.contentKey();
+        if (target != null && target.getClass().isRecord()) return target;
+        return null;
+    }
+
+    /**
+     * 判断校验方的结果是否允许缓存
+     *
+     * @param owner 校验方类型（验证器类等）
+     * @return 未标注 @NonDeterministic 时返回 true
+     */
+    public static boolean isCacheable(Class<?> owner) {
+        return DETERMINISTIC.get(owner);
+    }
+
+    /**
+     * 执行校验，命中缓存时按缓存的违规重新创建异常并报告，而不执行校验
+     * 校验方不可缓存或内容键为 null 时直接执行
+     *
+     * @param owner      校验方类型，与内容键共同组成缓存键
+     * @param contentKey 内容键
+     * @param context    目标上下文，违规将报告到此上下文
+     * @param validation 实际的校验逻辑，使用传入的上下文报告违规
+     */
+    public void validate(Class<?> owner, Object contentKey, ValidationContext context, Consumer<ValidationContext> validation) {
+        if (contentKey == null || !isCacheable(owner)) {
+            validation.accept(context);
+            return;
+        }
+        Key key = new Key(owner, context.isFast(), contentKey);
+        List<Violation> violations = get(key);
+        if (violations == null) {
+            // 使用独立上下文收集本次结果，与目标上下文共享批量加载器；本次的异常原样报告
+            ValidationContext local = new ValidationContext(context.isFast(), context);
+            validation.accept(local);
+            List<Business> errors = local.hasCauses();
+            put(key, Violation.listOf(errors));
+            for (Business error : errors) {
+                context.reportError(error);
+            }
+            return;
+        }
+        for (Violation violation : violations) {
+            context.reportError(violation.materialize());
+        }
+    }
+
+    /**
+     * 获取统计信息快照
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), size());
+    }
+
+    /**
+     * 当前条目数（可能包含尚未清理的过期条目）
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 清空缓存，不重置统计
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    private List<Violation> get(Key key) {
+        long now = ticker.getAsLong();
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.isExpired(now)) {
+                entries.remove(key);
+                evictions.increment();
+                entry = null;
+            }
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.violations;
+        }
+    }
+
+    private void put(Key key, List<Violation> violations) {
+        long expiresAt = ttlNanos == 0 ? 0 : ticker.getAsLong() + ttlNanos;
+        synchronized (this) {
+            entries.put(key, new Entry(violations, expiresAt));
+            Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator();
+            while (entries.size() > maxSize && it.hasNext()) {
+                it.next();
+                it.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * 缓存键：校验方 + 模式 + 内容键
+     */
+    private record Key(Class<?> owner, boolean fast, Object content) {
+    }
+
+    /**
+     * 缓存的违规数据：错误码与描述，批量错误保留其各项明细
+     */
+    private record Violation(ResponseCode code, String detail, List<Violation> errors) {
+
+        static List<Violation> listOf(List<Business> errors) {
+            List<Violation> violations = new ArrayList<>(errors.size());
+            for (Business error : errors) {
+                violations.add(error instanceof MultiBusiness multi
+                        ? new Violation(null, null, listOf(multi.getErrors()))
+                        : new Violation(error.getResponseCode(), error.getDetail(), null));
+            }
+            return List.copyOf(violations);
+        }
+
+        /**
+         * 创建新的异常实例，方法与位置信息按当前调用处填充
+         */
+        Business materialize() {
+            if (errors == null) return Business.of(code, detail);
+            List<Business> items = new ArrayList<>(errors.size());
+            for (Violation error : errors) {
+                items.add(error.materialize());
+            }
+            return new MultiBusiness(items);
+        }
+    }
+
+    /**
+     * 缓存条目：违规列表（空表示通过）与过期时间（0 表示永不过期）
+     */
+    private record Entry(List<Violation> violations, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return expiresAt != 0 && now - expiresAt >= 0;
+        }
+    }
+
+    /**
+     * 缓存统计
+     *
+     * @param hits      命中次数
+     * @param misses    未命中次数
+     * @param evictions 淘汰次数（容量淘汰与过期清理）
+     * @param size      当前条目数
+     */
+    public record Stats(long hits, long misses, long evictions, int size) {
+
+        /**
+         * 命中率，无请求时为 0
+         */
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.chao.failfast.advice;
+
+import com.chao.failfast.internal.Business;
+import com.chao.failfast.internal.MultiBusiness;
+import com.chao.failfast.internal.core.FailureProperties;
+import com.chao.failfast.internal.core.ResponseCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FailureBody 错误响应体写出测试")
+class FailureBodyWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final FailureBodyWriter writer = new FailureBodyWriter();
+
+    private String encode(FailureBody body) {
+        return new String(writer.encode(body).toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("输出应与 Jackson 序列化 Map 视图的结果一致")
+    void shouldMatchJacksonOutput() throws Exception {
+        Business e = Business.of(ResponseCode.of(40001, "参数错误"), "名称不能为空");
+        FailureBody body = FailureBody.of(e, "2026-01-01 00:00:00");
+
+        assertThat(encode(body)).isEqualTo(objectMapper.writeValueAsString(body));
+    }
+
+    @Test
+    @DisplayName("特殊字符、控制字符与代理对应正确转义和编码")
+    void shouldEscapeSpecialCharacters() throws Exception {
+        Business e = Business.of(ResponseCode.of(40001, "引号\"与\\反斜杠"), "换行\n制表\t\u0001 emoji😀");
+        FailureBody body = FailureBody.of(e, "2026-01-01 00:00:00");
+
+        String json = encode(body);
+
+        assertThat(writer.encode(body).toByteArray()).isEqualTo(objectMapper.writeValueAsBytes(body));
+        assertThat(objectMapper.readValue(json, Map.class)).containsEntry("description", "换行\n制表\t\u0001 emoji😀");
+    }
+
+    @Test
+    @DisplayName("控制字符、非 BMP 字符与孤立代理项的字节应与 Jackson 一致")
+    void shouldMatchJacksonBytesForEscapes() throws Exception {
+        List<String> samples = List.of(
+                "\u0000\u001a\u001f\u007f\u2028",
+                "emoji😀𝄞",
+                "孤立高位\uD83D结尾",
+                "孤立低位\uDE00",
+                "\uDE00\uD83D",
+                "末尾高位\uD83D");
+        for (String sample : samples) {
+            FailureBody body = FailureBody.of(Business.of(ResponseCode.of(40001, sample), sample), "2026-01-01 00:00:00");
+
+            assertThat(writer.encode(body).toByteArray()).as(sample).isEqualTo(objectMapper.writeValueAsBytes(body));
+        }
+    }
+
+    @Test
+    @DisplayName("null 字段应写为 JSON null")
+    void shouldWriteNullFields() throws Exception {
+        FailureBody body = FailureBody.of(ResponseCode.of(500), null, "2026-01-01 00:00:00");
+
+        assertThat(encode(body)).isEqualTo(objectMapper.writeValueAsString(body))
+                .contains("\"message\":null", "\"description\":null");
+    }
+
+    @Test
+    @DisplayName("verbose 模式下批量错误应包含 errors 明细")
+    void shouldWriteVerboseErrors() throws Exception {
+        MultiBusiness multi = new MultiBusiness(List.of(
+                Business.of(ResponseCode.of(40001, "名称错误", "名称描述"), "名称不能为空"),
+                Business.of(40002, "年龄错误")));
+
+        FailureBody verbose = FailureBody.multi(multi, true, "2026-01-01 00:00:00");
+        FailureBody compact = FailureBody.multi(multi, false, "2026-01-01 00:00:00");
+
+        assertThat(encode(verbose)).isEqualTo(objectMapper.writeValueAsString(verbose));
+        assertThat(verbose).containsEntry("description", "共 2 项错误");
+        assertThat((List<?>) verbose.get("errors")).hasSize(2);
+        assertThat(compact).doesNotContainKey("errors");
+        assertThat(encode(compact)).doesNotContain("errors");
+    }
+
+    @Test
+    @DisplayName("响应码前缀按 code 与 message 缓存，与描述无关")
+    void shouldCachePrefixesByCodeAndMessage() throws Exception {
+        FailureBody first = FailureBody.of(ResponseCode.of(40001, "参数错误", "描述一"), "a", "t");
+        FailureBody second = FailureBody.of(ResponseCode.of(40001, "参数错误", "描述二"), "b", "t");
+        writer.encode(first);
+
+        assertThat(encode(second)).isEqualTo(objectMapper.writeValueAsString(second));
+        assertThat(writer.cachedCodes()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("前缀缓存有上限，超出后淘汰最久未使用的响应码")
+    void shouldEvictLeastRecentlyUsedPrefixes() {
+        ResponseCode hot = ResponseCode.of(40001, "参数错误");
+        writer.encode(FailureBody.of(hot, null, "t"));
+
+        for (int i = 0; i < FailureBodyWriter.MAX_CACHED_CODES * 2; i++) {
+            writer.encode(FailureBody.of(ResponseCode.of(400, "不支持的校验类型: " + i), null, "t"));
+            writer.encode(FailureBody.of(hot, null, "t"));
+        }
+
+        assertThat(writer.cachedCodes()).isEqualTo(FailureBodyWriter.MAX_CACHED_CODES);
+        assertThat(writer.isCached(hot)).isTrue();
+        assertThat(writer.isCached(ResponseCode.of(400, "不支持的校验类型: 0"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("消息转换器应写出 JSON 并设置 Content-Length")
+    void shouldWriteThroughConverter() throws Exception {
+        FailureBodyHttpMessageConverter converter = new FailureBodyHttpMessageConverter();
+        FailureBody body = FailureBody.of(Business.of(40001, "参数错误"), "2026-01-01 00:00:00");
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        assertThat(converter.canWrite(FailureBody.class, MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(converter.canRead(FailureBody.class, MediaType.APPLICATION_JSON)).isFalse();
+        converter.write(body, MediaType.APPLICATION_JSON, output);
+
+        byte[] written = output.getBodyAsBytes();
+        assertThat(output.getHeaders().getContentLength()).isEqualTo(written.length);
+        assertThat(output.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(objectMapper.readValue(written, Map.class)).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("异常处理器应返回 FailureBody，同一秒内复用时间戳")
+    void shouldReturnFailureBodyFromHandler() {
+        DefaultExceptionHandler handler = new DefaultExceptionHandler();
+        handler.setFailFastProperties(new FailureProperties());
+
+        ResponseEntity<?> first = handler.handleBusinessException(Business.of(40001, "参数错误"));
+        ResponseEntity<?> second = handler.handleBusinessException(Business.of(40001, "参数错误"));
+
+        assertThat(first.getBody()).isInstanceOf(FailureBody.class);
+        String t1 = ((FailureBody) first.getBody()).getTimestamp();
+        String t2 = ((FailureBody) second.getBody()).getTimestamp();
+        assertThat(t1).matches("\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}");
+        if (t1.equals(t2)) assertThat(t2).isSameAs(t1);
+    }
+}
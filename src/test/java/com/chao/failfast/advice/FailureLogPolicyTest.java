@@ -0,0 +1,256 @@
+package com.chao.failfast.advice;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.chao.failfast.config.CodeMappingConfig;
+import com.chao.failfast.internal.Business;
+import com.chao.failfast.internal.MultiBusiness;
+import com.chao.failfast.internal.core.FailureProperties;
+import com.chao.failfast.internal.core.ResponseCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("FailureLogPolicy 失败日志策略测试")
+class FailureLogPolicyTest {
+
+    private static final ResponseCode PARAM_ERROR = ResponseCode.of(40001, "参数错误");
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger("failure-log-policy-test");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final AtomicLong now = new AtomicLong();
+    private FailureProperties.Logging config;
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+        logger.setLevel(Level.TRACE);
+        config = new FailureProperties.Logging();
+        config.setPermitsPerWindow(2);
+        config.setWindow(Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    private FailureLogPolicy policy() {
+        return new FailureLogPolicy(config, null, now::get);
+    }
+
+    private List<String> messages() {
+        return appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+    }
+
+    @Test
+    @DisplayName("相同指纹在窗口内超出限额的日志应被抑制")
+    void shouldSuppressRepeatedFailures() {
+        FailureLogPolicy policy = policy();
+
+        for (int i = 0; i < 5; i++) {
+            policy.log(logger, Business.of(PARAM_ERROR, "名称不能为空", "UserController#create", "loc"));
+        }
+
+        assertThat(appender.list).hasSize(2);
+        assertThat(policy.getSuppressedCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("下一窗口的首条日志应附带被抑制的数量")
+    void shouldReportSuppressedCountInNextWindow() {
+        FailureLogPolicy policy = policy();
+        Business e = Business.of(PARAM_ERROR, "名称不能为空", "UserController#create", "loc");
+        for (int i = 0; i < 5; i++) policy.log(logger, e);
+
+        now.addAndGet(Duration.ofSeconds(11).toNanos());
+        policy.log(logger, e);
+        policy.log(logger, e);
+
+        assertThat(messages()).hasSize(4);
+        assertThat(messages().get(2)).endsWith("(suppressed 3 similar)");
+        assertThat(messages().get(3)).doesNotContain("suppressed");
+    }
+
+    @Test
+    @DisplayName("不再出现的指纹在窗口过期后由其他日志顺带输出汇总")
+    void shouldReportSuppressedCountOfQuietFingerprint() {
+        FailureLogPolicy policy = policy();
+        for (int i = 0; i < 5; i++) {
+            policy.log(logger, Business.of(PARAM_ERROR, "d", "A#a", "loc"));
+        }
+
+        now.addAndGet(Duration.ofSeconds(11).toNanos());
+        policy.log(logger, Business.of(PARAM_ERROR, "d", "B#b", "loc"));
+        policy.log(logger, Business.of(PARAM_ERROR, "d", "B#b", "loc"));
+
+        assertThat(messages()).hasSize(5);
+        assertThat(messages().get(2)).isEqualTo("Failure :[A#a] {code=40001} (loc) (suppressed 3 similar)");
+        assertThat(messages().subList(3, 5)).noneMatch(m -> m.contains("suppressed"));
+    }
+
+    @Test
+    @DisplayName("默认配置不限流，所有失败按默认级别记录")
+    void shouldLogEverythingAtDefaultLevelByDefault() {
+        FailureLogPolicy policy = new FailureLogPolicy(new FailureProperties.Logging(), null, now::get);
+        Business clientError = mockStatus(Business.of(ResponseCode.of(400, "bad")), 400);
+
+        for (int i = 0; i < 20; i++) {
+            policy.log(logger, Business.of(PARAM_ERROR, "d", "A#a", "loc"));
+        }
+
+        assertThat(appender.list).hasSize(20).allMatch(event -> event.getLevel() == Level.ERROR);
+        assertThat(policy.levelOf(clientError)).isEqualTo(LogLevel.ERROR);
+        assertThat(policy.getSuppressedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("不同方法或位置的失败使用不同指纹")
+    void shouldFingerprintByCodeMethodAndLocation() {
+        FailureLogPolicy policy = policy();
+
+        for (int i = 0; i < 3; i++) {
+            policy.log(logger, Business.of(PARAM_ERROR, "d", "A#a", "loc"));
+            policy.log(logger, Business.of(PARAM_ERROR, "d", "B#b", "loc"));
+            policy.log(logger, Business.of(ResponseCode.of(40002, "x"), "d", "A#a", "loc"));
+        }
+
+        assertThat(appender.list).hasSize(6);
+    }
+
+    @Test
+    @DisplayName("按状态系列配置 4xx 为 WARN，其余使用默认级别")
+    void shouldChooseLevelByStatusSeries() {
+        config.setPermitsPerWindow(0);
+        config.getLevels().put("4xx", LogLevel.WARN);
+        FailureLogPolicy policy = policy();
+
+        Business clientError = mockStatus(Business.of(ResponseCode.of(400, "bad")), 400);
+        Business serverError = Business.of(ResponseCode.of(500, "boom"));
+
+        assertThat(policy.levelOf(clientError)).isEqualTo(LogLevel.WARN);
+        assertThat(policy.levelOf(serverError)).isEqualTo(LogLevel.ERROR);
+    }
+
+    @Test
+    @DisplayName("错误码分组的级别优先于状态系列")
+    void shouldPreferCodeGroupLevel() {
+        FailureProperties properties = new FailureProperties();
+        properties.getCodeMapping().getGroups().put("auth", List.of("40100..40199"));
+        config.getLevels().put("auth", LogLevel.DEBUG);
+        FailureLogPolicy policy = new FailureLogPolicy(config, new CodeMappingConfig(properties), now::get);
+
+        assertThat(policy.levelOf(Business.of(ResponseCode.of(40101, "未登录")))).isEqualTo(LogLevel.DEBUG);
+        assertThat(policy.levelOf(Business.of(ResponseCode.of(50001, "内部错误")))).isEqualTo(LogLevel.ERROR);
+    }
+
+    @Test
+    @DisplayName("日志级别未启用时不格式化也不占用限额")
+    void shouldNotFormatWhenLevelDisabled() {
+        logger.setLevel(Level.OFF);
+        FailureLogPolicy policy = policy();
+        Business e = spy(Business.of(PARAM_ERROR, "d", "A#a", "loc"));
+
+        policy.log(logger, e);
+
+        verify(e, never()).toString();
+        assertThat(appender.list).isEmpty();
+        assertThat(policy.getSuppressedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("被抑制的日志不调用 toString")
+    void shouldNotFormatSuppressedFailures() {
+        config.setPermitsPerWindow(1);
+        FailureLogPolicy policy = policy();
+        policy.log(logger, Business.of(PARAM_ERROR, "d", "A#a", "loc"));
+        Business repeated = spy(Business.of(PARAM_ERROR, "d", "A#a", "loc"));
+
+        policy.log(logger, repeated);
+
+        verify(repeated, never()).toString();
+    }
+
+    @Test
+    @DisplayName("批量异常按子错误分别限流，全部被抑制时不输出汇总行")
+    void shouldRateLimitMultiFailurePerError() {
+        config.setPermitsPerWindow(1);
+        FailureLogPolicy policy = policy();
+        MultiBusiness multi = new MultiBusiness(List.of(
+                Business.of(PARAM_ERROR, "d", "A#a", "loc1"),
+                Business.of(PARAM_ERROR, "d", "A#a", "loc2")));
+
+        policy.log(logger, multi);
+        policy.log(logger, multi);
+
+        assertThat(messages()).hasSize(3);
+        assertThat(messages().get(0)).isEqualTo("Multi Failure: 2 errors");
+        assertThat(messages().get(1)).startsWith("1. ");
+    }
+
+    @Test
+    @DisplayName("超过指纹上限后不再跟踪新指纹")
+    void shouldBoundTrackedFingerprints() {
+        config.setPermitsPerWindow(1);
+        config.setMaxFingerprints(1);
+        FailureLogPolicy policy = policy();
+
+        policy.log(logger, Business.of(PARAM_ERROR, "d", "A#a", "loc"));
+        for (int i = 0; i < 3; i++) {
+            policy.log(logger, Business.of(PARAM_ERROR, "d", "B#b", "loc"));
+        }
+
+        assertThat(appender.list).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("指纹表已满时每个窗口周期最多清理一次，清理时输出过期窗口尚未报告的抑制条数")
+    void shouldPurgeAtMostOncePerWindowAndReportEvicted() {
+        config.setPermitsPerWindow(1);
+        config.setMaxFingerprints(1);
+        FailureLogPolicy policy = policy();
+
+        now.set(Duration.ofSeconds(3).toNanos());
+        policy.log(logger, Business.of(PARAM_ERROR, "d", "A#a", "loc"));
+        policy.log(logger, Business.of(PARAM_ERROR, "d", "A#a", "loc"));
+        // 距上次清理已满一个窗口，执行清理，但 A 尚未过期
+        now.set(Duration.ofSeconds(10).toNanos());
+        policy.log(logger, Business.of(PARAM_ERROR, "d", "C#c", "loc"));
+        // A 已过期，但本窗口周期内已清理过，不再遍历
+        now.set(Duration.ofSeconds(13).toNanos());
+        policy.log(logger, Business.of(PARAM_ERROR, "d", "D#d", "loc"));
+        assertThat(messages()).hasSize(3).noneMatch(m -> m.contains("suppressed"));
+
+        now.set(Duration.ofSeconds(20).toNanos());
+        policy.log(logger, Business.of(PARAM_ERROR, "d", "E#e", "loc"));
+
+        assertThat(messages()).hasSize(5);
+        assertThat(messages().get(3)).isEqualTo("Failure :[A#a] {code=40001} (loc) (suppressed 1 similar)");
+        assertThat(messages().get(4)).doesNotContain("suppressed");
+    }
+
+    private static Business mockStatus(Business business, int status) {
+        Business e = mock(Business.class);
+        when(e.getResponseCode()).thenReturn(business.getResponseCode());
+        when(e.getHttpStatus()).thenReturn(HttpStatus.valueOf(status));
+        return e;
+    }
+}
@@ -0,0 +1,117 @@
+package com.chao.failfast.advice;
+
+import com.chao.failfast.internal.Business;
+import com.chao.failfast.internal.MultiBusiness;
+import com.chao.failfast.internal.core.FailureProperties;
+import com.chao.failfast.internal.core.ResponseCode;
+import com.chao.failfast.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestResponseBodyMethodProcessor;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ResultReturnValueHandler 返回值处理器测试")
+class ResultReturnValueHandlerTest {
+
+    private static final ResponseCode NAME_REQUIRED = ResponseCode.of(40001, "名称不能为空");
+
+    private HandlerMethodReturnValueHandler delegate;
+    private ResultReturnValueHandler handler;
+    private MockHttpServletResponse response;
+    private ServletWebRequest request;
+    private MethodParameter returnType;
+
+    static class SampleController {
+        public Result<String> create() {
+            return Result.ok("chao");
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        FailFastExceptionHandler exceptionHandler = new FailFastExceptionHandler() {
+        };
+        exceptionHandler.setFailFastProperties(new FailureProperties());
+        delegate = mock(HandlerMethodReturnValueHandler.class);
+        handler = new ResultReturnValueHandler(delegate, exceptionHandler);
+        response = new MockHttpServletResponse();
+        request = new ServletWebRequest(new MockHttpServletRequest(), response);
+        returnType = new MethodParameter(SampleController.class.getMethod("create"), -1);
+    }
+
+    @Test
+    @DisplayName("Success 应原样交给被包装的处理器")
+    void shouldPassThroughSuccess() throws Exception {
+        Result<String> ok = Result.ok("chao");
+        ModelAndViewContainer mav = new ModelAndViewContainer();
+
+        handler.handleReturnValue(ok, returnType, mav, request);
+
+        verify(delegate).handleReturnValue(ok, returnType, mav, request);
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Fail 应按异常路径设置状态码并写出 FailureBody")
+    void shouldRenderFailLikeExceptionPath() throws Exception {
+        Business error = Business.of(NAME_REQUIRED);
+
+        handler.handleReturnValue(Result.fail(error), returnType, new ModelAndViewContainer(), request);
+
+        ArgumentCaptor<Object> body = ArgumentCaptor.forClass(Object.class);
+        ArgumentCaptor<MethodParameter> type = ArgumentCaptor.forClass(MethodParameter.class);
+        verify(delegate).handleReturnValue(body.capture(), type.capture(), any(), eq(request));
+        assertThat(response.getStatus()).isEqualTo(error.getHttpStatus().value());
+        assertThat(body.getValue()).isInstanceOf(FailureBody.class);
+        assertThat(((FailureBody) body.getValue()).getResponseCode()).isEqualTo(NAME_REQUIRED);
+        // 交给 ResponseBodyAdvice 等的返回值类型与实际响应体一致，方法信息保持不变
+        assertThat(type.getValue().getParameterType()).isEqualTo(FailureBody.class);
+        assertThat(type.getValue().getGenericParameterType()).isEqualTo(FailureBody.class);
+        assertThat(type.getValue().getMethod()).isEqualTo(returnType.getMethod());
+    }
+
+    @Test
+    @DisplayName("携带 MultiBusiness 的 Fail 应使用批量错误响应体")
+    void shouldRenderMultiFail() throws Exception {
+        MultiBusiness multi = new MultiBusiness(List.of(
+                Business.of(NAME_REQUIRED), Business.of(NAME_REQUIRED, "重复")));
+
+        handler.handleReturnValue(Result.fail(multi), returnType, new ModelAndViewContainer(), request);
+
+        ArgumentCaptor<Object> body = ArgumentCaptor.forClass(Object.class);
+        verify(delegate).handleReturnValue(body.capture(), any(MethodParameter.class), any(), eq(request));
+        assertThat(((FailureBody) body.getValue()).getDescription()).isEqualTo("共 2 项错误");
+    }
+
+    @Test
+    @DisplayName("install 应包装 RequestResponseBodyMethodProcessor 且不重复包装")
+    void shouldInstallOnce() {
+        RequestMappingHandlerAdapter adapter = new RequestMappingHandlerAdapter();
+        adapter.afterPropertiesSet();
+        FailFastExceptionHandler exceptionHandler = new FailFastExceptionHandler() {
+        };
+
+        ResultReturnValueHandler.install(adapter, exceptionHandler);
+        ResultReturnValueHandler.install(adapter, exceptionHandler);
+
+        List<HandlerMethodReturnValueHandler> handlers = adapter.getReturnValueHandlers();
+        assertThat(handlers).noneMatch(RequestResponseBodyMethodProcessor.class::isInstance);
+        assertThat(handlers).filteredOn(ResultReturnValueHandler.class::isInstance).hasSize(1);
+    }
+}
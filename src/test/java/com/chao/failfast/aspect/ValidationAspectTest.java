@@ -1,12 +1,15 @@
 package com.chao.failfast.aspect;
 
+import com.chao.failfast.annotation.AsyncFastValidator;
 import com.chao.failfast.annotation.FastValidator;
 import com.chao.failfast.annotation.SkipValidation;
 import com.chao.failfast.annotation.Validate;
 import com.chao.failfast.internal.Business;
 import com.chao.failfast.internal.MultiBusiness;
+import com.chao.failfast.internal.core.FailureProperties;
 import com.chao.failfast.model.TestResponseCode;
 import com.chao.failfast.validator.TypedValidator;
+import com.chao.failfast.validator.ValidationOutcomeCache;
 import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpSession;
@@ -20,7 +23,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
 import org.springframework.context.ApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.InputStream;
@@ -29,6 +39,16 @@ import java.io.Reader;
 import java.io.Writer;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
@@ -188,6 +208,108 @@ class ValidationAspectTest {
         public Class<?> getSupportedType() { return null; }
     }
 
+    // 11. 慢速验证器，用于验证并行执行
+    public static class SlowValidator implements FastValidator<String> {
+        static final CountDownLatch RELEASE = new CountDownLatch(1);
+
+        @Override
+        public void validate(String target, ValidationContext context) {
+            try {
+                // 阻塞直到被释放或超时，模拟调用下游存储
+                if (!RELEASE.await(5, TimeUnit.SECONDS)) return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            context.reportError(TestResponseCode.PARAM_INVALID);
+        }
+
+        @Override
+        public Class<?> getSupportedType() {
+            return String.class;
+        }
+    }
+
+    // 12. 短暂延迟后报错的验证器
+    public static class DelayedValidator implements FastValidator<String> {
+        @Override
+        public void validate(String target, ValidationContext context) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            context.reportError(TestResponseCode.PARAM_ERROR);
+        }
+
+        @Override
+        public Class<?> getSupportedType() {
+            return String.class;
+        }
+    }
+
+    // 13. 异步验证器
+    public static class AsyncStringValidator implements AsyncFastValidator<String> {
+        @Override
+        public CompletionStage<Void> validateAsync(String target, ValidationContext context) {
+            return CompletableFuture.runAsync(() -> {
+                if ("error".equals(target)) context.reportError(TestResponseCode.PARAM_ERROR);
+            });
+        }
+
+        @Override
+        public Class<?> getSupportedType() {
+            return String.class;
+        }
+    }
+
+    // 14. 永不完成的异步验证器，用于验证超时
+    public static class HangingValidator implements AsyncFastValidator<String> {
+        @Override
+        public CompletionStage<Void> validateAsync(String target, ValidationContext context) {
+            return new CompletableFuture<>();
+        }
+
+        @Override
+        public Class<?> getSupportedType() {
+            return String.class;
+        }
+    }
+
+    // 15. 记录调用次数的 record 验证器，用于验证结果缓存
+    public record SkuRequest(String id) {
+    }
+
+    public static class CountingSkuValidator implements FastValidator<SkuRequest> {
+        static final AtomicInteger CALLS = new AtomicInteger();
+
+        @Override
+        public void validate(SkuRequest target, ValidationContext context) {
+            CALLS.incrementAndGet();
+            if (target.id().isEmpty()) context.reportError(TestResponseCode.PARAM_REQUIRED);
+        }
+
+        @Override
+        public Class<?> getSupportedType() {
+            return SkuRequest.class;
+        }
+    }
+
+    // 16. 记录实际执行实例的验证器，用于验证非单例 Bean 的获取
+    public static class InstanceRecordingValidator implements FastValidator<String> {
+        static final Set<InstanceRecordingValidator> USED = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void validate(String target, ValidationContext context) {
+            USED.add(this);
+        }
+
+        @Override
+        public Class<?> getSupportedType() {
+            return String.class;
+        }
+    }
+
     @BeforeEach
     void setUp() {
         // Common setup if needed
@@ -658,11 +780,316 @@ class ValidationAspectTest {
             // Second call
             validationAspect.around(joinPoint, validate);
 
-            // getBeanNamesForType called twice (once per around execution check)
-            verify(applicationContext, times(2)).getBeanNamesForType(StringValidator.class);
+            // 验证器在首次执行时解析并缓存，后续调用不再查询容器
+            verify(applicationContext, times(1)).getBeanNamesForType(StringValidator.class);
+        }
 
-            // Reflection instantiation happens internally in computeIfAbsent, 
-            // verifying it is hard without spying the map, but functionality is covered.
+        @Test
+        @DisplayName("单例 Bean 验证器: 实例在调用间复用")
+        void shouldReuseSingletonValidatorBean() throws Throwable {
+            Class[] validators = {InstanceRecordingValidator.class};
+            when(validate.value()).thenReturn(validators);
+            setupJoinPoint(new Object[]{"valid"}, "singleArg", String.class);
+            InstanceRecordingValidator.USED.clear();
+
+            when(applicationContext.getBeanNamesForType(InstanceRecordingValidator.class)).thenReturn(new String[]{"recording"});
+            when(applicationContext.isSingleton("recording")).thenReturn(true);
+            when(applicationContext.getBean(InstanceRecordingValidator.class)).thenAnswer(inv -> new InstanceRecordingValidator());
+
+            validationAspect.around(joinPoint, validate);
+            validationAspect.around(joinPoint, validate);
+
+            verify(applicationContext, times(1)).getBean(InstanceRecordingValidator.class);
+            assertThat(InstanceRecordingValidator.USED).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("原型 Bean 验证器: 每次调用重新从容器获取实例，类型匹配信息只解析一次")
+        void shouldFetchPrototypeValidatorBeanPerCall() throws Throwable {
+            Class[] validators = {InstanceRecordingValidator.class};
+            when(validate.value()).thenReturn(validators);
+            setupJoinPoint(new Object[]{"valid"}, "singleArg", String.class);
+            InstanceRecordingValidator.USED.clear();
+
+            when(applicationContext.getBeanNamesForType(InstanceRecordingValidator.class)).thenReturn(new String[]{"recording"});
+            when(applicationContext.isSingleton("recording")).thenReturn(false);
+            when(applicationContext.getBean(InstanceRecordingValidator.class)).thenAnswer(inv -> new InstanceRecordingValidator());
+
+            validationAspect.around(joinPoint, validate);
+            validationAspect.around(joinPoint, validate);
+            validationAspect.around(joinPoint, validate);
+
+            assertThat(InstanceRecordingValidator.USED).hasSize(3);
+            verify(applicationContext, times(1)).getBeanNamesForType(InstanceRecordingValidator.class);
+            verify(joinPoint, times(3)).proceed();
+        }
+
+        @Test
+        @DisplayName("方法元数据缓存测试: 参数注解只解析一次")
+        void shouldResolveMethodMetadataOnce() throws Throwable {
+            Class[] validators = {StringValidator.class};
+            when(validate.value()).thenReturn(validators);
+
+            when(joinPoint.getArgs()).thenReturn(new Object[]{"valid"});
+            when(joinPoint.getSignature()).thenReturn(signature);
+            Method method = mock(Method.class);
+            when(signature.getMethod()).thenReturn(method);
+            when(method.getParameterAnnotations()).thenReturn(new Annotation[][]{{}});
+            when(applicationContext.getBeanNamesForType(StringValidator.class)).thenReturn(new String[]{});
+
+            validationAspect.around(joinPoint, validate);
+            validationAspect.around(joinPoint, validate);
+            validationAspect.around(joinPoint, validate);
+
+            verify(method, times(1)).getParameterAnnotations();
+            verify(validate, times(1)).fast();
+            verify(joinPoint, times(3)).proceed();
+        }
+
+        @Test
+        @DisplayName("跳过类型的子类/实现类也应被过滤")
+        void shouldSkipSubtypesOfIgnoredTypes() throws Throwable {
+            Class[] validators = {UnknownTypeValidator.class};
+            when(validate.value()).thenReturn(validators);
+
+            setupJoinPoint(new Object[]{new java.io.ByteArrayInputStream(new byte[0])}, "singleArg", String.class);
+
+            validationAspect.around(joinPoint, validate);
+
+            verify(joinPoint).proceed();
+            verify(applicationContext, never()).getBeanNamesForType(UnknownTypeValidator.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("并行执行测试")
+    class ParallelTest {
+
+        @Test
+        @DisplayName("parallel=true, fast=false: 并行执行并按声明顺序合并错误")
+        void shouldMergeErrorsInDeclarationOrder() throws Throwable {
+            Class[] validators = {DelayedValidator.class, SecondValidator.class};
+            when(validate.value()).thenReturn(validators);
+            when(validate.fast()).thenReturn(false);
+            when(validate.parallel()).thenReturn(true);
+            setupJoinPoint(new Object[]{"any"}, "singleArg", String.class);
+            when(applicationContext.getBeanNamesForType(any(Class.class))).thenReturn(new String[]{});
+
+            Throwable thrown = catchThrowable(() -> validationAspect.around(joinPoint, validate));
+
+            assertThat(thrown).isInstanceOf(MultiBusiness.class);
+            assertThat(((MultiBusiness) thrown).getErrors())
+                    .extracting(e -> e.getResponseCode().getCode())
+                    .containsExactly(TestResponseCode.PARAM_ERROR.getCode(), TestResponseCode.SYSTEM_ERROR.getCode());
+            verify(joinPoint, never()).proceed();
+        }
+
+        @Test
+        @DisplayName("parallel=true, fast=true: 首个失败取消其余验证器")
+        void shouldCancelRemainingValidatorsOnFirstFailure() throws Throwable {
+            Class[] validators = {SlowValidator.class, StoppingValidator.class};
+            when(validate.value()).thenReturn(validators);
+            when(validate.fast()).thenReturn(true);
+            when(validate.parallel()).thenReturn(true);
+            setupJoinPoint(new Object[]{"any"}, "singleArg", String.class);
+            when(applicationContext.getBeanNamesForType(any(Class.class))).thenReturn(new String[]{});
+
+            try {
+                long start = System.nanoTime();
+                Throwable thrown = catchThrowable(() -> validationAspect.around(joinPoint, validate));
+                long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+                // 不等待慢速验证器，直接返回第一个失败
+                assertThat(thrown).isInstanceOf(Business.class).isNotInstanceOf(MultiBusiness.class);
+                assertThat(((Business) thrown).getResponseCode().getCode()).isEqualTo(TestResponseCode.PARAM_ERROR.getCode());
+                assertThat(elapsed).isLessThan(3000);
+            } finally {
+                SlowValidator.RELEASE.countDown();
+            }
+        }
+
+        @Test
+        @DisplayName("parallel=true: 验证器抛出的异常原样抛出")
+        void shouldRethrowValidatorException() throws Throwable {
+            Class[] validators = {ExceptionThrowingValidator.class, StringValidator.class};
+            when(validate.value()).thenReturn(validators);
+            when(validate.fast()).thenReturn(true);
+            when(validate.parallel()).thenReturn(true);
+            setupJoinPoint(new Object[]{"valid"}, "singleArg", String.class);
+            when(applicationContext.getBeanNamesForType(any(Class.class))).thenReturn(new String[]{});
+
+            Throwable thrown = catchThrowable(() -> validationAspect.around(joinPoint, validate));
+
+            assertThat(thrown).isInstanceOf(RuntimeException.class)
+                    .hasMessage("Validator execution failed");
+        }
+
+        @Test
+        @DisplayName("parallel=true: 全部通过时继续执行目标方法")
+        void shouldProceedWhenAllParallelValidatorsPass() throws Throwable {
+            Class[] validators = {StringValidator.class, MyTypedValidator.class};
+            when(validate.value()).thenReturn(validators);
+            when(validate.parallel()).thenReturn(true);
+            setupJoinPoint(new Object[]{"valid"}, "singleArg", String.class);
+            when(applicationContext.getBeanNamesForType(any(Class.class))).thenReturn(new String[]{});
+
+            validationAspect.around(joinPoint, validate);
+
+            verify(joinPoint).proceed();
+        }
+    }
+
+    @Nested
+    @DisplayName("异步方法校验测试")
+    class AsyncMethodTest {
+
+        @Test
+        @DisplayName("CompletableFuture 方法: 校验失败时返回异常完成的 Future 且不调用目标方法")
+        void shouldFailFutureWhenValidationFails() throws Throwable {
+            Class[] validators = {AsyncStringValidator.class};
+            when(validate.value()).thenReturn(validators);
+            setupJoinPoint(new Object[]{"error"}, "futureArg", String.class);
+            when(applicationContext.getBeanNamesForType(AsyncStringValidator.class)).thenReturn(new String[]{});
+
+            Object result = validationAspect.around(joinPoint, validate);
+
+            assertThat(result).isInstanceOf(CompletableFuture.class);
+            Throwable thrown = catchThrowable(() -> ((CompletableFuture<?>) result).get(5, TimeUnit.SECONDS));
+            assertThat(thrown).isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(Business.class);
+            verify(joinPoint, never()).proceed();
+        }
+
+        @Test
+        @DisplayName("CompletableFuture 方法: 校验通过后转接目标方法的结果")
+        void shouldProceedAsyncWhenValidationPasses() throws Throwable {
+            Class[] validators = {AsyncStringValidator.class, StringValidator.class};
+            when(validate.value()).thenReturn(validators);
+            setupJoinPoint(new Object[]{"valid"}, "futureArg", String.class);
+            when(applicationContext.getBeanNamesForType(any(Class.class))).thenReturn(new String[]{});
+            when(joinPoint.proceed()).thenReturn(CompletableFuture.completedFuture("ok"));
+
+            Object result = validationAspect.around(joinPoint, validate);
+
+            assertThat(((CompletableFuture<?>) result).get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+        }
+
+        @Test
+        @DisplayName("DeferredResult 方法: 校验失败时设置错误结果")
+        void shouldSetErrorResultOnDeferredResult() throws Throwable {
+            Class[] validators = {AsyncStringValidator.class};
+            when(validate.value()).thenReturn(validators);
+            setupJoinPoint(new Object[]{"error"}, "deferredArg", String.class);
+            when(applicationContext.getBeanNamesForType(AsyncStringValidator.class)).thenReturn(new String[]{});
+
+            Object result = validationAspect.around(joinPoint, validate);
+
+            assertThat(result).isInstanceOf(DeferredResult.class);
+            DeferredResult<?> deferred = (DeferredResult<?>) result;
+            await(deferred);
+            assertThat(deferred.getResult()).isInstanceOf(Business.class);
+            verify(joinPoint, never()).proceed();
+        }
+
+        @Test
+        @DisplayName("CompletableFuture 方法: 在调用线程的请求上下文与 MDC 中调用目标方法")
+        void shouldProceedWithCallerContext() throws Throwable {
+            Class[] validators = {AsyncStringValidator.class};
+            when(validate.value()).thenReturn(validators);
+            setupJoinPoint(new Object[]{"valid"}, "futureArg", String.class);
+            when(applicationContext.getBeanNamesForType(AsyncStringValidator.class)).thenReturn(new String[]{});
+            AtomicReference<RequestAttributes> seenAttributes = new AtomicReference<>();
+            AtomicReference<String> seenTrace = new AtomicReference<>();
+            when(joinPoint.proceed()).thenAnswer(invocation -> {
+                seenAttributes.set(RequestContextHolder.getRequestAttributes());
+                seenTrace.set(MDC.get("traceId"));
+                return CompletableFuture.completedFuture("ok");
+            });
+            ServletRequestAttributes attributes = new ServletRequestAttributes(new MockHttpServletRequest());
+            RequestContextHolder.setRequestAttributes(attributes);
+            MDC.put("traceId", "t-1");
+            Object result;
+            try {
+                result = validationAspect.around(joinPoint, validate);
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+                MDC.remove("traceId");
+            }
+
+            assertThat(((CompletableFuture<?>) result).get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+            assertThat(seenAttributes.get()).isSameAs(attributes);
+            assertThat(seenTrace.get()).isEqualTo("t-1");
+        }
+
+        @Test
+        @DisplayName("DeferredResult 方法: 目标方法返回的 DeferredResult 原样交给 MVC，保留其超时与回调")
+        void shouldHandOverInnerDeferredResult() throws Throwable {
+            Class[] validators = {AsyncStringValidator.class};
+            when(validate.value()).thenReturn(validators);
+            setupJoinPoint(new Object[]{"valid"}, "deferredArg", String.class);
+            when(applicationContext.getBeanNamesForType(AsyncStringValidator.class)).thenReturn(new String[]{});
+            DeferredResult<String> inner = new DeferredResult<>(100L, () -> "timeout");
+            when(joinPoint.proceed()).thenReturn(inner);
+
+            DeferredResult<?> deferred = (DeferredResult<?>) validationAspect.around(joinPoint, validate);
+            await(deferred);
+
+            assertThat(deferred.getResult()).isSameAs(inner);
+        }
+
+        @Test
+        @DisplayName("超时: 以配置的错误码报告")
+        void shouldReportConfiguredCodeOnTimeout() throws Throwable {
+            FailureProperties properties = new FailureProperties();
+            properties.getValidation().setTimeout(Duration.ofMillis(100));
+            properties.getValidation().setTimeoutCode(50401);
+            ReflectionTestUtils.setField(validationAspect, "properties", properties);
+
+            Class[] validators = {HangingValidator.class};
+            when(validate.value()).thenReturn(validators);
+            setupJoinPoint(new Object[]{"valid"}, "futureArg", String.class);
+            when(applicationContext.getBeanNamesForType(HangingValidator.class)).thenReturn(new String[]{});
+
+            Object result = validationAspect.around(joinPoint, validate);
+
+            Throwable thrown = catchThrowable(() -> ((CompletableFuture<?>) result).get(5, TimeUnit.SECONDS));
+            assertThat(thrown.getCause()).isInstanceOf(Business.class);
+            assertThat(((Business) thrown.getCause()).getResponseCode().getCode()).isEqualTo(50401);
+            verify(joinPoint, never()).proceed();
+        }
+
+        private void await(DeferredResult<?> deferred) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (!deferred.hasResult() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("结果缓存测试")
+    class OutcomeCacheTest {
+
+        @Test
+        @DisplayName("cache=true: 相同内容的参数只校验一次")
+        void shouldSkipValidationForCachedContent() throws Throwable {
+            ValidationOutcomeCache cache = new ValidationOutcomeCache(100, null);
+            ReflectionTestUtils.setField(validationAspect, "outcomeCache", cache);
+            CountingSkuValidator.CALLS.set(0);
+
+            Class[] validators = {CountingSkuValidator.class};
+            when(validate.value()).thenReturn(validators);
+            when(validate.cache()).thenReturn(true);
+            setupJoinPoint(new Object[]{new SkuRequest("")}, "recordArg", SkuRequest.class);
+            when(applicationContext.getBeanNamesForType(CountingSkuValidator.class)).thenReturn(new String[]{});
+
+            Throwable first = catchThrowable(() -> validationAspect.around(joinPoint, validate));
+            Throwable second = catchThrowable(() -> validationAspect.around(joinPoint, validate));
+
+            assertThat(first).isInstanceOf(Business.class);
+            assertThat(second).isInstanceOf(Business.class);
+            assertThat(CountingSkuValidator.CALLS).hasValue(1);
+            assertThat(cache.stats().hits()).isEqualTo(1);
         }
     }
 
@@ -685,10 +1112,16 @@ class ValidationAspectTest {
 
         void doubleArg(Double arg);
 
+        CompletableFuture<String> futureArg(String arg);
+
+        DeferredResult<String> deferredArg(String arg);
+
         void mixedArgs(String arg1, String arg2, @SkipValidation String arg3, ServletRequest req);
 
         void mixedArgs2(String arg1, Integer arg2);
 
+        void recordArg(SkuRequest arg);
+
         void ignoredTypes(ServletRequest req, ServletResponse resp, HttpSession session, MultipartFile file, InputStream is, OutputStream os, Reader reader, Writer writer);
     }
 }
@@ -90,6 +90,42 @@ class CodeMappingConfigTest {
             // 418 是 Spring 的 HttpStatus 枚举，但不是 RFC 标准
             assertThat(config.resolveHttpStatus(418)).isEqualTo(HttpStatus.I_AM_A_TEAPOT);
         }
+
+        @Test
+        @DisplayName("非标准HTTP码应继续按映射规则解析")
+        void shouldResolveNonStandardHttpCodeByMapping() {
+            assertThat(config.resolveHttpStatus(499)).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+
+            Map<String, Integer> custom = new HashMap<>();
+            custom.put("499", 401);
+            properties.getCodeMapping().setHttpStatus(custom);
+            config = new CodeMappingConfig(properties);
+
+            assertThat(config.resolveHttpStatus(499)).isEqualTo(HttpStatus.UNAUTHORIZED);
+        }
+
+        @Test
+        @DisplayName("查找表之外的码应解析为500")
+        void shouldResolveCodesOutsideTableToInternalServerError() {
+            assertThat(config.resolveHttpStatus(-1)).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+            assertThat(config.resolveHttpStatus(Integer.MIN_VALUE)).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+            assertThat(config.resolveHttpStatus(Integer.MAX_VALUE)).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+
+        @Test
+        @DisplayName("查找表之外的自定义映射应仍然生效")
+        void shouldResolveCustomMappingsOutsideTable() {
+            Map<String, Integer> custom = new HashMap<>();
+            custom.put("2000000", 404);
+            custom.put("-200", 403);
+            properties.getCodeMapping().setHttpStatus(custom);
+            config = new CodeMappingConfig(properties);
+
+            assertThat(config.resolveHttpStatus(2000000)).isEqualTo(HttpStatus.NOT_FOUND);
+            assertThat(config.resolveHttpStatus(2000042)).isEqualTo(HttpStatus.NOT_FOUND);
+            assertThat(config.resolveHttpStatus(-200)).isEqualTo(HttpStatus.FORBIDDEN);
+            assertThat(config.resolveHttpStatus(2000100)).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
     }
 
     @Nested
@@ -139,6 +175,53 @@ class CodeMappingConfigTest {
             List<Integer> codes = config.getGroupCodes("product");
             assertThat(codes).isEqualTo(Arrays.asList(40400, 40499));
         }
+
+        @Test
+        @DisplayName("重叠与相邻的范围应合并后判断")
+        void shouldMergeOverlappingRanges() {
+            Map<String, List<Object>> groups = new HashMap<>();
+            groups.put("merged", Arrays.asList("2003-2010", "2000-2005", 2011, "3000..3002"));
+            properties.getCodeMapping().setGroups(groups);
+            config = new CodeMappingConfig(properties);
+
+            assertThat(config.isInGroup(2000, "merged")).isTrue();
+            assertThat(config.isInGroup(2011, "merged")).isTrue();
+            assertThat(config.isInGroup(2012, "merged")).isFalse();
+            assertThat(config.isInGroup(2999, "merged")).isFalse();
+            assertThat(config.isInGroup(3002, "merged")).isTrue();
+            assertThat(config.getGroupCodesExpanded("merged", 20))
+                    .isEqualTo("[2000, 2001, 2002, 2003, 2004, 2005, 2006, 2007, 2008, 2009, 2010, 2011, 3000, 3001, 3002]");
+        }
+
+        @Test
+        @DisplayName("应当返回包含错误码的所有分组")
+        void shouldFindGroupsOfCode() {
+            Map<String, List<Object>> groups = new HashMap<>();
+            groups.put("client", List.of("40000-49999"));
+            groups.put("auth", List.of("40100..40199", 40300));
+            groups.put("misc", List.of(40300, 1001));
+            properties.getCodeMapping().setGroups(groups);
+            config = new CodeMappingConfig(properties);
+
+            assertThat(config.getGroupsOf(40150)).containsExactly("auth", "client");
+            assertThat(config.getGroupsOf(40300)).containsExactly("auth", "client", "misc");
+            assertThat(config.getGroupsOf(40200)).containsExactly("client");
+            assertThat(config.getGroupsOf(1001)).containsExactly("misc");
+            assertThat(config.getGroupsOf(50000)).isEmpty();
+            assertThat(config.getGroupsOf(-1)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("大范围分组的省略格式应直接由区间计算")
+        void shouldSummarizeLargeGroupWithoutExpansion() {
+            Map<String, List<Object>> groups = new HashMap<>();
+            groups.put("huge", List.of("0-2147483647"));
+            properties.getCodeMapping().setGroups(groups);
+            config = new CodeMappingConfig(properties);
+
+            assertThat(config.isInGroup(Integer.MAX_VALUE, "huge")).isTrue();
+            assertThat(config.getGroupCodesExpanded("huge")).isEqualTo("[0, 1, 2, 3, ..., 2147483647]");
+        }
     }
 
     @Nested
@@ -3,10 +3,14 @@ package com.chao.failfast.config;
 import com.chao.failfast.advice.DefaultExceptionHandler;
 import com.chao.failfast.advice.FailFastExceptionHandler;
 import com.chao.failfast.aspect.ValidationAspect;
+import com.chao.failfast.aspect.ValidationExecutorHolder;
 import com.chao.failfast.internal.FailureContext;
+import com.chao.failfast.internal.core.FailureClock;
+import com.chao.failfast.result.SideEffectExecutor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
 import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
@@ -14,6 +18,9 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("FailFastAutoConfiguration 自动配置测试")
@@ -32,6 +39,11 @@ class FailFastAutoConfigurationTest {
             assertThat(context).hasSingleBean(DefaultExceptionHandler.class);
             assertThat(context).hasSingleBean(ValidationAspect.class);
             assertThat(context).hasSingleBean(FailFastAutoConfiguration.ExInitializer.class);
+            assertThat(context).hasSingleBean(FailureClock.class);
+            assertThat(FailureClock.shared()).isSameAs(context.getBean(FailureClock.class));
+            assertThat(context).hasSingleBean(SideEffectExecutor.class);
+            assertThat(SideEffectExecutor.shared()).isSameAs(context.getBean(SideEffectExecutor.class));
+            assertThat(context.getBeanNamesForType(Executor.class)).doesNotContain("sideEffectExecutor");
         });
     }
 
@@ -56,6 +68,44 @@ class FailFastAutoConfigurationTest {
                 .run(context -> assertThat(context).hasBean("failFastCleanupFilter"));
     }
 
+    @Test
+    @DisplayName("Result 返回值处理器默认不启用，需显式开启")
+    void shouldInstallResultHandlerOnlyWhenEnabled() {
+        WebApplicationContextRunner webRunner = new WebApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(FailFastAutoConfiguration.class, ValidationAutoConfiguration.class));
+        webRunner.run(context -> assertThat(context).doesNotHaveBean("failFastResultReturnValueInstaller"));
+        webRunner.withPropertyValues("fail-fast.result-handler=true")
+                .run(context -> assertThat(context).hasBean("failFastResultReturnValueInstaller"));
+    }
+
+    @Test
+    @DisplayName("应当创建并行校验执行器，关闭虚拟线程时使用平台线程池")
+    void shouldCreateValidationExecutor() {
+        contextRunner.withPropertyValues(
+                "fail-fast.validation.virtual-threads=false",
+                "fail-fast.validation.parallelism=2"
+        ).run(context -> {
+            assertThat(context).hasBean(ValidationAspect.EXECUTOR_BEAN_NAME);
+            ValidationExecutorHolder holder = context.getBean(ValidationAspect.EXECUTOR_BEAN_NAME, ValidationExecutorHolder.class);
+            ExecutorService executor = (ExecutorService) holder.getExecutor();
+            String threadName = executor.submit(() -> Thread.currentThread().getName()).get();
+            assertThat(threadName).startsWith("fail-fast-validation-");
+        });
+    }
+
+    @Test
+    @DisplayName("不注册 Executor 类型的 Bean，Spring Boot 的 applicationTaskExecutor 仍然创建")
+    void shouldKeepApplicationTaskExecutor() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(FailFastAutoConfiguration.class,
+                        ValidationAutoConfiguration.class, TaskExecutionAutoConfiguration.class))
+                .run(context -> {
+                    assertThat(context).hasBean(ValidationAspect.EXECUTOR_BEAN_NAME);
+                    assertThat(context).hasBean("applicationTaskExecutor");
+                    assertThat(context.getBeanNamesForType(Executor.class)).containsExactly("applicationTaskExecutor");
+                });
+    }
+
     @Test
     @DisplayName("当用户自定义异常处理器时应当不创建 DefaultExceptionHandler")
     void shouldNotCreateDefaultExceptionHandlerWhenUserDefined() {
@@ -0,0 +1,67 @@
+package com.chao.failfast.internal;
+
+import com.chao.failfast.internal.core.ResponseCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BusinessFormat 格式化缓存测试")
+class BusinessFormatTest {
+
+    @Test
+    @DisplayName("错误码格式化应与原正则 (\\d{3})(\\d{2}) 的结果一致")
+    void shouldFormatCodeLikeRegex() {
+        int[] codes = {0, 7, 999, 1001, 9999, 10000, 40001, 123456, -40001, -1001, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        for (int code : codes) {
+            String expected = String.valueOf(code).replaceFirst("(\\d{3})(\\d{2})", "$1_$2");
+            assertThat(BusinessFormat.formatCode(code)).as("code %d", code).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("相同响应码、方法与位置应复用缓存的格式化结果")
+    void shouldReuseCachedParts() {
+        ResponseCode code = ResponseCode.of(40001, "参数错误");
+        String location = "UserController$Rules.check(UserController$Rules.java:42)";
+
+        assertThat(BusinessFormat.prefix(code)).isSameAs(BusinessFormat.prefix(ResponseCode.of(40001, "参数错误")));
+        assertThat(BusinessFormat.displayMethod("UserController$Rules#check")).isEqualTo("UserController#check")
+                .isSameAs(BusinessFormat.displayMethod("UserController$Rules#check"));
+        assertThat(BusinessFormat.fileLine(location)).isEqualTo("UserController.java:42")
+                .isSameAs(BusinessFormat.fileLine(location));
+    }
+
+    @Test
+    @DisplayName("响应码前缀按 code 与 message 缓存，描述不同的响应码共享同一条目")
+    void shouldSharePrefixAcrossDescriptions() {
+        assertThat(BusinessFormat.prefix(ResponseCode.of(40002, "格式错误", "描述一")))
+                .isSameAs(BusinessFormat.prefix(ResponseCode.of(40002, "格式错误", "描述二")));
+    }
+
+    @Test
+    @DisplayName("缓存超出上限后淘汰最久未使用的条目，常用响应码保留")
+    void shouldKeepRecentlyUsedPrefixes() {
+        ResponseCode hot = ResponseCode.of(40003, "常用错误");
+        String cached = BusinessFormat.prefix(hot);
+
+        for (int i = 0; i < BusinessFormat.MAX_ENTRIES * 2; i++) {
+            BusinessFormat.prefix(ResponseCode.of(400, "不支持的校验类型: " + i));
+            assertThat(BusinessFormat.prefix(hot)).isSameAs(cached);
+        }
+    }
+
+    @Test
+    @DisplayName("完整格式应保持不变")
+    void shouldKeepToStringFormat() {
+        Business business = Business.of(ResponseCode.of(40001, "参数错误"), "名称不能为空",
+                "UserController$Rules#check", "UserController$Rules.check(UserController$Rules.java:42)");
+
+        assertThat(business.toString())
+                .isEqualTo("[UserController#check] {code=400_01, mes=参数错误, des=名称不能为空} (UserController.java:42)");
+        assertThat(new MultiBusiness(List.of(business, Business.of(1001, "错误"))).toString())
+                .isEqualTo("Multi={\n  1. " + business + ",\n  2. {code=1001, mes=错误, des=错误}\n}");
+    }
+}
@@ -299,6 +299,41 @@ class ExTest {
         }
     }
 
+    @Nested
+    @DisplayName("site 单次遍历测试")
+    class SiteTest {
+
+        @Test
+        @DisplayName("未启用方法打印时应返回空调用点")
+        void shouldReturnNoneWhenShadowTraceDisabled() {
+            when(context.isShadowTrace()).thenReturn(false);
+            assertThat(Ex.site()).isSameAs(Ex.Site.NONE);
+            assertThat(Ex.site().method()).isNull();
+            assertThat(Ex.site().location()).isNull();
+        }
+
+        @Test
+        @DisplayName("应一次返回方法与位置信息")
+        void shouldCaptureMethodAndLocationTogether() {
+            when(context.isShadowTrace()).thenReturn(true);
+            Ex.Site site = Ex.site();
+            assertThat(site.method()).isEqualTo(Ex.method());
+            assertThat(site.location()).matches(".*\\.java:\\d+\\)$");
+        }
+
+        @Test
+        @DisplayName("同一调用点应复用缓存的格式化字符串")
+        void shouldReuseFormattedStringsForSameCallSite() {
+            when(context.isShadowTrace()).thenReturn(true);
+            Ex.Site[] sites = new Ex.Site[2];
+            for (int i = 0; i < sites.length; i++) {
+                sites[i] = Ex.site();
+            }
+            assertThat(sites[1].location()).isSameAs(sites[0].location());
+            assertThat(sites[1].method()).isSameAs(sites[0].method());
+        }
+    }
+
     @Nested
     @DisplayName("isNotSkipped 边界测试")
     class IsNotSkippedBoundaryTest {
@@ -0,0 +1,106 @@
+package com.chao.failfast.internal;
+
+import com.chao.failfast.internal.core.FailureClock;
+import com.chao.failfast.result.Result;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FailureClock 共享时钟测试")
+class FailureClockTest {
+
+    /**
+     * 可手动推进的时钟
+     */
+    static class MutableClock extends Clock {
+        final AtomicLong millis;
+
+        MutableClock(long millis) {
+            this.millis = new AtomicLong(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis.get());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        FailureClock.setShared(null);
+    }
+
+    @Test
+    @DisplayName("应按 Asia/Shanghai 格式化时间")
+    void shouldFormatInShanghaiZone() {
+        FailureClock clock = new FailureClock(Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC));
+
+        assertThat(clock.now()).isEqualTo("2026-01-01 08:00:00");
+    }
+
+    @Test
+    @DisplayName("同一秒内应复用格式化结果，跨秒后刷新")
+    void shouldReuseWithinSameSecond() {
+        MutableClock source = new MutableClock(Instant.parse("2026-01-01T00:00:00Z").toEpochMilli());
+        FailureClock clock = new FailureClock(source);
+
+        String first = clock.now();
+        source.millis.addAndGet(999);
+        assertThat(clock.now()).isSameAs(first);
+
+        source.millis.addAndGet(1);
+        assertThat(clock.now()).isEqualTo("2026-01-01 08:00:01");
+    }
+
+    @Test
+    @DisplayName("格式化较早的时间不应覆盖最新的缓存")
+    void shouldNotCacheOlderSecond() {
+        MutableClock source = new MutableClock(Instant.parse("2026-01-01T00:00:10Z").toEpochMilli());
+        FailureClock clock = new FailureClock(source);
+        String latest = clock.now();
+
+        assertThat(clock.format(Instant.parse("2026-01-01T00:00:05Z").toEpochMilli())).isEqualTo("2026-01-01 08:00:05");
+        assertThat(clock.now()).isSameAs(latest);
+    }
+
+    @Test
+    @DisplayName("Result 的时间戳应为创建时间，并在首次读取时格式化")
+    void shouldFormatResultTimestampLazily() {
+        MutableClock source = new MutableClock(Instant.parse("2026-01-01T00:00:00Z").toEpochMilli());
+        FailureClock.setShared(new FailureClock(source));
+
+        Result<String> result = Result.ok("data");
+        source.millis.addAndGet(5_000);
+
+        assertThat(result.getTimestamp()).isEqualTo("2026-01-01 08:00:00");
+        assertThat(result.getTimestamp()).isSameAs(result.getTimestamp());
+    }
+
+    @Test
+    @DisplayName("时钟不能为空，共享实例设为 null 时恢复系统时钟")
+    void shouldValidateClock() {
+        assertThatThrownBy(() -> new FailureClock(null)).isInstanceOf(IllegalArgumentException.class);
+
+        FailureClock.setShared(null);
+        assertThat(FailureClock.shared().getClock()).isEqualTo(Clock.systemUTC());
+    }
+}
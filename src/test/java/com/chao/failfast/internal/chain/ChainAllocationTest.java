@@ -0,0 +1,49 @@
+package com.chao.failfast.internal.chain;
+
+import com.chao.failfast.Failure;
+import com.chao.failfast.internal.Chain;
+import com.chao.failfast.internal.core.ResponseCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("Chain 分配测试 - 校验通过时零分配")
+class ChainAllocationTest {
+
+    private static final ResponseCode CODE = ResponseCode.of(40001, "参数错误");
+
+    private static Chain passing(Chain chain, String name, int age, Object obj) {
+        return chain.notNull(obj, CODE)
+                .notBlank(name, CODE)
+                .lengthBetween(name, 1, 10, CODE, "长度错误")
+                .positive(age, CODE)
+                .inRangeLong(age, 0, 200, CODE)
+                .isTrue(age > 0, CODE, "年龄错误");
+    }
+
+    @Test
+    @DisplayName("ResponseCode 重载在校验通过时不产生任何分配")
+    void passingCodeChecksShouldNotAllocate() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(mx.isThreadAllocatedMemorySupported() && mx.isThreadAllocatedMemoryEnabled());
+
+        long tid = Thread.currentThread().getId();
+        Chain chain = Failure.begin();
+        Object obj = new Object();
+        // 预热，排除类加载与首次解析带来的分配
+        for (int i = 0; i < 50_000; i++) passing(chain, "chao", 18, obj);
+
+        long before = mx.getThreadAllocatedBytes(tid);
+        for (int i = 0; i < 100_000; i++) passing(chain, "chao", 18, obj);
+        long allocated = mx.getThreadAllocatedBytes(tid) - before;
+
+        assertThat(chain.isValid()).isTrue();
+        // 每次调用捕获型 lambda 至少 16 字节，60 万次校验若有分配会远超该阈值
+        assertThat(allocated).isLessThan(1024);
+    }
+}
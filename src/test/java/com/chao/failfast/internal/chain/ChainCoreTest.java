@@ -125,4 +125,35 @@ class ChainCoreTest {
         assertThat(context.isValid()).isFalse();
         assertThat(context.hasCauses()).hasSize(1);
     }
+
+    @Test
+    @DisplayName("Violation: 严格模式只记录违规值，读取时才物化为 Business")
+    void shouldRecordViolationsLazily() {
+        TestChain chain = TestChain.create(false);
+        chain.publicCheck(false, s -> s.responseCode(ResponseCode.of(400, "Error 1")).detail("d1"));
+        chain.publicCheck(false);
+
+        assertThat(chain.getViolations()).hasSize(2);
+        assertThat(chain.getViolations().get(0).code().getCode()).isEqualTo(400);
+        assertThat(chain.getViolations().get(0).detail()).isEqualTo("d1");
+        assertThat(chain.getViolations().get(1).code()).isNull();
+
+        assertThat(chain.getCauses().get(0).getDetail()).isEqualTo("d1");
+        assertThat(chain.getCauses().get(1).getResponseCode().getCode()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("Violation: Fabricator 配置延迟到物化时执行")
+    void shouldInvokeFabricatorOnlyOnMaterialize() {
+        int[] calls = {0};
+        TestChain chain = TestChain.create(false);
+        chain.publicCheck(false, s -> s.fabricator(f -> {
+            calls[0]++;
+            f.responseCode(ResponseCode.of(409, "Conflict")).detail("dup");
+        }));
+
+        assertThat(calls[0]).isZero();
+        assertThat(chain.getCauses().get(0).getResponseCode().getCode()).isEqualTo(409);
+        assertThat(calls[0]).isEqualTo(1);
+    }
 }
@@ -141,4 +141,22 @@ class ChainTerminatorTest {
         Optional<String> result = chain.onFailGet(() -> "Value");
         assertThat(result).isPresent().contains("Value");
     }
+
+    @Test
+    @DisplayName("failAll: 超过上限时只物化 MAX_ERRORS 个错误，描述按总数生成")
+    void failAllShouldMaterializeOnlyRetainedErrors() {
+        TestTerminator chain = TestTerminator.create(false);
+        for (int i = 0; i < 200; i++) {
+            chain.addError(ResponseCode.of(400, "Error " + i));
+        }
+
+        assertThatThrownBy(chain::failAll)
+                .isInstanceOf(MultiBusiness.class)
+                .satisfies(e -> {
+                    MultiBusiness multi = (MultiBusiness) e;
+                    assertThat(multi.getErrors()).hasSize(MultiBusiness.MAX_ERRORS);
+                    assertThat(multi.getDetail()).contains("200");
+                    assertThat(multi.getResponseCode().getDescription()).contains("错误过多");
+                });
+    }
 }
@@ -303,4 +303,81 @@ class NumberChecksTest {
             assertThat(NumberChecks.decimalScale(null, 2)).isFalse();
         }
     }
+
+    @Nested
+    @DisplayName("multipleOf 精确取模测试")
+    class ExactMultipleOfTest {
+        @Test
+        @DisplayName("大 long 值不因 double 精度丢失而误判")
+        void shouldBeExactForLargeLongs() {
+            long big = 9_007_199_254_740_993L; // 2^53 + 1，double 无法精确表示
+            assertThat(NumberChecks.multipleOf(big, 2L)).isFalse();
+            assertThat(NumberChecks.multipleOfLong(big, 2L)).isFalse();
+            assertThat(NumberChecks.multipleOfLong(big - 1, 2L)).isTrue();
+        }
+
+        @Test
+        @DisplayName("BigDecimal 使用十进制精确取余")
+        void shouldBeExactForBigDecimal() {
+            assertThat(NumberChecks.multipleOf(new java.math.BigDecimal("0.3"), new java.math.BigDecimal("0.1"))).isTrue();
+            assertThat(NumberChecks.multipleOf(new java.math.BigDecimal("0.35"), new java.math.BigDecimal("0.1"))).isFalse();
+            assertThat(NumberChecks.multipleOf(new java.math.BigDecimal("1"), java.math.BigDecimal.ZERO)).isFalse();
+        }
+
+        @Test
+        @DisplayName("除数为0或-1的边界")
+        void shouldHandleEdgeDivisors() {
+            assertThat(NumberChecks.multipleOfLong(10, 0)).isFalse();
+            assertThat(NumberChecks.multipleOfLong(Long.MIN_VALUE, -1)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("基本类型特化方法测试")
+    class PrimitiveTest {
+        @Test
+        @DisplayName("单值检查")
+        void shouldCheckSingleValues() {
+            assertThat(NumberChecks.positive(1L)).isTrue();
+            assertThat(NumberChecks.positive(-0.5d)).isFalse();
+            assertThat(NumberChecks.nonNegative(0L)).isTrue();
+            assertThat(NumberChecks.notZero(0.0d)).isFalse();
+            assertThat(NumberChecks.isZero(0L)).isTrue();
+            assertThat(NumberChecks.negative(-1L)).isTrue();
+        }
+
+        @Test
+        @DisplayName("范围与比较检查")
+        void shouldCompareValues() {
+            assertThat(NumberChecks.inRangeLong(5, 1, 10)).isTrue();
+            assertThat(NumberChecks.inRangeLong(11, 1, 10)).isFalse();
+            assertThat(NumberChecks.inRangeDouble(1.5, 1.0, 2.0)).isTrue();
+            assertThat(NumberChecks.greaterThanLong(2, 1)).isTrue();
+            assertThat(NumberChecks.greaterOrEqualDouble(1.0, 1.0)).isTrue();
+            assertThat(NumberChecks.lessThanLong(1, 1)).isFalse();
+            assertThat(NumberChecks.lessOrEqualDouble(0.9, 1.0)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("decimalDigits / decimalPrecision 方法测试")
+    class DecimalDigitsTest {
+        @Test
+        @DisplayName("整数位与小数位限制")
+        void shouldCheckDigits() {
+            assertThat(NumberChecks.decimalDigits(new java.math.BigDecimal("123.45"), 3, 2)).isTrue();
+            assertThat(NumberChecks.decimalDigits(new java.math.BigDecimal("1234.5"), 3, 2)).isFalse();
+            assertThat(NumberChecks.decimalDigits(new java.math.BigDecimal("1.234"), 3, 2)).isFalse();
+            assertThat(NumberChecks.decimalDigits(new java.math.BigDecimal("1E+3"), 4, 0)).isTrue();
+            assertThat(NumberChecks.decimalDigits(null, 3, 2)).isFalse();
+        }
+
+        @Test
+        @DisplayName("有效位数限制")
+        void shouldCheckPrecision() {
+            assertThat(NumberChecks.decimalPrecision(new java.math.BigDecimal("123.45"), 5)).isTrue();
+            assertThat(NumberChecks.decimalPrecision(new java.math.BigDecimal("123.456"), 5)).isFalse();
+            assertThat(NumberChecks.decimalPrecision(null, 5)).isFalse();
+        }
+    }
 }
@@ -0,0 +1,108 @@
+package com.chao.failfast.internal.plan;
+
+import com.chao.failfast.Failure;
+import com.chao.failfast.annotation.FastValidator;
+import com.chao.failfast.internal.Business;
+import com.chao.failfast.internal.Chain;
+import com.chao.failfast.internal.MultiBusiness;
+import com.chao.failfast.internal.core.ResponseCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ValidationPlan 预编译验证计划测试")
+class ValidationPlanTest {
+
+    private static final ResponseCode ERR_NAME = ResponseCode.of(40001, "名称错误");
+    private static final ResponseCode ERR_AGE = ResponseCode.of(40002, "年龄错误");
+    private static final ResponseCode ERR_TAGS = ResponseCode.of(40003, "标签错误");
+
+    record User(String name, Integer age, List<String> tags) {
+    }
+
+    private static ValidationPlan<User> plan(boolean failFast) {
+        ValidationPlan.Builder<User> b = Failure.plan(User.class).failFast(failFast);
+        b.string(User::name).notBlank(ERR_NAME).lengthBetween(2, 8, ERR_NAME, "长度2-8");
+        b.number(User::age).positive(ERR_AGE);
+        b.collection(User::tags).notEmpty(ERR_TAGS).allMatch(t -> t.startsWith("#"), ERR_TAGS);
+        return b.build();
+    }
+
+    @Test
+    @DisplayName("合法对象通过校验")
+    void shouldPassValidObject() {
+        Chain chain = plan(true).apply(new User("chao", 18, List.of("#a")));
+        assertThat(chain.isValid()).isTrue();
+    }
+
+    @Test
+    @DisplayName("快速失败模式只记录第一个错误")
+    void shouldStopAtFirstErrorInFailFastMode() {
+        ValidationPlan<User> plan = plan(true);
+        assertThatThrownBy(() -> plan.validate(new User("", -1, List.of())))
+                .isInstanceOf(Business.class)
+                .isNotInstanceOf(MultiBusiness.class)
+                .satisfies(e -> assertThat(((Business) e).getResponseCode()).isEqualTo(ERR_NAME));
+    }
+
+    @Test
+    @DisplayName("严格模式收集所有错误，与 Chain 语义一致")
+    void shouldCollectAllErrorsInStrictMode() {
+        User user = new User("x", -1, List.of("bad"));
+        Chain byPlan = plan(false).apply(user);
+        Chain byChain = Failure.strict()
+                .notBlank(user.name(), ERR_NAME)
+                .lengthBetween(user.name(), 2, 8, ERR_NAME, "长度2-8")
+                .positive(user.age(), ERR_AGE)
+                .notEmpty(user.tags(), ERR_TAGS)
+                .allMatch(user.tags(), t -> t.startsWith("#"), ERR_TAGS);
+
+        assertThat(byPlan.getCauses()).extracting(Business::getResponseCode)
+                .containsExactlyElementsOf(byChain.getCauses().stream().map(Business::getResponseCode).toList());
+        assertThat(byPlan.getCauses().get(0).getDetail()).isEqualTo("长度2-8");
+    }
+
+    @Test
+    @DisplayName("null 对象报告 VALIDATION_ERROR_NULL")
+    void shouldReportNullTarget() {
+        Chain chain = plan(true).apply(null);
+        assertThat(chain.getCauses().get(0).getResponseCode()).isEqualTo(ResponseCode.VALIDATION_ERROR_NULL);
+    }
+
+    @Test
+    @DisplayName("集成 ValidationContext")
+    void shouldReportToContext() {
+        FastValidator.ValidationContext ctx = new FastValidator.ValidationContext(false);
+        plan(false).apply(new User(null, 0, null), ctx);
+        assertThat(ctx.hasCauses()).hasSizeGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("构建后修改构建器不影响已构建计划")
+    void shouldBeImmutableAfterBuild() {
+        ValidationPlan.Builder<User> b = ValidationPlan.builder(User.class);
+        StringRules<User> name = b.string(User::name).notBlank(ERR_NAME);
+        ValidationPlan<User> plan = b.build();
+        name.lengthMin(100, ERR_NAME);
+        b.number(User::age).positive(ERR_AGE);
+
+        assertThat(plan.size()).isEqualTo(1);
+        assertThat(plan.apply(new User("ok", -1, null)).isValid()).isTrue();
+    }
+
+    @Test
+    @DisplayName("多线程共享同一计划")
+    void shouldBeThreadSafe() {
+        ValidationPlan<User> plan = plan(false);
+        long invalid = IntStream.rangeClosed(1, 10_000).parallel()
+                .mapToObj(i -> new User(i % 2 == 0 ? "ok" : "", i, List.of("#t")))
+                .filter(u -> !plan.apply(u).isValid())
+                .count();
+        assertThat(invalid).isEqualTo(5_000);
+    }
+}
@@ -0,0 +1,153 @@
+package com.chao.failfast.result;
+
+import com.chao.failfast.internal.Business;
+import com.chao.failfast.internal.MultiBusiness;
+import com.chao.failfast.internal.core.ResponseCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AsyncResult 异步结果测试")
+class AsyncResultTest {
+
+    private static final ResponseCode ORDER_NOT_FOUND = ResponseCode.of(40401, "订单不存在");
+    private static final ResponseCode STOCK_EMPTY = ResponseCode.of(40901, "库存不足");
+
+    @Test
+    @DisplayName("map / flatMap 应在完成后非阻塞地组合")
+    void shouldComposeWithoutBlocking() {
+        CompletableFuture<Result<Integer>> source = new CompletableFuture<>();
+
+        AsyncResult<String> composed = AsyncResult.of(source)
+                .map(n -> n + 1)
+                .flatMap(n -> AsyncResult.ok("#" + n));
+
+        assertThat(composed.isDone()).isFalse();
+        source.complete(Result.ok(41));
+        assertThat(composed.join().get()).isEqualTo("#42");
+    }
+
+    @Test
+    @DisplayName("阶段中抛出的 Business 应自动转换为 Fail")
+    void shouldConvertThrownBusinessToFail() {
+        AsyncResult<String> thrownInMapper = AsyncResult.ok(1).flatMap(n -> {
+            throw Business.of(ORDER_NOT_FOUND);
+        });
+        AsyncResult<String> failedStage = AsyncResult.fromFuture(
+                CompletableFuture.failedFuture(Business.of(STOCK_EMPTY)));
+
+        assertThat(thrownInMapper.join().getError().getResponseCode()).isEqualTo(ORDER_NOT_FOUND);
+        assertThat(failedStage.join().getError().getResponseCode()).isEqualTo(STOCK_EMPTY);
+    }
+
+    @Test
+    @DisplayName("非业务异常保持为异常完成")
+    void shouldKeepOtherExceptions() {
+        AsyncResult<Integer> result = AsyncResult.<Integer>supplyAsync(() -> {
+            throw new IllegalStateException("boom");
+        }).map(n -> n + 1);
+
+        assertThatThrownBy(result::join).isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("失败时跳过映射，recover / recoverWith 可恢复")
+    void shouldRecoverFromFailure() {
+        AsyncResult<String> failed = AsyncResult.<String>fail(ORDER_NOT_FOUND).map(s -> s + "!");
+
+        assertThat(failed.join().getError().getResponseCode()).isEqualTo(ORDER_NOT_FOUND);
+        assertThat(failed.recover(e -> "default").join().get()).isEqualTo("default");
+        assertThat(failed.recoverWith(e -> AsyncResult.supplyAsync(() -> Result.ok("cache"))).join().get())
+                .isEqualTo("cache");
+    }
+
+    @Test
+    @DisplayName("zip 合并两个结果，失败时与 Result.combine 一致")
+    void shouldZipResults() {
+        assertThat(AsyncResult.ok(1).zip(AsyncResult.ok(2), Integer::sum).join().get()).isEqualTo(3);
+
+        Result<Integer> fail = AsyncResult.<Integer>fail(ORDER_NOT_FOUND)
+                .zip(AsyncResult.<Integer>fail(STOCK_EMPTY), Integer::sum).join();
+        assertThat(fail.getError().getResponseCode()).isEqualTo(ORDER_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("sequence 快速失败，不等待其余结果")
+    void sequenceShouldFailFast() {
+        CompletableFuture<Result<Integer>> pending = new CompletableFuture<>();
+
+        AsyncResult<List<Integer>> result = AsyncResult.sequence(List.of(
+                AsyncResult.of(pending), AsyncResult.fail(STOCK_EMPTY)));
+
+        assertThat(result.isDone()).isTrue();
+        assertThat(result.join().getError().getResponseCode()).isEqualTo(STOCK_EMPTY);
+    }
+
+    @Test
+    @DisplayName("sequence 成功时按输入顺序，sequenceAll 按输入顺序合并失败")
+    void sequenceShouldPreserveOrder() {
+        CompletableFuture<Result<Integer>> first = new CompletableFuture<>();
+        AsyncResult<List<Integer>> ok = AsyncResult.sequence(List.of(AsyncResult.of(first), AsyncResult.ok(2)));
+        first.complete(Result.ok(1));
+        assertThat(ok.join().get()).containsExactly(1, 2);
+
+        CompletableFuture<Result<Integer>> late = new CompletableFuture<>();
+        AsyncResult<List<Integer>> all = AsyncResult.sequenceAll(List.of(
+                AsyncResult.of(late), AsyncResult.ok(2), AsyncResult.fail(STOCK_EMPTY)));
+        late.complete(Result.fail(ORDER_NOT_FOUND));
+
+        assertThat(((MultiBusiness) all.join().getError()).getErrors()).extracting(Business::getResponseCode)
+                .containsExactly(ORDER_NOT_FOUND, STOCK_EMPTY);
+        assertThat(AsyncResult.sequence(List.<AsyncResult<Integer>>of()).join().get()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("timeout 超时后以超时错误码失败")
+    void shouldTimeOut() {
+        AsyncResult<String> result = AsyncResult.of(new CompletableFuture<Result<String>>())
+                .timeout(Duration.ofMillis(20));
+
+        assertThat(result.join().getError().getResponseCode()).isEqualTo(ResponseCode.TIMEOUT_ERROR);
+        assertThat(AsyncResult.ok("fast").timeout(Duration.ofSeconds(1)).join().get()).isEqualTo("fast");
+    }
+
+    @Test
+    @DisplayName("timeout 只转换自身触发的超时，上游的 TimeoutException 保持为异常")
+    void timeoutShouldKeepUpstreamTimeoutException() {
+        CompletableFuture<Result<String>> upstream = new CompletableFuture<>();
+        AsyncResult<String> result = AsyncResult.of(upstream).timeout(Duration.ofSeconds(5));
+
+        upstream.completeExceptionally(new TimeoutException("upstream"));
+
+        assertThatThrownBy(result::join).isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(TimeoutException.class).hasRootCauseMessage("upstream");
+    }
+
+    @Test
+    @DisplayName("get(Duration) 在边界处限时等待")
+    void getShouldWaitWithTimeout() {
+        AsyncResult<String> pending = AsyncResult.of(new CompletableFuture<>());
+
+        assertThat(pending.get(Duration.ofMillis(10)).getError().getResponseCode()).isEqualTo(ResponseCode.TIMEOUT_ERROR);
+        assertThat(AsyncResult.ok("v").get(Duration.ofMillis(10)).get()).isEqualTo("v");
+    }
+
+    @Test
+    @DisplayName("toCompletableFuture 返回副本，完成副本不影响原结果")
+    void toCompletableFutureShouldReturnCopy() {
+        AsyncResult<String> pending = AsyncResult.of(new CompletableFuture<>());
+
+        pending.toCompletableFuture().complete(Result.ok("hijack"));
+
+        assertThat(pending.isDone()).isFalse();
+    }
+}
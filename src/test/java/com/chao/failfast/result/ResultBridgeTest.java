@@ -0,0 +1,75 @@
+package com.chao.failfast.result;
+
+import com.chao.failfast.annotation.FastValidator;
+import com.chao.failfast.internal.Chain;
+import com.chao.failfast.internal.MultiBusiness;
+import com.chao.failfast.model.TestResponseCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Chain / ValidationContext 转换为 Result 测试")
+class ResultBridgeTest {
+
+    @Test
+    @DisplayName("Chain 校验通过时应返回 Success 并携带提供的值")
+    void chainShouldReturnSuccessWhenValid() {
+        Result<String> result = Chain.begin(true)
+                .notNull("chao", TestResponseCode.PARAM_ERROR)
+                .toResult(() -> "created");
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.get()).isEqualTo("created");
+        assertThat(Chain.begin(true).toResult().isSuccess()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Chain 校验失败时应返回 Fail 且不调用值提供者")
+    void chainShouldReturnFailWithoutThrowing() {
+        Result<String> result = Chain.begin(true)
+                .notNull(null, TestResponseCode.PARAM_ERROR)
+                .toResult(() -> {
+                    throw new AssertionError("不应被调用");
+                });
+
+        assertThat(result.isFail()).isTrue();
+        assertThat(result.getError().getResponseCode()).isEqualTo(TestResponseCode.PARAM_ERROR);
+    }
+
+    @Test
+    @DisplayName("Chain 全量模式下多个错误应合并为 MultiBusiness")
+    void chainShouldMergeMultipleErrors() {
+        Result<Void> result = Chain.begin(false)
+                .notNull(null, TestResponseCode.PARAM_ERROR)
+                .notNull(null, TestResponseCode.PARAM_REQUIRED)
+                .toResult();
+
+        assertThat(result.getError()).isInstanceOf(MultiBusiness.class);
+        assertThat(((MultiBusiness) result.getError()).getErrors()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("绑定上下文的 Chain 应以上下文中的错误为准")
+    void chainWithContextShouldUseContextErrors() {
+        FastValidator.ValidationContext context = new FastValidator.ValidationContext(true);
+
+        Result<Void> result = Chain.begin(context).notNull(null, TestResponseCode.PARAM_ERROR).toResult();
+
+        assertThat(result.isFail()).isTrue();
+        assertThat(result.getError()).isSameAs(context.getFirstError());
+    }
+
+    @Test
+    @DisplayName("ValidationContext 无错误时返回 Success，有错误时返回 Fail")
+    void contextShouldConvertToResult() {
+        FastValidator.ValidationContext context = new FastValidator.ValidationContext(false);
+        assertThat(context.toResult(() -> 1).get()).isEqualTo(1);
+
+        context.reportError(TestResponseCode.PARAM_ERROR);
+        assertThat(context.toResult().getError().getResponseCode()).isEqualTo(TestResponseCode.PARAM_ERROR);
+
+        context.reportError(TestResponseCode.PARAM_REQUIRED);
+        assertThat(context.toResult().getError()).isInstanceOf(MultiBusiness.class);
+    }
+}
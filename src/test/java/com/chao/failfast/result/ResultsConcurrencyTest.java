@@ -0,0 +1,315 @@
+package com.chao.failfast.result;
+
+import com.chao.failfast.internal.Business;
+import com.chao.failfast.internal.MultiBusiness;
+import com.chao.failfast.internal.core.ResponseCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Results 并发操作测试")
+class ResultsConcurrencyTest {
+
+    private static final ResponseCode REPLICA_DOWN = ResponseCode.of(50301, "副本不可用");
+    private static final ResponseCode REPLICA_STALE = ResponseCode.of(50302, "副本数据过期");
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static <T> Supplier<Result<T>> after(long millis, Result<T> result) {
+        return () -> {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Result.fail(ResponseCode.INTERRUPTED_ERROR);
+            }
+            return result;
+        };
+    }
+
+    @Nested
+    @DisplayName("race 测试")
+    class RaceTest {
+
+        @Test
+        @DisplayName("耗时应取决于最快的成功者而非失败者之和")
+        void shouldReturnFastestSuccess() {
+            long start = System.nanoTime();
+
+            Result<String> result = Results.race(executor, null, List.of(
+                    after(300, Result.fail(REPLICA_DOWN)),
+                    after(300, Result.fail(REPLICA_DOWN)),
+                    after(20, Result.ok("replica-3"))));
+
+            assertThat(result.get()).isEqualTo("replica-3");
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(250));
+        }
+
+        @Test
+        @DisplayName("出现成功者后应中断仍在运行的落败者")
+        void shouldInterruptLosers() throws InterruptedException {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch interrupted = new CountDownLatch(1);
+            Supplier<Result<String>> slow = () -> {
+                started.countDown();
+                try {
+                    Thread.sleep(10_000);
+                    return Result.ok("slow");
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    return Result.fail(ResponseCode.INTERRUPTED_ERROR);
+                }
+            };
+            Supplier<Result<String>> fast = () -> {
+                try {
+                    started.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return Result.ok("fast");
+            };
+
+            Result<String> result = Results.race(executor, null, List.of(slow, fast));
+
+            assertThat(result.get()).isEqualTo("fast");
+            assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        }
+
+        @Test
+        @DisplayName("全部失败时应返回按参数顺序最后一个的失败")
+        void shouldReturnLastDeclaredFailure() {
+            Result<String> result = Results.race(executor, null, List.of(
+                    after(0, Result.fail(REPLICA_STALE)),
+                    after(50, Result.fail(REPLICA_DOWN))));
+
+            assertThat(result.getError().getResponseCode()).isEqualTo(REPLICA_DOWN);
+        }
+
+        @Test
+        @DisplayName("抛出 Business 视为失败，最后一个抛出的其他异常应原样抛出")
+        void shouldHandleThrowingSuppliers() {
+            Result<String> business = Results.race(executor, null, List.of(
+                    () -> {
+                        throw Business.of(REPLICA_DOWN);
+                    }));
+            assertThat(business.getError().getResponseCode()).isEqualTo(REPLICA_DOWN);
+
+            assertThatThrownBy(() -> Results.race(executor, null, List.<Supplier<Result<String>>>of(
+                    () -> Result.fail(REPLICA_DOWN),
+                    () -> {
+                        throw new IllegalStateException("boom");
+                    }))).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+        }
+
+        @Test
+        @DisplayName("超过截止时间应返回超时失败")
+        void shouldFailAfterDeadline() {
+            long start = System.nanoTime();
+
+            Result<String> result = Results.race(executor, Duration.ofMillis(50), List.of(
+                    after(5_000, Result.ok("late"))));
+
+            assertThat(result.getError().getResponseCode()).isEqualTo(ResponseCode.TIMEOUT_ERROR);
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        }
+
+        @Test
+        @DisplayName("默认执行器下同样并发执行")
+        void shouldRunOnDefaultExecutor() {
+            Result<Integer> result = Results.race(Duration.ofSeconds(5), List.of(
+                    after(1_000, Result.ok(1)),
+                    after(10, Result.ok(2))));
+
+            assertThat(result.get()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("retryAsync 测试")
+    class RetryAsyncTest {
+
+        private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+        private final RetryPolicy fast = RetryPolicy.of(4).withFixedDelay(Duration.ofMillis(10)).withJitter(0);
+
+        @AfterEach
+        void tearDown() {
+            scheduler.shutdownNow();
+        }
+
+        @Test
+        @DisplayName("失败后按策略重试直到成功，且不阻塞调用线程")
+        void shouldRetryUntilSuccess() {
+            AtomicInteger attempts = new AtomicInteger();
+
+            CompletableFuture<Result<String>> future = Results.retryAsync(scheduler, fast, () ->
+                    attempts.incrementAndGet() < 3 ? Result.fail(REPLICA_DOWN) : Result.ok("ok"));
+
+            assertThat(future.join().get()).isEqualTo("ok");
+            assertThat(attempts).hasValue(3);
+        }
+
+        @Test
+        @DisplayName("不满足重试条件的失败立即返回")
+        void shouldNotRetryNonRetryableFailure() {
+            AtomicInteger attempts = new AtomicInteger();
+
+            Result<String> result = Results.<String>retryAsync(scheduler, fast.retryOnCodes(REPLICA_DOWN), () -> {
+                attempts.incrementAndGet();
+                return Result.fail(REPLICA_STALE);
+            }).join();
+
+            assertThat(result.getError().getResponseCode()).isEqualTo(REPLICA_STALE);
+            assertThat(attempts).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("达到最多尝试次数或预算耗尽时返回最后一次失败")
+        void shouldStopWhenAttemptsOrBudgetExhausted() {
+            AtomicInteger attempts = new AtomicInteger();
+            Supplier<Result<String>> down = () -> {
+                attempts.incrementAndGet();
+                return Result.fail(REPLICA_DOWN);
+            };
+
+            assertThat(Results.retryAsync(scheduler, fast, down).join().isFail()).isTrue();
+            assertThat(attempts).hasValue(4);
+
+            attempts.set(0);
+            RetryBudget budget = new RetryBudget(1, 0);
+            Results.retryAsync(scheduler, fast.withBudget(budget), down).join();
+            assertThat(attempts).hasValue(2);
+            assertThat(budget.getRejectedCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("抛出 Business 视为失败，其他异常以异常完成")
+        void shouldHandleExceptions() {
+            AtomicInteger attempts = new AtomicInteger();
+
+            Result<String> result = Results.<String>retryAsync(scheduler, fast, () -> {
+                if (attempts.incrementAndGet() < 2) throw Business.of(REPLICA_DOWN);
+                return Result.ok("ok");
+            }).join();
+            assertThat(result.get()).isEqualTo("ok");
+
+            CompletableFuture<Result<String>> failed = Results.retryAsync(scheduler, fast, () -> {
+                throw new IllegalStateException("boom");
+            });
+            assertThatThrownBy(failed::join).hasCauseInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("取消后不再调度后续尝试")
+        void shouldStopAfterCancel() throws InterruptedException {
+            AtomicInteger attempts = new AtomicInteger();
+            RetryPolicy slow = RetryPolicy.of(10).withFixedDelay(Duration.ofMillis(100)).withJitter(0);
+
+            CompletableFuture<Result<String>> future = Results.retryAsync(scheduler, slow, () -> {
+                attempts.incrementAndGet();
+                return Result.fail(REPLICA_DOWN);
+            });
+            Thread.sleep(50);
+            future.cancel(false);
+            Thread.sleep(300);
+
+            assertThat(attempts).hasValue(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("traverseParallel / traverseAllParallel 测试")
+    class TraverseParallelTest {
+
+        private final List<Integer> ids = IntStream.range(0, 100).boxed().toList();
+
+        @Test
+        @DisplayName("成功时结果顺序与输入一致且并发数不超过上限")
+        void shouldPreserveOrderWithinConcurrencyLimit() {
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger peak = new AtomicInteger();
+
+            Result<List<Integer>> result = Results.traverseParallel(ids, 8, executor, id -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                after(5, null).get();
+                running.decrementAndGet();
+                return Result.ok(id * 2);
+            });
+
+            assertThat(result.get()).isEqualTo(ids.stream().map(id -> id * 2).toList());
+            assertThat(peak.get()).isBetween(1, 8);
+        }
+
+        @Test
+        @DisplayName("快速失败：出现失败后不再执行剩余映射")
+        void shouldStopOnFirstFailure() {
+            AtomicInteger calls = new AtomicInteger();
+
+            Result<List<Integer>> result = Results.traverseParallel(ids, 2, executor, id -> {
+                calls.incrementAndGet();
+                return id == 3 ? Result.fail(REPLICA_DOWN, "id 3") : Result.ok(id);
+            });
+
+            assertThat(result.getError().getDetail()).isEqualTo("id 3");
+            assertThat(calls.get()).isLessThan(ids.size());
+        }
+
+        @Test
+        @DisplayName("全量收集：失败明细按输入顺序排列")
+        void shouldCollectFailuresInInputOrder() {
+            Result<List<Integer>> result = Results.traverseAllParallel(ids, 8, executor, id -> {
+                after((100 - id) % 7, null).get();
+                return id % 10 == 3 ? Result.fail(REPLICA_DOWN, "id " + id) : Result.ok(id);
+            });
+
+            assertThat(((MultiBusiness) result.getError()).getErrors()).extracting(Business::getDetail)
+                    .containsExactly("id 3", "id 13", "id 23", "id 33", "id 43", "id 53", "id 63", "id 73", "id 83", "id 93");
+        }
+
+        @Test
+        @DisplayName("全量收集与顺序版本结果一致")
+        void shouldMatchSequentialTraverseAll() {
+            assertThat(Results.traverseAllParallel(ids, id -> Result.ok(id + 1)).get())
+                    .isEqualTo(Results.traverseAll(ids, id -> Result.ok(id + 1)).get());
+            assertThat(Results.traverseAllIndexedParallel(ids, 4, executor, (i, id) -> Result.ok(i)).get()).isEqualTo(ids);
+        }
+
+        @Test
+        @DisplayName("空列表返回空结果，非法并发数被拒绝")
+        void shouldHandleEdgeCases() {
+            assertThat(Results.traverseParallel(List.<Integer>of(), Result::ok).get()).isEmpty();
+            assertThatThrownBy(() -> Results.traverseParallel(ids, 0, executor, Result::ok))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("映射抛出的非业务异常应原样抛出")
+        void shouldRethrowUnexpectedException() {
+            assertThatThrownBy(() -> Results.traverseAllParallel(ids, 3, executor, id -> {
+                if (id == 50) throw new IllegalStateException("boom");
+                return Result.ok(id);
+            })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+        }
+    }
+}
@@ -728,14 +728,14 @@ class ResultsTest {
     // ==================== race ====================
 
     @Test
-    @DisplayName("race: 第一个成功")
+    @DisplayName("race: 返回某个成功结果")
     void race_firstSuccess() {
         Result<String> result = Results.race(
                 () -> Result.ok("first"),
                 () -> Result.ok("second")
         );
 
-        assertEquals("first", result.get());
+        assertTrue(List.of("first", "second").contains(result.get()));
     }
 
     @Test
@@ -747,7 +747,7 @@ class ResultsTest {
                 () -> Result.ok("third")
         );
 
-        assertEquals("second", result.get());
+        assertTrue(List.of("second", "third").contains(result.get()));
     }
 
     @Test
@@ -0,0 +1,109 @@
+package com.chao.failfast.result;
+
+import com.chao.failfast.config.CodeMappingConfig;
+import com.chao.failfast.internal.Business;
+import com.chao.failfast.internal.core.ResponseCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RetryPolicy / RetryBudget 测试")
+class RetryPolicyTest {
+
+    private static final ResponseCode UPSTREAM_TIMEOUT = ResponseCode.of(50401, "上游超时");
+    private static final ResponseCode NAME_REQUIRED = ResponseCode.of(40001, "名称不能为空");
+
+    @Test
+    @DisplayName("无抖动时退避时间按倍数增长并受上限约束")
+    void shouldGrowExponentiallyUpToMax() {
+        RetryPolicy policy = RetryPolicy.of(10)
+                .withBackoff(Duration.ofMillis(100), Duration.ofMillis(500), 2)
+                .withJitter(0);
+
+        assertThat(policy.delayNanos(1)).isEqualTo(Duration.ofMillis(100).toNanos());
+        assertThat(policy.delayNanos(2)).isEqualTo(Duration.ofMillis(200).toNanos());
+        assertThat(policy.delayNanos(3)).isEqualTo(Duration.ofMillis(400).toNanos());
+        assertThat(policy.delayNanos(4)).isEqualTo(Duration.ofMillis(500).toNanos());
+    }
+
+    @Test
+    @DisplayName("抖动只会缩短退避时间且不超过比例")
+    void shouldApplyJitterWithinBounds() {
+        RetryPolicy policy = RetryPolicy.of(3).withFixedDelay(Duration.ofMillis(100)).withJitter(0.3);
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(policy.delayNanos(2)).isBetween(Duration.ofMillis(70).toNanos(), Duration.ofMillis(100).toNanos());
+        }
+    }
+
+    @Test
+    @DisplayName("达到最多尝试次数后不再重试")
+    void shouldStopAtMaxAttempts() {
+        RetryPolicy policy = RetryPolicy.of(2);
+        Business error = Business.of(UPSTREAM_TIMEOUT);
+
+        assertThat(policy.shouldRetry(1, error)).isTrue();
+        assertThat(policy.shouldRetry(2, error)).isFalse();
+    }
+
+    @Test
+    @DisplayName("按错误码与错误码分组判断是否可重试")
+    void shouldFilterByCodeAndGroup() {
+        RetryPolicy byCode = RetryPolicy.of(3).retryOnCodes(UPSTREAM_TIMEOUT);
+        assertThat(byCode.shouldRetry(1, Business.of(UPSTREAM_TIMEOUT))).isTrue();
+        assertThat(byCode.shouldRetry(1, Business.of(NAME_REQUIRED))).isFalse();
+
+        CodeMappingConfig mapping = mock(CodeMappingConfig.class);
+        when(mapping.isInGroup(50401, "upstream")).thenReturn(true);
+        RetryPolicy byGroup = RetryPolicy.of(3).retryOnGroups(mapping, "upstream");
+        assertThat(byGroup.shouldRetry(1, Business.of(UPSTREAM_TIMEOUT))).isTrue();
+        assertThat(byGroup.shouldRetry(1, Business.of(NAME_REQUIRED))).isFalse();
+    }
+
+    @Test
+    @DisplayName("重试预算耗尽后拒绝重试，并按速率补充")
+    void shouldConsumeAndRefillBudget() {
+        AtomicLong now = new AtomicLong();
+        RetryBudget budget = new RetryBudget(2, 1, now::get);
+        RetryPolicy policy = RetryPolicy.of(5).withBudget(budget);
+        Business error = Business.of(UPSTREAM_TIMEOUT);
+
+        assertThat(policy.shouldRetry(1, error)).isTrue();
+        assertThat(policy.shouldRetry(1, error)).isTrue();
+        assertThat(policy.shouldRetry(1, error)).isFalse();
+        assertThat(budget.getRejectedCount()).isEqualTo(1);
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(policy.shouldRetry(1, error)).isTrue();
+
+        now.addAndGet(Duration.ofHours(1).toNanos());
+        assertThat(budget.available()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("不可重试的失败不消耗预算")
+    void shouldNotSpendBudgetOnNonRetryableFailure() {
+        RetryBudget budget = new RetryBudget(1, 0);
+        RetryPolicy policy = RetryPolicy.of(3).retryOnCodes(UPSTREAM_TIMEOUT).withBudget(budget);
+
+        assertThat(policy.shouldRetry(1, Business.of(NAME_REQUIRED))).isFalse();
+        assertThat(budget.available()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("非法参数应被拒绝")
+    void shouldRejectInvalidArguments() {
+        assertThatThrownBy(() -> RetryPolicy.of(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RetryPolicy.of(1).withJitter(1.5)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RetryPolicy.of(1).withBackoff(Duration.ofSeconds(2), Duration.ofSeconds(1), 2))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RetryBudget(0, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,198 @@
+package com.chao.failfast.result;
+
+import com.chao.failfast.internal.core.FailureProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SideEffectExecutor 副作用执行器测试")
+class SideEffectExecutorTest {
+
+    private final CountDownLatch gate = new CountDownLatch(1);
+
+    private SideEffectExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        gate.countDown();
+        if (executor != null) executor.close();
+    }
+
+    private static FailureProperties.SideEffect config(int queueCapacity, FailureProperties.Overflow overflow, int batchSize) {
+        FailureProperties.SideEffect config = new FailureProperties.SideEffect();
+        config.setThreads(1);
+        config.setQueueCapacity(queueCapacity);
+        config.setOverflow(overflow);
+        config.setBatchSize(batchSize);
+        config.setBlockTimeout(Duration.ofMillis(50));
+        config.setFlushInterval(Duration.ofMillis(20));
+        return config;
+    }
+
+    private static void waitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("等待条件超时").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * 占住唯一的工作线程并填满队列
+     */
+    private void saturate(int queued) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < queued; i++) {
+            executor.execute(() -> {
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("DROP：队列已满时丢弃并计数")
+    void shouldDropWhenFull() throws InterruptedException {
+        executor = new SideEffectExecutor(config(2, FailureProperties.Overflow.DROP, 1));
+        saturate(2);
+
+        executor.execute(() -> {
+        });
+        executor.execute(() -> {
+        });
+
+        assertThat(executor.getDroppedCount()).isEqualTo(2);
+        assertThat(executor.getQueueSize()).isEqualTo(2);
+        assertThat(executor.getSubmittedCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("CALLER_RUNS：队列已满时由提交线程执行")
+    void shouldRunInCallerWhenFull() throws InterruptedException {
+        executor = new SideEffectExecutor(config(1, FailureProperties.Overflow.CALLER_RUNS, 1));
+        saturate(1);
+        AtomicReference<Thread> runner = new AtomicReference<>();
+
+        executor.execute(() -> runner.set(Thread.currentThread()));
+
+        assertThat(runner.get()).isSameAs(Thread.currentThread());
+        assertThat(executor.getDroppedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("BLOCK：限时等待队列空位，超时后丢弃")
+    void shouldBlockThenDropWhenFull() throws InterruptedException {
+        executor = new SideEffectExecutor(config(1, FailureProperties.Overflow.BLOCK, 1));
+        saturate(1);
+        long start = System.nanoTime();
+
+        executor.execute(() -> {
+        });
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(40));
+        assertThat(executor.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("执行失败应计数而不是被静默吞掉")
+    void shouldCountFailures() {
+        executor = new SideEffectExecutor(config(10, FailureProperties.Overflow.DROP, 1));
+
+        executor.execute(() -> {
+            throw new IllegalStateException("boom");
+        });
+
+        waitUntil(() -> executor.getFailedCount() == 1);
+    }
+
+    @Test
+    @DisplayName("批量模式：攒满一批或到达刷新间隔时执行，单个失败不影响同批其余任务")
+    void shouldRunInBatches() {
+        executor = new SideEffectExecutor(config(100, FailureProperties.Overflow.DROP, 10));
+        AtomicInteger ran = new AtomicInteger();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        for (int i = 0; i < 25; i++) {
+            int n = i;
+            executor.execute(() -> {
+                threads.add(Thread.currentThread().getName());
+                if (n == 3) throw new IllegalStateException("boom");
+                ran.incrementAndGet();
+            });
+        }
+
+        waitUntil(() -> ran.get() == 24);
+        assertThat(executor.getFailedCount()).isEqualTo(1);
+        assertThat(threads).allMatch(name -> name.startsWith("fail-fast-side-effect-"));
+    }
+
+    @Test
+    @DisplayName("关闭时刷新缓冲区，关闭后提交的副作用被丢弃")
+    void shouldFlushOnCloseAndDropAfterwards() {
+        FailureProperties.SideEffect config = config(100, FailureProperties.Overflow.DROP, 10);
+        config.setFlushInterval(Duration.ofMinutes(1));
+        executor = new SideEffectExecutor(config);
+        AtomicInteger ran = new AtomicInteger();
+
+        executor.execute(ran::incrementAndGet);
+        executor.close();
+        executor.execute(ran::incrementAndGet);
+
+        waitUntil(() -> ran.get() == 1);
+        assertThat(executor.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("tapAsync 使用共享执行器，关闭后提交的副作用被丢弃并计数")
+    void tapAsyncShouldUseSharedExecutor() throws InterruptedException {
+        executor = new SideEffectExecutor(config(10, FailureProperties.Overflow.DROP, 1));
+        SideEffectExecutor.setShared(executor);
+        try {
+            CountDownLatch done = new CountDownLatch(1);
+            AtomicReference<String> thread = new AtomicReference<>();
+
+            Results.tapAsync(Result.ok("v"), r -> {
+                thread.set(Thread.currentThread().getName());
+                done.countDown();
+            });
+
+            assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+            assertThat(thread.get()).startsWith("fail-fast-side-effect-");
+            executor.close();
+
+            AtomicInteger ran = new AtomicInteger();
+            Results.tapAsync(Result.ok("v"), r -> ran.incrementAndGet());
+            assertThat(SideEffectExecutor.shared()).isSameAs(executor);
+            assertThat(executor.getDroppedCount()).isEqualTo(1);
+            assertThat(ran).hasValue(0);
+        } finally {
+            SideEffectExecutor.setShared(null);
+        }
+    }
+
+    @Test
+    @DisplayName("非法配置应被拒绝")
+    void shouldRejectInvalidConfig() {
+        assertThatThrownBy(() -> new SideEffectExecutor(config(0, FailureProperties.Overflow.DROP, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,225 @@
+package com.chao.failfast.validator;
+
+import com.chao.failfast.Failure;
+import com.chao.failfast.annotation.FastValidator;
+import com.chao.failfast.internal.core.ResponseCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BatchLoader 批量加载器测试")
+class BatchLoaderTest {
+
+    private static final ResponseCode SKU_NOT_FOUND = ResponseCode.of(40401, "SKU不存在");
+
+    /**
+     * 内存中的假存储，记录每次批量查询的键
+     */
+    static class FakeSkuStore {
+        final Map<String, String> data = new HashMap<>(Map.of("A", "苹果", "B", "香蕉", "C", "橙子"));
+        final List<Set<String>> calls = new ArrayList<>();
+        boolean unavailable;
+
+        Map<String, String> findAll(Set<String> ids) {
+            calls.add(Set.copyOf(ids));
+            if (unavailable) throw new IllegalStateException("store unavailable");
+            Map<String, String> found = new HashMap<>();
+            for (String id : ids) {
+                if (data.containsKey(id)) found.put(id, data.get(id));
+            }
+            return found;
+        }
+    }
+
+    @Test
+    @DisplayName("登记的键应在首次查询时合并为一次批量查询")
+    void shouldBatchPrimedKeysIntoSingleLookup() {
+        FakeSkuStore store = new FakeSkuStore();
+        BatchLoader<String, String> skus = BatchLoader.of(store::findAll);
+        List<String> ids = List.of("A", "B", "X", "C");
+        FastValidator.ValidationContext ctx = new FastValidator.ValidationContext(false);
+
+        Failure.with(ctx)
+                .allMatch(ids, skus.prime(ids).exists(), SKU_NOT_FOUND)
+                .verify();
+
+        assertThat(store.calls).containsExactly(Set.of("A", "B", "X", "C"));
+        assertThat(ctx.hasCauses()).hasSize(1);
+        assertThat(ctx.getFirstError().getResponseCode().getCode()).isEqualTo(40401);
+    }
+
+    @Test
+    @DisplayName("结果应被缓存，包括不存在的键")
+    void shouldMemoizeHitsAndMisses() {
+        FakeSkuStore store = new FakeSkuStore();
+        BatchLoader<String, String> skus = BatchLoader.of(store::findAll);
+
+        assertThat(skus.load("A")).contains("苹果");
+        assertThat(skus.exists("X")).isFalse();
+        assertThat(skus.exists("A")).isTrue();
+        assertThat(skus.exists("X")).isFalse();
+
+        assertThat(skus.getBatchCount()).isEqualTo(2);
+        assertThat(store.calls).containsExactly(Set.of("A"), Set.of("X"));
+    }
+
+    @Test
+    @DisplayName("loadMany 只查询未缓存的键并按参数顺序返回存在的值")
+    void shouldLoadManyWithoutRefetching() {
+        FakeSkuStore store = new FakeSkuStore();
+        BatchLoader<String, String> skus = BatchLoader.of(store::findAll);
+        skus.load("A");
+
+        Map<String, String> result = skus.loadMany(List.of("C", "A", "X"));
+
+        assertThat(result).containsExactly(Map.entry("C", "橙子"), Map.entry("A", "苹果"));
+        assertThat(store.calls).containsExactly(Set.of("A"), Set.of("C", "X"));
+    }
+
+    @Test
+    @DisplayName("超过批量上限时应拆分为多次查询")
+    void shouldSplitByMaxBatchSize() {
+        FakeSkuStore store = new FakeSkuStore();
+        BatchLoader<String, String> skus = BatchLoader.of(store::findAll, 2);
+
+        skus.prime(List.of("A", "B", "C")).exists("A");
+
+        assertThat(store.calls).containsExactly(Set.of("A", "B"), Set.of("C"));
+        assertThat(skus.exists("C")).isTrue();
+        assertThat(skus.getBatchCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("查询失败时不缓存，下次重新加载")
+    void shouldNotCacheFailedLookup() {
+        FakeSkuStore store = new FakeSkuStore();
+        BatchLoader<String, String> skus = BatchLoader.of(store::findAll);
+        store.unavailable = true;
+
+        assertThatThrownBy(() -> skus.exists("A")).isInstanceOf(IllegalStateException.class);
+
+        store.unavailable = false;
+        assertThat(skus.exists("A")).isTrue();
+        assertThat(store.calls).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("null 键视为不存在且不触发查询")
+    void shouldTreatNullKeyAsMissing() {
+        FakeSkuStore store = new FakeSkuStore();
+        BatchLoader<String, String> skus = BatchLoader.of(store::findAll);
+
+        assertThat(skus.exists(null)).isFalse();
+        assertThat(skus.load(null)).isEmpty();
+        assertThat(store.calls).isEmpty();
+    }
+
+    @Test
+    @DisplayName("同一作用域的上下文共享加载器，跨验证器合并查询")
+    void shouldShareLoaderWithinScope() {
+        FakeSkuStore store = new FakeSkuStore();
+        FastValidator.ValidationContext first = new FastValidator.ValidationContext(false);
+        FastValidator.ValidationContext second = new FastValidator.ValidationContext(false, first);
+        FastValidator.ValidationContext other = new FastValidator.ValidationContext(false);
+
+        BatchLoader<String, String> a = first.loader("sku", () -> BatchLoader.of(store::findAll));
+        BatchLoader<String, String> b = second.loader("sku", () -> BatchLoader.of(store::findAll));
+        BatchLoader<String, String> c = other.loader("sku", () -> BatchLoader.of(store::findAll));
+
+        assertThat(b).isSameAs(a);
+        assertThat(c).isNotSameAs(a);
+
+        // 第一个验证器登记键，第二个验证器的查询一并加载
+        a.prime(List.of("A", "B"));
+        assertThat(b.exists("C")).isTrue();
+        assertThat(a.exists("B")).isTrue();
+        assertThat(store.calls).containsExactly(Set.of("A", "B", "C"));
+    }
+
+    @Test
+    @DisplayName("TypedValidator 中可通过上下文使用加载器")
+    void shouldWorkInsideTypedValidator() {
+        FakeSkuStore store = new FakeSkuStore();
+        record Order(List<String> skuIds) {
+        }
+        TypedValidator validator = new TypedValidator() {
+            @Override
+            protected void registerValidators() {
+                register(Order.class, (order, ctx) -> {
+                    BatchLoader<String, String> skus = ctx.loader("sku", () -> BatchLoader.of(store::findAll));
+                    Failure.with(ctx)
+                            .allMatch(order.skuIds(), skus.prime(order.skuIds()).exists(), SKU_NOT_FOUND)
+                            .verify();
+                });
+            }
+        };
+        FastValidator.ValidationContext ctx = new FastValidator.ValidationContext(false);
+
+        validator.validate(new Order(List.of("A", "B", "C")), ctx);
+        validator.validate(new Order(List.of("A", "Z")), ctx);
+
+        assertThat(store.calls).containsExactly(Set.of("A", "B", "C"), Set.of("Z"));
+        assertThat(ctx.hasCauses()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("批量查询在锁外执行：同键等待进行中的批次，其他键不被阻塞")
+    void shouldNotHoldLockDuringLookup() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Set<String>> calls = new CopyOnWriteArrayList<>();
+        BatchLoader<String, String> loader = BatchLoader.of(ids -> {
+            calls.add(Set.copyOf(ids));
+            if (ids.contains("A")) {
+                entered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            Map<String, String> found = new HashMap<>();
+            for (String id : ids) found.put(id, id.toLowerCase());
+            return found;
+        });
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<Boolean> owner = pool.submit(() -> loader.exists("A"));
+            assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+            Future<Boolean> waiter = pool.submit(() -> loader.exists("A"));
+
+            // 其他键不等待进行中的批次
+            assertThat(loader.load("B")).contains("b");
+            assertThat(waiter.isDone()).isFalse();
+
+            release.countDown();
+            assertThat(owner.get(1, TimeUnit.SECONDS)).isTrue();
+            assertThat(waiter.get(1, TimeUnit.SECONDS)).isTrue();
+            assertThat(calls).containsExactlyInAnyOrder(Set.of("A"), Set.of("B"));
+        } finally {
+            release.countDown();
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("非法参数应被拒绝")
+    void shouldRejectInvalidArguments() {
+        assertThatThrownBy(() -> BatchLoader.of(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BatchLoader.of(ids -> Map.of(), 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
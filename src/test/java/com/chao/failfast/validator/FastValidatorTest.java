@@ -1,5 +1,6 @@
 package com.chao.failfast.validator;
 
+import com.chao.failfast.annotation.AsyncFastValidator;
 import com.chao.failfast.annotation.FastValidator;
 import com.chao.failfast.internal.Business;
 import com.chao.failfast.internal.core.ResponseCode;
@@ -8,8 +9,10 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("FastValidator 接口测试")
 class FastValidatorTest {
@@ -355,4 +358,50 @@ class FastValidatorTest {
             assertThat(ctx2.isValid()).isFalse();
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("AsyncFastValidator 测试")
+    class AsyncValidatorTest {
+
+        @Test
+        @DisplayName("同步调用时应等待异步校验完成")
+        void shouldBlockUntilAsyncValidationCompletes() {
+            AsyncFastValidator<String> validator = (target, ctx) -> CompletableFuture.runAsync(() -> {
+                if (target.isEmpty()) ctx.reportError(ResponseCode.of(40001, "不能为空字符串"));
+            });
+            FastValidator.ValidationContext ctx = new FastValidator.ValidationContext(false);
+
+            validator.validate("", ctx);
+
+            assertThat(ctx.isValid()).isFalse();
+            assertThat(ctx.getFirstError().getResponseCode().getCode()).isEqualTo(40001);
+        }
+
+        @Test
+        @DisplayName("同步调用时应抛出异步阶段的原始异常")
+        void shouldRethrowOriginalCause() {
+            AsyncFastValidator<String> validator = (target, ctx) ->
+                    CompletableFuture.failedFuture(new IllegalStateException("store unavailable"));
+
+            assertThatThrownBy(() -> validator.validate("a", new FastValidator.ValidationContext(false)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("store unavailable");
+        }
+
+        @Test
+        @DisplayName("快速模式下并发报告错误只保留一个")
+        void shouldKeepSingleErrorUnderConcurrentReports() {
+            FastValidator.ValidationContext ctx = new FastValidator.ValidationContext(true);
+            Business error = Business.of(ResponseCode.of(40001, "error"));
+
+            CompletableFuture<?>[] reports = new CompletableFuture<?>[16];
+            for (int i = 0; i < reports.length; i++) {
+                reports[i] = CompletableFuture.runAsync(() -> ctx.reportError(error));
+            }
+            CompletableFuture.allOf(reports).join();
+
+            assertThat(ctx.isStopped()).isTrue();
+            assertThat(ctx.hasCauses()).hasSize(1);
+        }
+    }
+}
@@ -6,7 +6,11 @@ import com.chao.failfast.internal.core.ResponseCode;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("TypedValidator 类型校验器测试")
 class TypedValidatorTest {
@@ -104,4 +108,119 @@ class TypedValidatorTest {
         assertThat(ctx.isValid()).isFalse();
         assertThat(ctx.hasCauses().get(0).getResponseCode().getCode()).isEqualTo(400);
     }
+
+    interface Named {
+        String name();
+    }
+
+    static class Entity implements Named {
+        @Override
+        public String name() {
+            return "entity";
+        }
+    }
+
+    /**
+     * 模拟 Hibernate/CGLIB 生成的代理子类
+     */
+    static class Entity$$Proxy extends Entity {
+    }
+
+    static class HierarchyValidator extends TypedValidator {
+        final List<String> hits = new ArrayList<>();
+
+        @Override
+        protected void registerValidators() {
+            register(Named.class, (n, ctx) -> hits.add("named"));
+            register(Object.class, (o, ctx) -> hits.add("object"));
+            register(Entity.class, (e, ctx) -> hits.add("entity"));
+        }
+    }
+
+    @Test
+    @DisplayName("代理子类应命中其父类型的校验逻辑")
+    void shouldDispatchProxyToRegisteredSuperclass() {
+        TypedValidator validator = new TypedValidator() {
+            @Override
+            protected void registerValidators() {
+                register(Entity.class, (e, ctx) -> ctx.reportError(ResponseCode.of(400, e.name())));
+            }
+        };
+        FastValidator.ValidationContext ctx = new FastValidator.ValidationContext(false);
+
+        validator.validate(new Entity$$Proxy(), ctx);
+
+        assertThat(ctx.hasCauses()).hasSize(1);
+        assertThat(ctx.hasCauses().get(0).getDetail()).isEqualTo("entity");
+        assertThat(validator.supports(Entity$$Proxy.class)).isTrue();
+        assertThat(validator.supports(String.class)).isFalse();
+    }
+
+    @Test
+    @DisplayName("应选择最具体的已注册类型")
+    void shouldPickMostSpecificRegisteredType() {
+        HierarchyValidator validator = new HierarchyValidator();
+        FastValidator.ValidationContext ctx = new FastValidator.ValidationContext(false);
+
+        validator.validate(new Entity$$Proxy(), ctx);
+        validator.validate((Named) () -> "lambda", ctx);
+        validator.validate("plain", ctx);
+
+        assertThat(validator.hits).containsExactly("entity", "named", "object");
+        assertThat(ctx.isValid()).isTrue();
+    }
+
+    @Test
+    @DisplayName("接口注册应匹配实现类")
+    void shouldDispatchByInterface() {
+        TypedValidator validator = new TypedValidator() {
+            @Override
+            protected void registerValidators() {
+                register(CharSequence.class, (s, ctx) -> {
+                    if (s.length() == 0) ctx.reportError(ResponseCode.of(400, "Empty"));
+                });
+            }
+        };
+        FastValidator.ValidationContext ctx = new FastValidator.ValidationContext(false);
+
+        validator.validate(new StringBuilder(), ctx);
+        validator.validate("ok", ctx);
+
+        assertThat(ctx.hasCauses()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("未命中的类型应重复返回不支持错误")
+    void shouldCacheNegativeResult() {
+        TestValidator validator = new TestValidator();
+        FastValidator.ValidationContext ctx = new FastValidator.ValidationContext(false);
+
+        validator.validate(1.5, ctx);
+        validator.validate(2.5, ctx);
+
+        assertThat(validator.supports(Double.class)).isFalse();
+        assertThat(ctx.hasCauses()).hasSize(2)
+                .allSatisfy(e -> assertThat(e.getDetail()).contains("不支持的校验类型: Double"));
+    }
+
+    @Test
+    @DisplayName("首次使用后注册表冻结，不允许再注册")
+    void shouldRejectRegistrationAfterFirstUse() {
+        class LateValidator extends TypedValidator {
+            LateValidator() {
+                register(String.class, (s, ctx) -> {});
+            }
+
+            void lateRegister() {
+                register(Integer.class, (i, ctx) -> {});
+            }
+        }
+        LateValidator validator = new LateValidator();
+        assertThat(validator.supports(String.class)).isTrue();
+
+        assertThatThrownBy(validator::lateRegister)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("java.lang.Integer");
+        assertThat(validator.getRegisteredTypes()).containsExactly(String.class);
+    }
 }
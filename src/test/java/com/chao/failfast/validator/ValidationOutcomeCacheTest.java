@@ -0,0 +1,237 @@
+package com.chao.failfast.validator;
+
+import com.chao.failfast.annotation.FastValidator;
+import com.chao.failfast.annotation.NonDeterministic;
+import com.chao.failfast.internal.Business;
+import com.chao.failfast.internal.core.ResponseCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ValidationOutcomeCache 校验结果缓存测试")
+class ValidationOutcomeCacheTest {
+
+    private static final ResponseCode NAME_REQUIRED = ResponseCode.of(40001, "名称不能为空");
+    private static final ResponseCode AGE_INVALID = ResponseCode.of(40002, "年龄无效");
+
+    record User(String name, int age) {
+    }
+
+    static class UserRules {
+    }
+
+    @NonDeterministic
+    static class ClockRules {
+    }
+
+    /**
+     * 计数的校验逻辑
+     */
+    private final AtomicInteger runs = new AtomicInteger();
+
+    private Consumer<FastValidator.ValidationContext> rules(User user) {
+        return ctx -> {
+            runs.incrementAndGet();
+            if (user.name().isEmpty()) ctx.reportError(NAME_REQUIRED);
+            if (user.age() < 0) ctx.reportError(AGE_INVALID);
+        };
+    }
+
+    private FastValidator.ValidationContext validate(ValidationOutcomeCache cache, Class<?> owner, User user, boolean fast) {
+        FastValidator.ValidationContext ctx = new FastValidator.ValidationContext(fast);
+        cache.validate(owner, ValidationOutcomeCache.contentKey(user), ctx, rules(user));
+        return ctx;
+    }
+
+    @Test
+    @DisplayName("相同内容应命中缓存并回放违规")
+    void shouldReplayCachedViolations() {
+        ValidationOutcomeCache cache = new ValidationOutcomeCache(100, null);
+
+        FastValidator.ValidationContext first = validate(cache, UserRules.class, new User("", -1), false);
+        FastValidator.ValidationContext second = validate(cache, UserRules.class, new User("", -1), false);
+
+        assertThat(runs).hasValue(1);
+        assertThat(second.hasCauses()).extracting(Business::getResponseCode)
+                .containsExactlyElementsOf(first.hasCauses().stream().map(Business::getResponseCode).toList());
+        assertThat(cache.stats().hits()).isEqualTo(1);
+        assertThat(cache.stats().misses()).isEqualTo(1);
+        assertThat(cache.stats().hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("每次回放都创建新的异常实例，描述保持一致")
+    void shouldReplayFreshExceptionInstances() {
+        ValidationOutcomeCache cache = new ValidationOutcomeCache(100, null);
+
+        FastValidator.ValidationContext first = validate(cache, UserRules.class, new User("", 1), false);
+        first.getFirstError().addSuppressed(new IllegalStateException("first request"));
+        FastValidator.ValidationContext second = validate(cache, UserRules.class, new User("", 1), false);
+        FastValidator.ValidationContext third = validate(cache, UserRules.class, new User("", 1), false);
+
+        assertThat(runs).hasValue(1);
+        Business replayed = second.getFirstError();
+        assertThat(replayed).isNotSameAs(first.getFirstError()).isNotSameAs(third.getFirstError());
+        assertThat(replayed.getResponseCode()).isEqualTo(NAME_REQUIRED);
+        assertThat(replayed.getDetail()).isEqualTo(first.getFirstError().getDetail());
+        assertThat(replayed.getSuppressed()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("通过的结果同样被缓存")
+    void shouldCacheValidOutcome() {
+        ValidationOutcomeCache cache = new ValidationOutcomeCache(100, null);
+
+        validate(cache, UserRules.class, new User("张三", 18), true);
+        FastValidator.ValidationContext ctx = validate(cache, UserRules.class, new User("张三", 18), true);
+
+        assertThat(ctx.isValid()).isTrue();
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("快速模式与全量模式分别缓存")
+    void shouldSeparateFastAndStrictOutcomes() {
+        ValidationOutcomeCache cache = new ValidationOutcomeCache(100, null);
+
+        FastValidator.ValidationContext fast = validate(cache, UserRules.class, new User("", -1), true);
+        FastValidator.ValidationContext strict = validate(cache, UserRules.class, new User("", -1), false);
+
+        assertThat(fast.hasCauses()).hasSize(1);
+        assertThat(strict.hasCauses()).hasSize(2);
+        assertThat(runs).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("不同校验方使用不同的缓存键")
+    void shouldKeyByOwner() {
+        ValidationOutcomeCache cache = new ValidationOutcomeCache(100, null);
+
+        validate(cache, UserRules.class, new User("a", 1), true);
+        validate(cache, String.class, new User("a", 1), true);
+
+        assertThat(runs).hasValue(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("超出容量时淘汰最久未访问的条目")
+    void shouldEvictLeastRecentlyUsed() {
+        ValidationOutcomeCache cache = new ValidationOutcomeCache(2, null);
+
+        validate(cache, UserRules.class, new User("a", 1), true);
+        validate(cache, UserRules.class, new User("b", 1), true);
+        validate(cache, UserRules.class, new User("a", 1), true); // 访问 a，b 成为最久未访问
+        validate(cache, UserRules.class, new User("c", 1), true); // 淘汰 b
+        runs.set(0);
+
+        validate(cache, UserRules.class, new User("a", 1), true);
+        validate(cache, UserRules.class, new User("b", 1), true);
+
+        assertThat(runs).hasValue(1);
+        assertThat(cache.stats().evictions()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("超过存活时间的条目失效")
+    void shouldExpireAfterTtl() {
+        AtomicLong now = new AtomicLong();
+        ValidationOutcomeCache cache = new ValidationOutcomeCache(100, Duration.ofSeconds(10), now::get);
+
+        validate(cache, UserRules.class, new User("a", 1), true);
+        now.addAndGet(Duration.ofSeconds(9).toNanos());
+        validate(cache, UserRules.class, new User("a", 1), true);
+        assertThat(runs).hasValue(1);
+
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+        validate(cache, UserRules.class, new User("a", 1), true);
+        assertThat(runs).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("标注 @NonDeterministic 的校验方从不缓存")
+    void shouldNeverCacheNonDeterministicOwner() {
+        ValidationOutcomeCache cache = new ValidationOutcomeCache(100, null);
+
+        validate(cache, ClockRules.class, new User("a", 1), true);
+        validate(cache, ClockRules.class, new User("a", 1), true);
+
+        assertThat(runs).hasValue(2);
+        assertThat(cache.size()).isZero();
+        assertThat(ValidationOutcomeCache.isCacheable(ClockRules.class)).isFalse();
+    }
+
+    @Test
+    @DisplayName("内容键: record 以自身为键，ContentKeyed 使用提供的键，其余不可缓存")
+    void shouldDeriveContentKey() {
+        User user = new User("a", 1);
+        ContentKeyed keyed = () -> "order-1";
+
+        assertThat(ValidationOutcomeCache.contentKey(user)).isSameAs(user);
+        assertThat(ValidationOutcomeCache.contentKey(keyed)).isEqualTo("order-1");
+        assertThat(ValidationOutcomeCache.contentKey(new StringBuilder("a"))).isNull();
+        assertThat(ValidationOutcomeCache.contentKey(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("内容键为 null 时直接执行且不缓存")
+    void shouldBypassWithoutContentKey() {
+        ValidationOutcomeCache cache = new ValidationOutcomeCache(100, null);
+        FastValidator.ValidationContext ctx = new FastValidator.ValidationContext(false);
+
+        cache.validate(UserRules.class, null, ctx, rules(new User("", 1)));
+        cache.validate(UserRules.class, null, ctx, rules(new User("", 1)));
+
+        assertThat(runs).hasValue(2);
+        assertThat(ctx.hasCauses()).hasSize(2);
+        assertThat(cache.stats().misses()).isZero();
+    }
+
+    @Test
+    @DisplayName("校验抛出异常时不缓存")
+    void shouldNotCacheExceptions() {
+        ValidationOutcomeCache cache = new ValidationOutcomeCache(100, null);
+        FastValidator.ValidationContext ctx = new FastValidator.ValidationContext(false);
+
+        assertThatThrownBy(() -> cache.validate(UserRules.class, "k", ctx, c -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("并发访问下结果一致")
+    void shouldBeSafeUnderConcurrentAccess() {
+        ValidationOutcomeCache cache = new ValidationOutcomeCache(8, null);
+
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[64];
+        for (int i = 0; i < tasks.length; i++) {
+            int n = i % 16;
+            tasks[i] = CompletableFuture.runAsync(() -> {
+                FastValidator.ValidationContext ctx = validate(cache, UserRules.class, new User("", n), false);
+                assertThat(ctx.hasCauses()).hasSize(1);
+            });
+        }
+        CompletableFuture.allOf(tasks).join();
+
+        ValidationOutcomeCache.Stats stats = cache.stats();
+        assertThat(stats.hits() + stats.misses()).isEqualTo(64);
+        assertThat(stats.size()).isLessThanOrEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("非法容量应被拒绝")
+    void shouldRejectInvalidMaxSize() {
+        assertThatThrownBy(() -> new ValidationOutcomeCache(0, null)).isInstanceOf(IllegalArgumentException.class);
+    }
+}